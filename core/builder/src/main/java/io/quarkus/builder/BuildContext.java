@@ -290,7 +290,7 @@ void run() {
             }
         } finally {
             long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
-            execution.getMetrics().buildStepFinished(stepInfo, currentThread.getName(), started, duration);
+            execution.getMetrics().buildStepFinished(stepInfo, currentThread.getName(), started, start, duration);
             log.tracef("Finished step \"%s\" in %s ms", buildStep, duration);
             execution.removeBuildContext(stepInfo, this);
         }
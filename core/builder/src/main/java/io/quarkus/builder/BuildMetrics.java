@@ -11,10 +11,16 @@
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.jboss.logging.Logger;
@@ -49,9 +55,67 @@ public void buildFinished(long duration) {
         this.duration = duration;
     }
 
-    public void buildStepFinished(StepInfo stepInfo, String thread, LocalTime started, long duration) {
+    /**
+     * @param startedNanos the value of {@link System#nanoTime()} when the execution started
+     */
+    public void buildStepFinished(StepInfo stepInfo, String thread, LocalTime started, long startedNanos, long duration) {
         records.put(stepInfo.getBuildStep().getId(),
-                new BuildStepRecord(idGenerator.incrementAndGet(), stepInfo, thread, started, duration));
+                new BuildStepRecord(idGenerator.incrementAndGet(), stepInfo, thread, started, startedNanos, duration));
+    }
+
+    /**
+     * The threads that executed a build step are idle when they do not execute any build step between the start and the
+     * end of the build.
+     *
+     * @return the sum of the idle time of the threads that executed a build step, in ms
+     */
+    public long getIdleThreadTime() {
+        Set<String> threads = new HashSet<>();
+        long busy = 0;
+        for (BuildStepRecord rec : records.values()) {
+            threads.add(rec.thread);
+            busy += rec.duration;
+        }
+        return Math.max(0, threads.size() * duration - busy);
+    }
+
+    /**
+     * The critical path is the chain of build steps that determined the duration of the build. It starts with the build
+     * step that finished last, the previous step is always the dependency that finished last, and so on.
+     * <p>
+     * Making a step that is not on the critical path faster does not make the build faster.
+     *
+     * @return the build steps on the critical path, in the order of execution
+     */
+    public List<BuildStepRecord> getCriticalPath() {
+        Map<String, List<BuildStepRecord>> dependencies = new HashMap<>();
+        BuildStepRecord last = null;
+        for (BuildStepRecord rec : records.values()) {
+            for (StepInfo dependent : rec.stepInfo.getDependents()) {
+                dependencies.computeIfAbsent(dependent.getBuildStep().getId(), k -> new ArrayList<>()).add(rec);
+            }
+            if (last == null || rec.finished() > last.finished()) {
+                last = rec;
+            }
+        }
+        if (last == null) {
+            return Collections.emptyList();
+        }
+        List<BuildStepRecord> path = new ArrayList<>();
+        BuildStepRecord current = last;
+        while (current != null) {
+            path.add(current);
+            BuildStepRecord previous = null;
+            for (BuildStepRecord dependency : dependencies.getOrDefault(current.stepInfo.getBuildStep().getId(),
+                    Collections.emptyList())) {
+                if (previous == null || dependency.finished() > previous.finished()) {
+                    previous = dependency;
+                }
+            }
+            current = previous;
+        }
+        Collections.reverse(path);
+        return path;
     }
 
     public void dumpTo(Path file) throws IOException {
@@ -91,6 +155,16 @@ public int compare(BuildStepRecord o1, BuildStepRecord o2) {
             recObject.put("dependents", dependentsArray);
             steps.add(recObject);
         }
+
+        JsonArrayBuilder criticalPath = Json.array();
+        long criticalPathDuration = 0;
+        for (BuildStepRecord rec : getCriticalPath()) {
+            criticalPath.add(rec.id);
+            criticalPathDuration += rec.duration;
+        }
+        json.put("criticalPath", criticalPath);
+        json.put("criticalPathDuration", criticalPathDuration);
+        json.put("idleThreadTime", getIdleThreadTime());
         try (BufferedWriter writer = new BufferedWriter(new FileWriter(file.toFile(), StandardCharsets.UTF_8))) {
             json.appendTo(writer);
         }
@@ -120,14 +194,28 @@ public static class BuildStepRecord {
          */
         public final long duration;
 
-        BuildStepRecord(int id, StepInfo stepInfo, String thread, LocalTime started, long duration) {
+        /**
+         * The value of {@link System#nanoTime()} when the execution started; unlike {@link #started} it can be compared
+         * across midnight.
+         */
+        final long startedNanos;
+
+        BuildStepRecord(int id, StepInfo stepInfo, String thread, LocalTime started, long startedNanos, long duration) {
             this.id = id;
             this.stepInfo = stepInfo;
             this.thread = thread;
             this.started = started;
+            this.startedNanos = startedNanos;
             this.duration = duration;
         }
 
+        /**
+         * @return the value of {@link System#nanoTime()} when the execution finished
+         */
+        long finished() {
+            return startedNanos + TimeUnit.MILLISECONDS.toNanos(duration);
+        }
+
     }
 
 }
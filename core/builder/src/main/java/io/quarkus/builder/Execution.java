@@ -134,6 +134,15 @@ BuildResult run() throws BuildException {
 
         long duration = max(0, System.nanoTime() - start);
         metrics.buildFinished(TimeUnit.NANOSECONDS.toMillis(duration));
+        if (log.isDebugEnabled()) {
+            StringBuilder criticalPath = new StringBuilder();
+            for (BuildMetrics.BuildStepRecord rec : metrics.getCriticalPath()) {
+                criticalPath.append("\n\t").append(rec.stepInfo.getBuildStep().getId()).append(": ").append(rec.duration)
+                        .append(" ms");
+            }
+            log.debugf("Critical path of the build of %s:%s", buildTargetName, criticalPath);
+            log.debugf("Idle time of the build threads of %s: %s ms", buildTargetName, metrics.getIdleThreadTime());
+        }
         return new BuildResult(singles, multis, finalIds, Collections.unmodifiableList(diagnostics),
                 duration, metrics);
     }
@@ -1,11 +1,13 @@
 package io.quarkus.builder;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.jupiter.api.Assertions;
@@ -24,6 +26,9 @@ public static final class DummyItem extends SimpleBuildItem {
     public static final class DummyItem2 extends SimpleBuildItem {
     }
 
+    public static final class DummyItem3 extends SimpleBuildItem {
+    }
+
     @Test
     public void testSimple() throws ChainBuildException, BuildException {
         final BuildChainBuilder builder = BuildChain.builder();
@@ -315,4 +320,50 @@ public void execute(final BuildContext context) {
         stepBuilder.build();
         builder.build();
     }
+
+    @Test
+    public void testCriticalPath() throws ChainBuildException, BuildException {
+        final BuildChainBuilder builder = BuildChain.builder();
+        BuildStep slow = new BuildStep() {
+            @Override
+            public void execute(final BuildContext context) {
+                sleep(100);
+                context.produce(new DummyItem());
+            }
+        };
+        builder.addBuildStep(slow).produces(DummyItem.class).build();
+        BuildStep dependent = new BuildStep() {
+            @Override
+            public void execute(final BuildContext context) {
+                context.consume(DummyItem.class);
+                sleep(20);
+                context.produce(new DummyItem2());
+            }
+        };
+        builder.addBuildStep(dependent).consumes(DummyItem.class).produces(DummyItem2.class).build();
+        builder.addBuildStep(new BuildStep() {
+            @Override
+            public void execute(final BuildContext context) {
+                context.produce(new DummyItem3());
+            }
+        }).produces(DummyItem3.class).build();
+        builder.addFinal(DummyItem2.class);
+        builder.addFinal(DummyItem3.class);
+        BuildChain chain = builder.build();
+        final BuildResult result = chain.createExecutionBuilder("my-app.jar").execute();
+        List<BuildMetrics.BuildStepRecord> criticalPath = result.getMetrics().getCriticalPath();
+        assertEquals(2, criticalPath.size());
+        assertEquals(slow, criticalPath.get(0).stepInfo.getBuildStep());
+        assertEquals(dependent, criticalPath.get(1).stepInfo.getBuildStep());
+        // the step without dependencies runs on its own thread while the slow step is executed
+        assertTrue(result.getMetrics().getIdleThreadTime() > 0);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
 }
@@ -12,6 +12,11 @@ public interface Capability {
      */
     String AGROAL = QUARKUS_PREFIX + "agroal";
 
+    /**
+     * Application data caching
+     */
+    String CACHE = QUARKUS_PREFIX + "cache";
+
     /**
      * JSR 365 compatible contexts and dependency injection
      */
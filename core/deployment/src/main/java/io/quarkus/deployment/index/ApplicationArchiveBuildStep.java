@@ -5,6 +5,7 @@
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -12,6 +13,7 @@
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 
@@ -59,6 +61,8 @@ public class ApplicationArchiveBuildStep {
 
     IndexDependencyConfiguration config;
 
+    IndexCacheConfiguration indexCacheConfig;
+
     @ConfigRoot(phase = ConfigPhase.BUILD_TIME)
     static final class IndexDependencyConfiguration {
         /**
@@ -72,6 +76,33 @@ static final class IndexDependencyConfiguration {
         Map<String, IndexDependencyConfig> indexDependency;
     }
 
+    @ConfigRoot(name = "index-cache", phase = ConfigPhase.BUILD_TIME)
+    static final class IndexCacheConfiguration {
+        /**
+         * If enabled, the Jandex indexes computed for the application dependencies are stored on the disk and reused
+         * by the next builds, as long as the dependency jar does not change.
+         */
+        @ConfigItem(defaultValue = "false")
+        boolean enabled;
+
+        /**
+         * The directory where the indexes are stored. By default, it's {@code ~/.quarkus/index-cache}.
+         * <p>
+         * The directory only contains the cached indexes, it can be deleted at any time, e.g. to reclaim the disk
+         * space. The indexes are computed again by the next build.
+         */
+        @ConfigItem
+        Optional<Path> directory;
+
+        /**
+         * The indexes that were not used by a build for longer than this duration are deleted from the directory,
+         * e.g. the indexes of the dependency versions the application does not use anymore. The eviction runs once,
+         * when the application is built or started in dev mode.
+         */
+        @ConfigItem(defaultValue = "P30D")
+        Duration maxAge;
+    }
+
     @BuildStep
     void addConfiguredIndexedDependencies(BuildProducer<IndexDependencyBuildItem> indexDependencyBuildItemBuildProducer) {
         for (IndexDependencyConfig indexDependencyConfig : config.indexDependency.values()) {
@@ -92,10 +123,20 @@ ApplicationArchivesBuildItem build(
             ClassLoadingConfig classLoadingConfig) throws IOException {
 
         IndexCache indexCache = liveReloadContext.getContextObject(IndexCache.class);
-        if (indexCache == null) {
+        boolean firstBuild = indexCache == null;
+        if (firstBuild) {
             indexCache = new IndexCache();
             liveReloadContext.setContextObject(IndexCache.class, indexCache);
         }
+        if (indexCacheConfig.enabled) {
+            indexCache.persistent = new PersistentIndexCache(indexCacheConfig.directory
+                    .orElse(Path.of(System.getProperty("user.home"), ".quarkus", "index-cache")));
+            if (firstBuild) {
+                indexCache.persistent.evictUnused(indexCacheConfig.maxAge);
+            }
+        } else {
+            indexCache.persistent = null;
+        }
 
         Map<ArtifactKey, Set<String>> removedResources = new HashMap<>();
         for (Map.Entry<String, Set<String>> entry : classLoadingConfig.removedResources.entrySet()) {
@@ -250,11 +291,16 @@ private static void addMarkerFilePaths(Set<String> applicationArchiveMarkers,
                         }
                         Index index = indexCache.cache.get(rootPath);
                         if (index == null) {
-                            try {
-                                index = IndexingUtil.indexTree(tree,
-                                        dependencyKey == null ? Collections.emptySet() : removed.get(dependencyKey));
-                            } catch (IOException ioe) {
-                                throw new UncheckedIOException(ioe);
+                            final Set<String> removedFromTree = dependencyKey == null ? Collections.emptySet()
+                                    : removed.get(dependencyKey);
+                            index = indexCache.getPersistent(rootPath, removedFromTree);
+                            if (index == null) {
+                                try {
+                                    index = IndexingUtil.indexTree(tree, removedFromTree);
+                                } catch (IOException ioe) {
+                                    throw new UncheckedIOException(ioe);
+                                }
+                                indexCache.putPersistent(rootPath, removedFromTree, index);
                             }
                             indexCache.cache.put(rootPath, index);
                         }
@@ -312,8 +358,14 @@ private static Index handleJarPath(Path path, IndexCache indexCache, Set<String>
         return indexCache.cache.computeIfAbsent(path, new Function<Path, Index>() {
             @Override
             public Index apply(Path path) {
+                Index index = indexCache.getPersistent(path, removed);
+                if (index != null) {
+                    return index;
+                }
                 try {
-                    return IndexingUtil.indexJar(path, removed);
+                    index = IndexingUtil.indexJar(path, removed);
+                    indexCache.putPersistent(path, removed, index);
+                    return index;
                 } catch (IOException e) {
                     throw new RuntimeException("Failed to process " + path, e);
                 }
@@ -327,5 +379,19 @@ public Index apply(Path path) {
      */
     private static final class IndexCache {
         final Map<Path, Index> cache = new HashMap<>();
+        /**
+         * Keeps the indexes between builds, {@code null} if disabled.
+         */
+        PersistentIndexCache persistent;
+
+        Index getPersistent(Path jar, Set<String> removed) {
+            return persistent == null ? null : persistent.get(jar, removed);
+        }
+
+        void putPersistent(Path jar, Set<String> removed, Index index) {
+            if (persistent != null) {
+                persistent.put(jar, removed, index);
+            }
+        }
     }
 }
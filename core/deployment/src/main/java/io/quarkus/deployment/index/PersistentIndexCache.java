@@ -0,0 +1,182 @@
+package io.quarkus.deployment.index;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.logging.Logger;
+
+import io.quarkus.builder.Version;
+
+/**
+ * Stores the Jandex indexes of the application dependencies on the disk, so that they are not computed again by the
+ * next builds.
+ * <p>
+ * An index is keyed by the path, the size and the last modified time of the jar file, by the resources removed from it,
+ * and by the versions of Quarkus and Jandex, so that the indexes are computed again after an upgrade. The jars in the
+ * local Maven repository never change once they are downloaded, so the index is computed only once per dependency
+ * version. The failures to read or write the cache are not fatal, the index is computed instead.
+ * <p>
+ * The last modified time of a stored index is updated each time it is read, so that the indexes that are not used
+ * anymore, e.g. the ones of an older dependency version or of an older Quarkus version, can be evicted by
+ * {@link #evictUnused(Duration)}.
+ */
+final class PersistentIndexCache {
+
+    private static final Logger log = Logger.getLogger(PersistentIndexCache.class);
+
+    private static final String SUFFIX = ".idx";
+    private static final String TMP_SUFFIX = ".tmp";
+
+    // Must be incremented if the content of the stored indexes changes, e.g. if more information is indexed
+    private static final int FORMAT = 1;
+
+    private final Path directory;
+    private final String version;
+
+    PersistentIndexCache(Path directory) {
+        this(directory, FORMAT + ":" + Version.getVersion() + ":" + jandexVersion());
+    }
+
+    PersistentIndexCache(Path directory, String version) {
+        this.directory = directory;
+        this.version = version;
+    }
+
+    Index get(Path jar, Set<String> removed) {
+        Path file = cacheFile(jar, removed);
+        if (file == null || !Files.isRegularFile(file)) {
+            return null;
+        }
+        Index index;
+        try (InputStream in = Files.newInputStream(file)) {
+            index = new IndexReader(in).read();
+        } catch (Exception e) {
+            log.debugf(e, "Failed to read the cached index of %s from %s", jar, file);
+            return null;
+        }
+        try {
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            log.debugf(e, "Failed to update the last modified time of %s", file);
+        }
+        return index;
+    }
+
+    void put(Path jar, Set<String> removed, Index index) {
+        Path file = cacheFile(jar, removed);
+        if (file == null) {
+            return;
+        }
+        Path tmp = null;
+        try {
+            Files.createDirectories(directory);
+            tmp = Files.createTempFile(directory, file.getFileName().toString(), TMP_SUFFIX);
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                new IndexWriter(out).write(index);
+            }
+            // concurrent builds may store the same index, the content is the same
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            tmp = null;
+        } catch (Exception e) {
+            log.debugf(e, "Failed to cache the index of %s in %s", jar, file);
+        } finally {
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+
+    /**
+     * Deletes the stored indexes, and the temporary files left by the interrupted builds, that were not used for longer
+     * than the given duration.
+     */
+    void evictUnused(Duration maxAge) {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        long oldest = System.currentTimeMillis() - maxAge.toMillis();
+        int evicted = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                if (!name.endsWith(SUFFIX) && !name.endsWith(TMP_SUFFIX)) {
+                    continue;
+                }
+                try {
+                    if (Files.getLastModifiedTime(file).toMillis() < oldest) {
+                        Files.deleteIfExists(file);
+                        evicted++;
+                    }
+                } catch (IOException e) {
+                    log.debugf(e, "Failed to evict the cached index %s", file);
+                }
+            }
+        } catch (IOException e) {
+            log.debugf(e, "Failed to evict the cached indexes from %s", directory);
+        }
+        if (evicted > 0) {
+            log.debugf("Evicted %d indexes not used for %s from %s", evicted, maxAge, directory);
+        }
+    }
+
+    private Path cacheFile(Path jar, Set<String> removed) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(version.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(jar.toAbsolutePath().normalize().toString().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(Long.toString(Files.size(jar)).getBytes(StandardCharsets.US_ASCII));
+            digest.update((byte) 0);
+            digest.update(Long.toString(Files.getLastModifiedTime(jar).toMillis()).getBytes(StandardCharsets.US_ASCII));
+            if (removed != null) {
+                List<String> sorted = new ArrayList<>(removed);
+                Collections.sort(sorted);
+                for (String resource : sorted) {
+                    digest.update((byte) 0);
+                    digest.update(resource.getBytes(StandardCharsets.UTF_8));
+                }
+            }
+            StringBuilder name = new StringBuilder();
+            for (byte b : digest.digest()) {
+                name.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return directory.resolve(name.append(SUFFIX).toString());
+        } catch (IOException | NoSuchAlgorithmException e) {
+            log.debugf(e, "Unable to compute the index cache key of %s", jar);
+            return null;
+        }
+    }
+
+    private static String jandexVersion() {
+        String version = Index.class.getPackage().getImplementationVersion();
+        if (version == null) {
+            // The location of the jar usually contains the version, e.g. in the local Maven repository
+            CodeSource codeSource = Index.class.getProtectionDomain().getCodeSource();
+            version = codeSource != null && codeSource.getLocation() != null ? codeSource.getLocation().toString()
+                    : "unknown";
+        }
+        return version;
+    }
+}
@@ -0,0 +1,92 @@
+package io.quarkus.deployment.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class PersistentIndexCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testHit() throws IOException {
+        Path jar = jar("foo");
+        PersistentIndexCache cache = new PersistentIndexCache(tempDir.resolve("cache"), "1");
+        assertNull(cache.get(jar, null));
+        cache.put(jar, null, Index.of(PersistentIndexCacheTest.class));
+        Index index = cache.get(jar, null);
+        assertNotNull(index);
+        assertNotNull(index.getClassByName(DotName.createSimple(PersistentIndexCacheTest.class.getName())));
+        // A new instance reads the index stored by the previous one
+        assertNotNull(new PersistentIndexCache(tempDir.resolve("cache"), "1").get(jar, null));
+    }
+
+    @Test
+    public void testMissAfterJarChanged() throws IOException {
+        Path jar = jar("foo");
+        PersistentIndexCache cache = new PersistentIndexCache(tempDir.resolve("cache"), "1");
+        cache.put(jar, null, Index.of(PersistentIndexCacheTest.class));
+        assertNotNull(cache.get(jar, null));
+        assertNull(cache.get(jar, Set.of("META-INF/foo.txt")));
+        Files.writeString(jar, "foo and bar");
+        assertNull(cache.get(jar, null));
+    }
+
+    @Test
+    public void testMissAfterVersionChanged() throws IOException {
+        Path jar = jar("foo");
+        new PersistentIndexCache(tempDir.resolve("cache"), "1").put(jar, null, Index.of(PersistentIndexCacheTest.class));
+        assertNotNull(new PersistentIndexCache(tempDir.resolve("cache"), "1").get(jar, null));
+        assertNull(new PersistentIndexCache(tempDir.resolve("cache"), "2").get(jar, null));
+    }
+
+    @Test
+    public void testEvictUnused() throws IOException {
+        Path jar = jar("foo");
+        Path directory = tempDir.resolve("cache");
+        new PersistentIndexCache(directory, "1").put(jar, null, Index.of(PersistentIndexCacheTest.class));
+        new PersistentIndexCache(directory, "2").put(jar, null, Index.of(PersistentIndexCacheTest.class));
+        Path unrelated = Files.writeString(directory.resolve("unrelated.txt"), "foo");
+        for (Path file : list(directory)) {
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() - Duration.ofDays(2).toMillis()));
+        }
+        // Reading an index marks it as used
+        assertNotNull(new PersistentIndexCache(directory, "2").get(jar, null));
+
+        new PersistentIndexCache(directory, "2").evictUnused(Duration.ofDays(1));
+        assertEquals(2, list(directory).size());
+        assertNull(new PersistentIndexCache(directory, "1").get(jar, null));
+        assertNotNull(new PersistentIndexCache(directory, "2").get(jar, null));
+        assertTrue(Files.exists(unrelated));
+    }
+
+    private static List<Path> list(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.collect(Collectors.toList());
+        }
+    }
+
+    private Path jar(String content) throws IOException {
+        Path jar = tempDir.resolve("foo.jar");
+        Files.writeString(jar, content);
+        return jar;
+    }
+
+}
@@ -141,7 +141,7 @@ public void run() {
         };
     }
 
-    private static EnhancedQueueExecutor createExecutor(ThreadPoolConfig threadPoolConfig, ThreadFactory threadFactory,
+    static EnhancedQueueExecutor createExecutor(ThreadPoolConfig threadPoolConfig, ThreadFactory threadFactory,
             ContextHandler<Object> contextHandler) {
         if (threadFactory == null) {
             threadFactory = new JBossThreadFactory(new ThreadGroup("executor"), Boolean.TRUE, null,
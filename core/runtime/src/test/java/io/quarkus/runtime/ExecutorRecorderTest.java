@@ -0,0 +1,72 @@
+package io.quarkus.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.OptionalInt;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.threads.EnhancedQueueExecutor;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Simulates a burst of blocking requests on the worker pool. Unlike a {@link java.util.concurrent.ThreadPoolExecutor},
+ * the {@link EnhancedQueueExecutor} starts new threads up to the maximum pool size before it queues tasks, and releases
+ * the threads above the core size once they are idle for the keep-alive time.
+ */
+public class ExecutorRecorderTest {
+
+    private static final int CORE_THREADS = 1;
+    private static final int MAX_THREADS = 8;
+
+    @Test
+    public void testBurst() throws InterruptedException {
+        ThreadPoolConfig config = new ThreadPoolConfig();
+        config.coreThreads = CORE_THREADS;
+        config.maxThreads = OptionalInt.of(MAX_THREADS);
+        config.queueSize = OptionalInt.empty();
+        config.keepAliveTime = Duration.ofMillis(100);
+        EnhancedQueueExecutor executor = ExecutorRecorder.createExecutor(config, null, null);
+        try {
+            CountDownLatch started = new CountDownLatch(MAX_THREADS);
+            CountDownLatch release = new CountDownLatch(1);
+            Runnable task = new Runnable() {
+                @Override
+                public void run() {
+                    started.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            };
+            for (int i = 0; i < MAX_THREADS; i++) {
+                executor.execute(task);
+            }
+            // every task of the burst runs concurrently, none of them waits in the queue
+            assertTrue(started.await(10, TimeUnit.SECONDS), "The pool did not grow to the maximum size");
+            assertEquals(MAX_THREADS, executor.getPoolSize());
+            assertEquals(0, executor.getQueueSize());
+
+            // the tasks are queued only once the maximum size is reached
+            executor.execute(task);
+            executor.execute(task);
+            assertEquals(MAX_THREADS, executor.getPoolSize());
+            assertEquals(2, executor.getQueueSize());
+
+            release.countDown();
+            // the threads above the core size are released after the keep-alive time
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (executor.getPoolSize() > CORE_THREADS && System.nanoTime() < deadline) {
+                Thread.sleep(50);
+            }
+            assertEquals(CORE_THREADS, executor.getPoolSize());
+            assertEquals(MAX_THREADS, executor.getLargestPoolSize());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -77,6 +77,14 @@ public class ArcConfig {
     @ConfigItem(defaultValue = "false")
     public boolean failOnInterceptedPrivateMethod;
 
+    /**
+     * If set to true, the client proxy of an {@code @ApplicationScoped} bean keeps a reference to the contextual instance
+     * once it's obtained, instead of looking it up in the application context for every method invocation. The reference
+     * is discarded whenever an instance of the application context is destroyed.
+     */
+    @ConfigItem(defaultValue = "true")
+    public boolean cacheClientProxyDelegates;
+
     /**
      * The list of selected alternatives for an application.
      * <p>
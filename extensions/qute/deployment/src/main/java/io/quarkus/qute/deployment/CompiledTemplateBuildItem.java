@@ -0,0 +1,32 @@
+package io.quarkus.qute.deployment;
+
+import io.quarkus.builder.item.MultiBuildItem;
+
+/**
+ * Represents a type-safe template compiled to a generated class.
+ *
+ * @see io.quarkus.qute.runtime.CompiledTemplate
+ */
+public final class CompiledTemplateBuildItem extends MultiBuildItem {
+
+    private final String templateId;
+    private final String className;
+
+    public CompiledTemplateBuildItem(String templateId, String className) {
+        this.templateId = templateId;
+        this.className = className;
+    }
+
+    /**
+     *
+     * @return the path of the type-safe template, as used by the generated type-safe methods
+     */
+    public String getTemplateId() {
+        return templateId;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+}
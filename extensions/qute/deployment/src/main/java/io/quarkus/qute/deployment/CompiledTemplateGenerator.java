@@ -0,0 +1,301 @@
+package io.quarkus.qute.deployment;
+
+import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.PrimitiveType;
+import org.jboss.jandex.Type;
+import org.jboss.logging.Logger;
+
+import io.quarkus.arc.processor.DotNames;
+import io.quarkus.gizmo.BytecodeCreator;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.FieldDescriptor;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.qute.Expression;
+import io.quarkus.qute.Expression.Part;
+import io.quarkus.qute.TemplateNode;
+import io.quarkus.qute.deployment.TemplatesAnalysisBuildItem.TemplateAnalysis;
+import io.quarkus.qute.generator.ValueResolverGenerator;
+import io.quarkus.qute.runtime.CompiledTemplate;
+
+/**
+ * Generates a {@link CompiledTemplate} for a type-safe template that only consists of text and expressions such as
+ * {@code item.name}, i.e. a template parameter followed by properties that can be resolved during the build.
+ * <p>
+ * A property must be a public non-static field or a public getter declared on a public application class. The
+ * properties that are matched by more than one member, or by a template extension method that takes precedence over
+ * the generated value resolvers, are left to the interpreter.
+ */
+class CompiledTemplateGenerator {
+
+    private static final Logger LOGGER = Logger.getLogger(CompiledTemplateGenerator.class);
+
+    static final String SUFFIX = "_CompiledTemplate";
+
+    private final IndexView index;
+    private final List<TemplateExtensionMethodBuildItem> extensionMethods;
+    private final ClassOutput classOutput;
+
+    CompiledTemplateGenerator(IndexView index, List<TemplateExtensionMethodBuildItem> extensionMethods,
+            ClassOutput classOutput) {
+        this.index = index;
+        this.extensionMethods = extensionMethods;
+        this.classOutput = classOutput;
+    }
+
+    /**
+     *
+     * @param checkedTemplate
+     * @param templateAnalysis
+     * @return the name of the generated class or {@code null} if the template cannot be compiled
+     */
+    String generate(CheckedTemplateBuildItem checkedTemplate, TemplateAnalysis templateAnalysis) {
+        for (TemplateNode node : templateAnalysis.nodes) {
+            if (!node.isText() && !node.isExpression()) {
+                LOGGER.debugf("Template %s not compiled - unsupported node: %s", templateAnalysis.path, node);
+                return null;
+            }
+        }
+        if (templateAnalysis.nodes.isEmpty()) {
+            return null;
+        }
+        MethodInfo method = checkedTemplate.method;
+        List<List<AnnotationTarget>> members = new ArrayList<>(templateAnalysis.expressions.size());
+        List<Type> paramTypes = new ArrayList<>(templateAnalysis.expressions.size());
+        for (Expression expression : templateAnalysis.expressions) {
+            Type paramType = findParameterType(method, expression);
+            List<AnnotationTarget> expressionMembers = paramType != null ? findMembers(expression, paramType) : null;
+            if (expressionMembers == null) {
+                LOGGER.debugf("Template %s not compiled - unsupported expression: %s", templateAnalysis.path,
+                        expression.toOriginalString());
+                return null;
+            }
+            paramTypes.add(paramType);
+            members.add(expressionMembers);
+        }
+
+        String generatedName = method.declaringClass().name().toString().replace('$', '_') + "_" + method.name()
+                + SUFFIX;
+        try (ClassCreator compiledTemplate = ClassCreator.builder().classOutput(classOutput).className(generatedName)
+                .interfaces(CompiledTemplate.class).build()) {
+            MethodCreator evaluate = compiledTemplate.getMethodCreator("evaluate", Object.class, int.class, Map.class)
+                    .setModifiers(ACC_PUBLIC);
+            ResultHandle index = evaluate.getMethodParam(0);
+            ResultHandle data = evaluate.getMethodParam(1);
+            ResultHandle fallback = evaluate.readStaticField(Descriptors.COMPILED_TEMPLATE_FALLBACK);
+            for (int i = 0; i < templateAnalysis.expressions.size(); i++) {
+                Expression expression = templateAnalysis.expressions.get(i);
+                BytecodeCreator matched = evaluate.ifIntegerEqual(index, evaluate.load(i)).trueBranch();
+                ResultHandle value = matched.invokeInterfaceMethod(Descriptors.MAP_GET, data,
+                        matched.load(expression.getParts().get(0).getName()));
+                Type type = paramTypes.get(i);
+                for (AnnotationTarget member : members.get(i)) {
+                    // A null intermediate result is handled by the interpreter
+                    matched.ifNull(value).trueBranch().returnValue(fallback);
+                    value = matched.checkCast(value, type.name().toString());
+                    if (member.kind() == AnnotationTarget.Kind.FIELD) {
+                        FieldInfo field = member.asField();
+                        value = matched.readInstanceField(FieldDescriptor.of(field), value);
+                        type = field.type();
+                    } else {
+                        MethodInfo getter = member.asMethod();
+                        if (Modifier.isInterface(getter.declaringClass().flags())) {
+                            value = matched.invokeInterfaceMethod(MethodDescriptor.of(getter), value);
+                        } else {
+                            value = matched.invokeVirtualMethod(MethodDescriptor.of(getter), value);
+                        }
+                        type = getter.returnType();
+                    }
+                }
+                if (!members.get(i).isEmpty() && type.kind() == Type.Kind.PRIMITIVE) {
+                    value = box(matched, value, type);
+                }
+                matched.returnValue(value);
+            }
+            evaluate.returnValue(fallback);
+        }
+        return generatedName;
+    }
+
+    private Type findParameterType(MethodInfo method, Expression expression) {
+        if (expression.isLiteral() || expression.hasNamespace()) {
+            return null;
+        }
+        String name = expression.getParts().get(0).getName();
+        for (int i = 0; i < method.parametersCount(); i++) {
+            if (name.equals(method.parameterName(i))) {
+                return method.parameterType(i);
+            }
+        }
+        // E.g. a template global
+        return null;
+    }
+
+    /**
+     *
+     * @return the members that resolve the properties of the expression or {@code null} if a property is not supported
+     */
+    private List<AnnotationTarget> findMembers(Expression expression, Type paramType) {
+        List<Part> parts = expression.getParts();
+        List<AnnotationTarget> members = new ArrayList<>(parts.size() - 1);
+        Type type = paramType;
+        for (Part part : parts.subList(1, parts.size())) {
+            if (part.isVirtualMethod() || !isAccessible(type) || matchesExtensionMethod(part.getName())) {
+                return null;
+            }
+            AnnotationTarget member = findMember(index.getClassByName(type.name()), part.getName());
+            if (member == null) {
+                return null;
+            }
+            members.add(member);
+            type = member.kind() == AnnotationTarget.Kind.FIELD ? member.asField().type() : member.asMethod().returnType();
+        }
+        if (type.kind() == Type.Kind.TYPE_VARIABLE) {
+            return null;
+        }
+        return members;
+    }
+
+    private boolean isAccessible(Type type) {
+        if (type.kind() != Type.Kind.CLASS && type.kind() != Type.Kind.PARAMETERIZED_TYPE) {
+            return false;
+        }
+        if (type.name().toString().startsWith("java.")) {
+            // The JDK types are handled by the built-in value resolvers, e.g. collections and optionals
+            return false;
+        }
+        ClassInfo clazz = index.getClassByName(type.name());
+        return clazz != null && Modifier.isPublic(clazz.flags());
+    }
+
+    private boolean matchesExtensionMethod(String name) {
+        for (TemplateExtensionMethodBuildItem extensionMethod : extensionMethods) {
+            if (!extensionMethod.hasNamespace() && extensionMethod.getPriority() >= ValueResolverGenerator.DEFAULT_PRIORITY
+                    && extensionMethod.matchesName(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private AnnotationTarget findMember(ClassInfo clazz, String name) {
+        // The first member found is the most specific one, e.g. an overriding method
+        AnnotationTarget found = null;
+        Set<String> foundNames = new HashSet<>();
+        Set<DotName> interfaceNames = new HashSet<>();
+        List<ClassInfo> classes = new ArrayList<>();
+        while (clazz != null) {
+            classes.add(clazz);
+            collectInterfaces(clazz, interfaceNames);
+            clazz = clazz.superName() != null ? index.getClassByName(clazz.superName()) : null;
+        }
+        for (DotName interfaceName : interfaceNames) {
+            ClassInfo interfaceClass = index.getClassByName(interfaceName);
+            if (interfaceClass != null) {
+                classes.add(interfaceClass);
+            }
+        }
+        for (ClassInfo c : classes) {
+            for (FieldInfo field : c.fields()) {
+                if (field.name().equals(name) && isPublicInstanceMember(field.flags())) {
+                    foundNames.add(field.name());
+                    if (found == null) {
+                        found = field;
+                    }
+                }
+            }
+            for (MethodInfo method : c.methods()) {
+                if (method.parametersCount() == 0
+                        && method.returnType().kind() != Type.Kind.VOID
+                        && isPublicInstanceMember(method.flags())
+                        && (method.name().equals(name) || isGetterName(method) && ValueResolverGenerator.getPropertyName(
+                                method.name()).equals(name))) {
+                    foundNames.add(method.name() + "()");
+                    if (found == null) {
+                        found = method;
+                    }
+                }
+            }
+        }
+        if (found == null || foundNames.size() > 1) {
+            // The generated value resolver may select a different member than the one found first
+            return null;
+        }
+        ClassInfo declaringClass = found.kind() == AnnotationTarget.Kind.FIELD ? found.asField().declaringClass()
+                : found.asMethod().declaringClass();
+        return Modifier.isPublic(declaringClass.flags()) ? found : null;
+    }
+
+    private void collectInterfaces(ClassInfo clazz, Set<DotName> interfaceNames) {
+        for (DotName interfaceName : clazz.interfaceNames()) {
+            if (interfaceNames.add(interfaceName)) {
+                ClassInfo interfaceClass = index.getClassByName(interfaceName);
+                if (interfaceClass != null) {
+                    collectInterfaces(interfaceClass, interfaceNames);
+                }
+            }
+        }
+    }
+
+    private static boolean isGetterName(MethodInfo method) {
+        // The same rules as ValueResolverGenerator#isGetterName()
+        if (method.name().startsWith("get")) {
+            return true;
+        }
+        return (method.returnType().name().equals(PrimitiveType.BOOLEAN.name())
+                || method.returnType().name().equals(DotNames.BOOLEAN))
+                && (method.name().startsWith("is") || method.name().startsWith("has"));
+    }
+
+    private static boolean isPublicInstanceMember(int flags) {
+        return Modifier.isPublic(flags) && !Modifier.isStatic(flags) && !ValueResolverGenerator.isSynthetic(flags);
+    }
+
+    private static ResultHandle box(BytecodeCreator bytecode, ResultHandle value, Type type) {
+        switch (type.asPrimitiveType().primitive()) {
+            case BOOLEAN:
+                return bytecode.invokeStaticMethod(MethodDescriptor.ofMethod(Boolean.class, "valueOf", Boolean.class,
+                        boolean.class), value);
+            case BYTE:
+                return bytecode.invokeStaticMethod(MethodDescriptor.ofMethod(Byte.class, "valueOf", Byte.class,
+                        byte.class), value);
+            case CHAR:
+                return bytecode.invokeStaticMethod(MethodDescriptor.ofMethod(Character.class, "valueOf", Character.class,
+                        char.class), value);
+            case DOUBLE:
+                return bytecode.invokeStaticMethod(MethodDescriptor.ofMethod(Double.class, "valueOf", Double.class,
+                        double.class), value);
+            case FLOAT:
+                return bytecode.invokeStaticMethod(MethodDescriptor.ofMethod(Float.class, "valueOf", Float.class,
+                        float.class), value);
+            case INT:
+                return bytecode.invokeStaticMethod(MethodDescriptor.ofMethod(Integer.class, "valueOf", Integer.class,
+                        int.class), value);
+            case LONG:
+                return bytecode.invokeStaticMethod(MethodDescriptor.ofMethod(Long.class, "valueOf", Long.class,
+                        long.class), value);
+            case SHORT:
+                return bytecode.invokeStaticMethod(MethodDescriptor.ofMethod(Short.class, "valueOf", Short.class,
+                        short.class), value);
+            default:
+                throw new IllegalArgumentException("Unsupported primitive type: " + type);
+        }
+    }
+
+}
@@ -1,9 +1,13 @@
 package io.quarkus.qute.deployment;
 
+import java.util.Map;
+
+import io.quarkus.gizmo.FieldDescriptor;
 import io.quarkus.gizmo.MethodDescriptor;
 import io.quarkus.qute.Template;
 import io.quarkus.qute.TemplateInstance;
 import io.quarkus.qute.i18n.MessageBundles;
+import io.quarkus.qute.runtime.CompiledTemplate;
 
 final class Descriptors {
 
@@ -15,5 +19,8 @@ final class Descriptors {
             String.class);
     static final MethodDescriptor BUNDLES_GET_TEMPLATE = MethodDescriptor.ofMethod(MessageBundles.class, "getTemplate",
             Template.class, String.class);
+    static final MethodDescriptor MAP_GET = MethodDescriptor.ofMethod(Map.class, "get", Object.class, Object.class);
+    static final FieldDescriptor COMPILED_TEMPLATE_FALLBACK = FieldDescriptor.of(CompiledTemplate.class, "FALLBACK",
+            Object.class);
 
 }
@@ -628,8 +628,9 @@ private Map<String, String> generateImplementations(List<MessageBundleBuildItem>
                     bundle.getDefaultLocale(), bundleInterface.methods(), null);
             MergeClassInfoWrapper bundleInterfaceWrapper = new MergeClassInfoWrapper(bundleInterface, null, null);
 
-            String bundleImpl = generateImplementation(null, null, bundleInterfaceWrapper,
-                    defaultClassOutput, messageTemplateMethods, defaultKeyToMap, null);
+            Map<String, MethodInfo> defaultKeyMap = new LinkedHashMap<>();
+            String bundleImpl = generateImplementation(null, null, null, bundleInterfaceWrapper,
+                    defaultClassOutput, messageTemplateMethods, defaultKeyToMap, null, defaultKeyMap);
             generatedTypes.put(bundleInterface.name().toString(), bundleImpl);
             for (Entry<String, ClassInfo> entry : bundle.getLocalizedInterfaces().entrySet()) {
                 ClassInfo localizedInterface = entry.getValue();
@@ -641,8 +642,8 @@ private Map<String, String> generateImplementations(List<MessageBundleBuildItem>
                         keyToMap);
 
                 generatedTypes.put(entry.getValue().name().toString(),
-                        generateImplementation(bundleInterface, bundleImpl, localizedInterfaceWrapper,
-                                defaultClassOutput, messageTemplateMethods, keyToMap, null));
+                        generateImplementation(bundleInterface, bundleImpl, defaultKeyMap, localizedInterfaceWrapper,
+                                defaultClassOutput, messageTemplateMethods, keyToMap, null, new LinkedHashMap<>()));
             }
 
             for (Entry<String, Path> entry : bundle.getLocalizedFiles().entrySet()) {
@@ -662,8 +663,9 @@ public String apply(String className) {
                             }
                         }));
                 generatedTypes.put(localizedFile.toString(),
-                        generateImplementation(bundleInterface, bundleImpl, new SimpleClassInfoWrapper(bundleInterface),
-                                localeAwareGizmoAdaptor, messageTemplateMethods, keyToTemplate, locale));
+                        generateImplementation(bundleInterface, bundleImpl, defaultKeyMap,
+                                new SimpleClassInfoWrapper(bundleInterface), localeAwareGizmoAdaptor, messageTemplateMethods,
+                                keyToTemplate, locale, new LinkedHashMap<>()));
             }
         }
         return generatedTypes;
@@ -762,10 +764,15 @@ private boolean hasMessageBundleMethod(ClassInfo bundleInterface, String name) {
         return false;
     }
 
+    /**
+     * @param defaultKeyMap the key to method mapping of the default bundle, or {@code null} for the default bundle itself
+     * @param keyMap the map is populated with the key to method mapping of the generated bundle
+     * @return the name of the generated class
+     */
     private String generateImplementation(ClassInfo defaultBundleInterface, String defaultBundleImpl,
-            ClassInfoWrapper bundleInterfaceWrapper, ClassOutput classOutput,
+            Map<String, MethodInfo> defaultKeyMap, ClassInfoWrapper bundleInterfaceWrapper, ClassOutput classOutput,
             BuildProducer<MessageBundleMethodBuildItem> messageTemplateMethods,
-            Map<String, String> messageTemplates, String locale) {
+            Map<String, String> messageTemplates, String locale, Map<String, MethodInfo> keyMap) {
 
         ClassInfo bundleInterface = bundleInterfaceWrapper.getClassInfo();
         LOGGER.debugf("Generate bundle implementation for %s", bundleInterface);
@@ -798,8 +805,6 @@ private String generateImplementation(ClassInfo defaultBundleInterface, String d
         }
         ClassCreator bundleCreator = builder.build();
 
-        // key -> method
-        Map<String, MethodInfo> keyMap = new LinkedHashMap<>();
         List<MethodInfo> methods = new ArrayList<>(bundleInterfaceWrapper.methods());
         // Sort methods
         methods.sort(Comparator.comparing(MethodInfo::name).thenComparing(Comparator.comparing(MethodInfo::toString)));
@@ -910,7 +915,7 @@ private String generateImplementation(ClassInfo defaultBundleInterface, String d
             }
         }
 
-        implementResolve(defaultBundleImpl, bundleCreator, keyMap);
+        implementResolve(bundleCreator, keyMap, defaultKeyMap);
 
         bundleCreator.close();
         return generatedName.replace('/', '.');
@@ -949,7 +954,8 @@ static String getParameterName(MethodInfo method, int position) {
         return name;
     }
 
-    private void implementResolve(String defaultBundleImpl, ClassCreator bundleCreator, Map<String, MethodInfo> keyMap) {
+    private void implementResolve(ClassCreator bundleCreator, Map<String, MethodInfo> keyMap,
+            Map<String, MethodInfo> defaultKeyMap) {
         MethodCreator resolve = bundleCreator.getMethodCreator("resolve", CompletionStage.class, EvalContext.class);
         String resolveMethodPrefix = bundleCreator.getClassName().contains("/")
                 ? bundleCreator.getClassName().substring(bundleCreator.getClassName().lastIndexOf('/') + 1)
@@ -1014,55 +1020,103 @@ private void implementResolve(String defaultBundleImpl, ClassCreator bundleCreat
         dynamicMessage.returnValue(ret);
 
         // Proceed with generated messages
+        // The messages of the default bundle that are not overridden are matched directly,
+        // i.e. the lookup does not fall back to the resolve() method of the default bundle
+        List<Entry<String, MethodInfo>> entries = new ArrayList<>(keyMap.entrySet());
+        if (defaultKeyMap != null) {
+            for (Entry<String, MethodInfo> entry : defaultKeyMap.entrySet()) {
+                if (!keyMap.containsKey(entry.getKey())) {
+                    entries.add(entry);
+                }
+            }
+        }
+        // Sort the messages by the hash code of the key so that a message can be found by a binary search
+        entries.sort(Comparator.comparingInt(MessageBundleProcessor::keyHash).thenComparing(Entry::getKey));
+
         // We do group messages to workaround limits of a JVM method body
-        ResultHandle evaluatedParams = resolve.invokeStaticMethod(Descriptors.EVALUATED_PARAMS_EVALUATE, evalContext);
+        // The messages with the same hash code are always in the same group
+        List<List<Entry<String, MethodInfo>>> groups = new ArrayList<>();
         final int groupLimit = 300;
-        int groupIndex = 0;
-        int resolveIndex = 0;
-        MethodCreator resolveGroup = null;
-
-        for (Entry<String, MethodInfo> entry : keyMap.entrySet()) {
-            if (resolveGroup == null || groupIndex++ >= groupLimit) {
-                groupIndex = 0;
-                String resolveMethodName = resolveMethodPrefix + "_resolve_" + resolveIndex++;
-                if (resolveGroup != null) {
-                    // Delegate to the next "resolve_x" method
-                    resolveGroup.returnValue(resolveGroup.invokeVirtualMethod(
-                            MethodDescriptor.ofMethod(bundleCreator.getClassName(), resolveMethodName, CompletableFuture.class,
-                                    String.class,
-                                    EvaluatedParams.class, CompletableFuture.class),
-                            resolveGroup.getThis(), resolveGroup.getMethodParam(0), resolveGroup.getMethodParam(1),
-                            resolveGroup.getMethodParam(2)));
-                }
-                resolveGroup = bundleCreator.getMethodCreator(resolveMethodName, CompletableFuture.class, String.class,
-                        EvaluatedParams.class, CompletableFuture.class).setModifiers(0);
-                if (resolveIndex == 1) {
-                    ResultHandle resRet = resolve.invokeVirtualMethod(
-                            MethodDescriptor.ofMethod(bundleCreator.getClassName(), resolveMethodName, CompletableFuture.class,
-                                    String.class, EvaluatedParams.class, CompletableFuture.class),
-                            resolve.getThis(), name, evaluatedParams, ret);
-                    resolve.ifNotNull(resRet).trueBranch().returnValue(resRet);
-                }
+        int groupStart = 0;
+        while (groupStart < entries.size()) {
+            int groupEnd = Math.min(groupStart + groupLimit, entries.size());
+            while (groupEnd < entries.size() && keyHash(entries.get(groupEnd)) == keyHash(entries.get(groupEnd - 1))) {
+                groupEnd++;
             }
-            addMessageMethod(resolveGroup, entry.getKey(), entry.getValue(), resolveGroup.getMethodParam(0),
-                    resolveGroup.getMethodParam(1), resolveGroup.getMethodParam(2), bundleCreator.getClassName());
+            groups.add(entries.subList(groupStart, groupEnd));
+            groupStart = groupEnd;
+        }
+        if (groups.isEmpty()) {
+            // The first group is also used for dynamic messages
+            groups.add(Collections.emptyList());
         }
 
-        if (resolveGroup != null) {
-            // Last group - return null
+        for (ListIterator<List<Entry<String, MethodInfo>>> it = groups.listIterator(); it.hasNext();) {
+            int groupIndex = it.nextIndex();
+            List<Entry<String, MethodInfo>> group = it.next();
+            MethodCreator resolveGroup = bundleCreator.getMethodCreator(resolveMethodPrefix + "_resolve_" + groupIndex,
+                    CompletableFuture.class, String.class, EvaluatedParams.class, CompletableFuture.class).setModifiers(0);
+            ResultHandle groupName = resolveGroup.getMethodParam(0);
+            ResultHandle nameHash = resolveGroup.invokeVirtualMethod(Descriptors.HASH_CODE, groupName);
+            if (it.hasNext()) {
+                // Delegate to the next "resolve_x" method if the hash code is greater than the hash codes in this group
+                BytecodeCreator nextGroup = resolveGroup
+                        .ifIntegerLessEqual(nameHash, resolveGroup.load(keyHash(group.get(group.size() - 1))))
+                        .falseBranch();
+                nextGroup.returnValue(nextGroup.invokeVirtualMethod(
+                        MethodDescriptor.ofMethod(bundleCreator.getClassName(), resolveMethodPrefix + "_resolve_"
+                                + (groupIndex + 1), CompletableFuture.class, String.class, EvaluatedParams.class,
+                                CompletableFuture.class),
+                        nextGroup.getThis(), groupName, resolveGroup.getMethodParam(1), resolveGroup.getMethodParam(2)));
+            }
+            addMessageLookup(resolveGroup, group, nameHash, groupName, resolveGroup.getMethodParam(1),
+                    resolveGroup.getMethodParam(2), bundleCreator.getClassName());
+            // Not found - return null
             resolveGroup.returnValue(resolveGroup.loadNull());
         }
 
-        if (defaultBundleImpl != null) {
-            resolve.returnValue(resolve.invokeSpecialMethod(
-                    MethodDescriptor.ofMethod(defaultBundleImpl, "resolve", CompletionStage.class, EvalContext.class),
-                    resolve.getThis(), evalContext));
+        // Delegate to BundleClassName_resolve_0 (the first group of messages)
+        ResultHandle evaluatedParams = resolve.invokeStaticMethod(Descriptors.EVALUATED_PARAMS_EVALUATE, evalContext);
+        ResultHandle resRet = resolve.invokeVirtualMethod(
+                MethodDescriptor.ofMethod(bundleCreator.getClassName(), resolveMethodPrefix + "_resolve_0",
+                        CompletableFuture.class, String.class, EvaluatedParams.class, CompletableFuture.class),
+                resolve.getThis(), name, evaluatedParams, ret);
+        resolve.ifNotNull(resRet).trueBranch().returnValue(resRet);
+        resolve.returnValue(resolve.invokeStaticMethod(Descriptors.RESULTS_NOT_FOUND_EC, evalContext));
+    }
+
+    private void addMessageLookup(BytecodeCreator bytecode, List<Entry<String, MethodInfo>> entries,
+            ResultHandle nameHash, ResultHandle name, ResultHandle evaluatedParams, ResultHandle ret, String bundleClass) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        // Split the sorted messages in two halves, the messages with the same hash code are always in the same half
+        int mid = entries.size() / 2;
+        while (mid < entries.size() && keyHash(entries.get(mid)) == keyHash(entries.get(mid - 1))) {
+            mid++;
+        }
+        if (entries.size() <= 4 || mid == entries.size()) {
+            // Compare the hash codes first and only then the keys
+            for (Entry<String, MethodInfo> entry : entries) {
+                BytecodeCreator hashMatched = bytecode.ifIntegerEqual(nameHash, bytecode.load(keyHash(entry)))
+                        .trueBranch();
+                addMessageMethod(hashMatched, entry.getKey(), entry.getValue(), name, evaluatedParams, ret,
+                        bundleClass);
+            }
         } else {
-            resolve.returnValue(resolve.invokeStaticMethod(Descriptors.RESULTS_NOT_FOUND_EC, evalContext));
+            BranchResult lowerHalf = bytecode.ifIntegerLessEqual(nameHash, bytecode.load(keyHash(entries.get(mid - 1))));
+            addMessageLookup(lowerHalf.trueBranch(), entries.subList(0, mid), nameHash, name, evaluatedParams, ret,
+                    bundleClass);
+            addMessageLookup(lowerHalf.falseBranch(), entries.subList(mid, entries.size()), nameHash, name,
+                    evaluatedParams, ret, bundleClass);
         }
     }
 
-    private void addMessageMethod(MethodCreator resolve, String key, MethodInfo method, ResultHandle name,
+    private static int keyHash(Entry<String, MethodInfo> entry) {
+        return entry.getKey().hashCode();
+    }
+
+    private void addMessageMethod(BytecodeCreator resolve, String key, MethodInfo method, ResultHandle name,
             ResultHandle evaluatedParams,
             ResultHandle ret, String bundleClass) {
         List<Type> methodParams = method.parameterTypes();
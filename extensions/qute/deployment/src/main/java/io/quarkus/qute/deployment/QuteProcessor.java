@@ -33,7 +33,12 @@
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -72,16 +77,20 @@
 import io.quarkus.arc.processor.InjectionPointInfo;
 import io.quarkus.arc.processor.QualifierRegistrar;
 import io.quarkus.deployment.ApplicationArchive;
+import io.quarkus.deployment.Capabilities;
+import io.quarkus.deployment.Capability;
 import io.quarkus.deployment.Feature;
 import io.quarkus.deployment.GeneratedClassGizmoAdaptor;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.AdditionalIndexedClassesBuildItem;
 import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
 import io.quarkus.deployment.builditem.BytecodeTransformerBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
 import io.quarkus.deployment.builditem.HotDeploymentWatchedFileBuildItem;
+import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.ServiceStartBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
@@ -91,6 +100,7 @@
 import io.quarkus.maven.dependency.Dependency;
 import io.quarkus.maven.dependency.ResolvedDependency;
 import io.quarkus.panache.common.deployment.PanacheEntityClassesBuildItem;
+import io.quarkus.qute.CacheSectionHelper;
 import io.quarkus.qute.CheckedTemplate;
 import io.quarkus.qute.Engine;
 import io.quarkus.qute.EngineBuilder;
@@ -133,6 +143,7 @@
 import io.quarkus.qute.runtime.QuteRecorder;
 import io.quarkus.qute.runtime.QuteRecorder.QuteContext;
 import io.quarkus.qute.runtime.TemplateProducer;
+import io.quarkus.qute.runtime.cache.QuteCache;
 import io.quarkus.qute.runtime.extensions.CollectionTemplateExtensions;
 import io.quarkus.qute.runtime.extensions.ConfigTemplateExtensions;
 import io.quarkus.qute.runtime.extensions.MapTemplateExtensions;
@@ -140,6 +151,7 @@
 import io.quarkus.qute.runtime.extensions.OrOperatorTemplateExtensions;
 import io.quarkus.qute.runtime.extensions.StringTemplateExtensions;
 import io.quarkus.qute.runtime.extensions.TimeTemplateExtensions;
+import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.util.StringUtil;
 
 public class QuteProcessor {
@@ -254,6 +266,16 @@ AdditionalBeanBuildItem additionalBeans() {
                 .build();
     }
 
+    @BuildStep
+    void cache(Capabilities capabilities, BuildProducer<AdditionalBeanBuildItem> additionalBeans,
+            BuildProducer<AdditionalIndexedClassesBuildItem> additionalIndexedClasses) {
+        if (capabilities.isPresent(Capability.CACHE)) {
+            additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(QuteCache.class));
+            // The @CacheName qualifier is only collected from the combined index
+            additionalIndexedClasses.produce(new AdditionalIndexedClassesBuildItem(QuteCache.class.getName()));
+        }
+    }
+
     @BuildStep
     List<CheckedTemplateBuildItem> collectCheckedTemplates(BeanArchiveIndexBuildItem index,
             BuildProducer<BytecodeTransformerBuildItem> transformers,
@@ -454,7 +476,8 @@ private boolean isNotLocatedByCustomTemplateLocator(
     TemplatesAnalysisBuildItem analyzeTemplates(List<TemplatePathBuildItem> templatePaths,
             TemplateFilePathsBuildItem filePaths, List<CheckedTemplateBuildItem> checkedTemplates,
             List<MessageBundleMethodBuildItem> messageBundleMethods, List<TemplateGlobalBuildItem> globals, QuteConfig config,
-            BuildProducer<CheckedFragmentValidationBuildItem> checkedFragmentValidations) {
+            BuildProducer<CheckedFragmentValidationBuildItem> checkedFragmentValidations, Capabilities capabilities,
+            ExecutorService buildExecutor) {
         long start = System.nanoTime();
 
         checkDuplicatePaths(templatePaths);
@@ -465,6 +488,11 @@ TemplatesAnalysisBuildItem analyzeTemplates(List<TemplatePathBuildItem> template
         // The real engine instance is created at startup
         EngineBuilder builder = Engine.builder().addDefaultSectionHelpers();
 
+        if (capabilities.isPresent(Capability.CACHE)) {
+            // The cache is not used during the build
+            builder.addSectionHelper(new CacheSectionHelper.Factory(new CacheSectionHelper.InMemoryCache()));
+        }
+
         // Register user tags
         for (TemplatePathBuildItem path : templatePaths) {
             if (path.isTag()) {
@@ -492,11 +520,15 @@ public CompletionStage<ResultNode> resolve(SectionResolutionContext context) {
             };
         });
 
+        Map<String, TemplatePathBuildItem> pathToTemplatePath = new HashMap<>();
+        for (TemplatePathBuildItem templatePath : templatePaths) {
+            pathToTemplatePath.putIfAbsent(templatePath.getPath(), templatePath);
+        }
         builder.addLocator(new TemplateLocator() {
 
             @Override
             public Optional<TemplateLocation> locate(String id) {
-                TemplatePathBuildItem found = templatePaths.stream().filter(p -> p.getPath().equals(id)).findAny().orElse(null);
+                TemplatePathBuildItem found = pathToTemplatePath.get(id);
                 if (found != null) {
                     return Optional.of(new TemplateLocation() {
                         @Override
@@ -585,8 +617,22 @@ public void beforeParsing(ParserHelper parserHelper) {
         List<CheckedTemplateBuildItem> checkedFragments = checkedTemplates.stream().filter(CheckedTemplateBuildItem::isFragment)
                 .collect(Collectors.toList());
 
+        // The templates are parsed in parallel but the results are processed in the original order
+        ClassLoader tccl = Thread.currentThread().getContextClassLoader();
+        List<Future<Template>> fileTemplates = new ArrayList<>(templatePaths.size());
         for (TemplatePathBuildItem path : templatePaths) {
-            Template template = dummyEngine.getTemplate(path.getPath());
+            fileTemplates
+                    .add(buildExecutor.submit(withContextClassLoader(tccl, () -> dummyEngine.getTemplate(path.getPath()))));
+        }
+        List<Future<Template>> messageBundleTemplates = new ArrayList<>(messageBundleMethods.size());
+        for (MessageBundleMethodBuildItem messageBundleMethod : messageBundleMethods) {
+            messageBundleTemplates.add(buildExecutor.submit(withContextClassLoader(tccl, () -> dummyEngine
+                    .parse(messageBundleMethod.getTemplate(), null, messageBundleMethod.getTemplateId()))));
+        }
+
+        for (int i = 0; i < templatePaths.size(); i++) {
+            TemplatePathBuildItem path = templatePaths.get(i);
+            Template template = getResult(fileTemplates.get(i));
             if (template != null) {
                 String templateIdWithoutSuffix = pathToPathWithoutSuffix.get(template.getId());
 
@@ -619,13 +665,14 @@ public void beforeParsing(ParserHelper parserHelper) {
                 }
 
                 analysis.add(new TemplateAnalysis(null, template.getGeneratedId(), template.getExpressions(),
-                        parameterDeclarations, path.getPath()));
+                        parameterDeclarations, path.getPath(), template.getNodes()));
             }
         }
 
         // Message bundle templates
-        for (MessageBundleMethodBuildItem messageBundleMethod : messageBundleMethods) {
-            Template template = dummyEngine.parse(messageBundleMethod.getTemplate(), null, messageBundleMethod.getTemplateId());
+        for (int i = 0; i < messageBundleMethods.size(); i++) {
+            MessageBundleMethodBuildItem messageBundleMethod = messageBundleMethods.get(i);
+            Template template = getResult(messageBundleTemplates.get(i));
 
             // Add method parameter declarations if they were not overridden in the template
             List<ParameterDeclaration> paramDeclarations = mergeParamDeclarations(
@@ -791,7 +838,8 @@ void validateExpressions(TemplatesAnalysisBuildItem templatesAnalysis,
             BeanDiscoveryFinishedBuildItem beanDiscovery,
             List<CheckedTemplateBuildItem> checkedTemplates,
             List<TemplateDataBuildItem> templateData,
-            QuteConfig config) {
+            QuteConfig config,
+            ExecutorService buildExecutor) {
 
         IndexView index = beanArchiveIndex.getIndex();
         Function<String, String> templateIdToPathFun = new Function<String, String>() {
@@ -807,9 +855,6 @@ public String apply(String id) {
         Map<String, BeanInfo> namedBeans = beanDiscovery.beanStream().withName()
                 .collect(toMap(BeanInfo::getName, Function.identity()));
 
-        // Map implicit class -> set of used members
-        Map<DotName, Set<String>> implicitClassToMembersUsed = new HashMap<>();
-
         Map<String, TemplateDataBuildItem> namespaceTemplateData = new HashMap<>();
         for (TemplateDataBuildItem td : templateData) {
             if (td.hasNamespace()) {
@@ -830,77 +875,45 @@ public String apply(String id) {
         }
 
         LookupConfig lookupConfig = new FixedLookupConfig(index, initDefaultMembersFilter(), false);
-        Map<DotName, AssignableInfo> assignableCache = new HashMap<>();
-        int expressionsValidated = 0;
+        // The cache is shared by the validation tasks
+        Map<DotName, AssignableInfo> assignableCache = new ConcurrentHashMap<>();
 
-        for (TemplateAnalysis templateAnalysis : templatesAnalysis.getAnalysis()) {
-            // The relevant checked template, may be null
-            CheckedTemplateBuildItem checkedTemplate = findCheckedTemplate(config, templateAnalysis, checkedTemplates);
-            // Maps an expression generated id to the last match of an expression (i.e. the type of the last part)
-            Map<Integer, Match> generatedIdsToMatches = new HashMap<>();
+        final List<Predicate<TypeCheck>> excludes = new ArrayList<>();
+        // subset of excludes specific for extension methods
+        final List<Predicate<TypeCheck>> extensionMethodExcludes = new ArrayList<>();
+        for (TypeCheckExcludeBuildItem exclude : typeCheckExcludeBuildItems) {
+            excludes.add(exclude.getPredicate());
+            if (exclude.isExtensionMethodPredicate()) {
+                extensionMethodExcludes.add(exclude.getPredicate());
+            }
+        }
 
-            // Iterate over all top-level expressions found in the template
-            for (Expression expression : templateAnalysis.expressions) {
-                if (expression.isLiteral()) {
-                    continue;
-                }
+        // The templates are validated in parallel but the results are processed in the original order
+        ClassLoader tccl = Thread.currentThread().getContextClassLoader();
+        List<Future<TemplateValidation>> validations = new ArrayList<>(templatesAnalysis.getAnalysis().size());
 
-                final List<Predicate<TypeCheck>> excludes = new ArrayList<>();
-                // subset of excludes specific for extension methods
-                final List<Predicate<TypeCheck>> extensionMethodExcludes = new ArrayList<>();
-                for (TypeCheckExcludeBuildItem exclude : typeCheckExcludeBuildItems) {
-                    excludes.add(exclude.getPredicate());
-                    if (exclude.isExtensionMethodPredicate()) {
-                        extensionMethodExcludes.add(exclude.getPredicate());
-                    }
-                }
+        for (TemplateAnalysis templateAnalysis : templatesAnalysis.getAnalysis()) {
+            validations.add(buildExecutor.submit(withContextClassLoader(tccl,
+                    () -> validateTemplate(templateAnalysis, config, checkedTemplates, excludes, extensionMethodExcludes,
+                            index, templateIdToPathFun, lookupConfig, namedBeans, namespaceTemplateData,
+                            regularExtensionMethods, namespaceExtensionMethods, assignableCache))));
+        }
 
-                Match match = validateNestedExpressions(config, templateAnalysis, null, new HashMap<>(), excludes,
-                        incorrectExpressions, expression, index, implicitClassToMembersUsed, templateIdToPathFun,
-                        generatedIdsToMatches, extensionMethodExcludes,
-                        checkedTemplate, lookupConfig, namedBeans, namespaceTemplateData, regularExtensionMethods,
-                        namespaceExtensionMethods, assignableCache);
-                generatedIdsToMatches.put(expression.getGeneratedId(), match);
-            }
+        // Map implicit class -> set of used members
+        Map<DotName, Set<String>> implicitClassToMembersUsed = new HashMap<>();
+        int expressionsValidated = 0;
 
-            // Validate default values of parameter declarations
-            for (ParameterDeclaration parameterDeclaration : templateAnalysis.parameterDeclarations) {
-                Expression defaultValue = parameterDeclaration.getDefaultValue();
-                if (defaultValue != null) {
-                    Match match;
-                    if (defaultValue.isLiteral()) {
-                        match = new Match(index, assignableCache);
-                        setMatchValues(match, defaultValue, generatedIdsToMatches, index);
-                    } else {
-                        match = generatedIdsToMatches.get(defaultValue.getGeneratedId());
-                        if (match == null) {
-                            LOGGER.debugf(
-                                    "No type info available - unable to validate the default value of a parameter declaration ["
-                                            + parameterDeclaration.getKey() + "] in " + defaultValue.getOrigin());
-                            continue;
-                        }
-                    }
-                    Info info = TypeInfos.create(parameterDeclaration.getTypeInfo(), null, index, templateIdToPathFun,
-                            parameterDeclaration.getDefaultValue().getOrigin());
-                    if (!info.isTypeInfo()) {
-                        throw new IllegalStateException("Invalid type info [" + info + "] of parameter declaration ["
-                                + parameterDeclaration.getKey() + "] in "
-                                + defaultValue.getOrigin().toString());
-                    }
-                    if (!Types.isAssignableFrom(info.asTypeInfo().resolvedType, match.type(), index, assignableCache)) {
-                        incorrectExpressions.produce(new IncorrectExpressionBuildItem(defaultValue.toOriginalString(),
-                                "The type of the default value [" + match.type()
-                                        + "] does not match the type of the parameter declaration ["
-                                        + info.asTypeInfo().resolvedType + "]",
-                                defaultValue.getOrigin()));
-                    }
-                }
+        for (Future<TemplateValidation> future : validations) {
+            TemplateValidation validation = getResult(future);
+            for (IncorrectExpressionBuildItem incorrectExpression : validation.incorrectExpressions) {
+                incorrectExpressions.produce(incorrectExpression);
+            }
+            for (Entry<DotName, Set<String>> entry : validation.implicitClassToMembersUsed.entrySet()) {
+                implicitClassToMembersUsed.computeIfAbsent(entry.getKey(), k -> new HashSet<>()).addAll(entry.getValue());
             }
-
             expressionMatches
-                    .produce(new TemplateExpressionMatchesBuildItem(templateAnalysis.generatedId, generatedIdsToMatches));
-
-            expressionsValidated += generatedIdsToMatches.size();
+                    .produce(new TemplateExpressionMatchesBuildItem(validation.generatedId, validation.generatedIdsToMatches));
+            expressionsValidated += validation.generatedIdsToMatches.size();
         }
 
         LOGGER.debugf("Validated %s expressions", expressionsValidated);
@@ -966,6 +979,126 @@ static String buildIgnorePattern(Iterable<String> names) {
         return pattern.toString();
     }
 
+    private TemplateValidation validateTemplate(TemplateAnalysis templateAnalysis, QuteConfig config,
+            List<CheckedTemplateBuildItem> checkedTemplates, List<Predicate<TypeCheck>> excludes,
+            List<Predicate<TypeCheck>> extensionMethodExcludes, IndexView index, Function<String, String> templateIdToPathFun,
+            LookupConfig lookupConfig, Map<String, BeanInfo> namedBeans,
+            Map<String, TemplateDataBuildItem> namespaceTemplateData,
+            List<TemplateExtensionMethodBuildItem> regularExtensionMethods,
+            Map<String, List<TemplateExtensionMethodBuildItem>> namespaceExtensionMethods,
+            Map<DotName, AssignableInfo> assignableCache) {
+        List<IncorrectExpressionBuildItem> incorrectExpressions = new ArrayList<>();
+        // Map implicit class -> set of used members
+        Map<DotName, Set<String>> implicitClassToMembersUsed = new HashMap<>();
+
+        // The relevant checked template, may be null
+        CheckedTemplateBuildItem checkedTemplate = findCheckedTemplate(config, templateAnalysis, checkedTemplates);
+        // Maps an expression generated id to the last match of an expression (i.e. the type of the last part)
+        Map<Integer, Match> generatedIdsToMatches = new HashMap<>();
+
+        // Iterate over all top-level expressions found in the template
+        for (Expression expression : templateAnalysis.expressions) {
+            if (expression.isLiteral()) {
+                continue;
+            }
+
+            Match match = validateNestedExpressions(config, templateAnalysis, null, new HashMap<>(), excludes,
+                    incorrectExpressions::add, expression, index, implicitClassToMembersUsed, templateIdToPathFun,
+                    generatedIdsToMatches, extensionMethodExcludes,
+                    checkedTemplate, lookupConfig, namedBeans, namespaceTemplateData, regularExtensionMethods,
+                    namespaceExtensionMethods, assignableCache);
+            generatedIdsToMatches.put(expression.getGeneratedId(), match);
+        }
+
+        // Validate default values of parameter declarations
+        for (ParameterDeclaration parameterDeclaration : templateAnalysis.parameterDeclarations) {
+            Expression defaultValue = parameterDeclaration.getDefaultValue();
+            if (defaultValue != null) {
+                Match match;
+                if (defaultValue.isLiteral()) {
+                    match = new Match(index, assignableCache);
+                    setMatchValues(match, defaultValue, generatedIdsToMatches, index);
+                } else {
+                    match = generatedIdsToMatches.get(defaultValue.getGeneratedId());
+                    if (match == null) {
+                        LOGGER.debugf(
+                                "No type info available - unable to validate the default value of a parameter declaration ["
+                                        + parameterDeclaration.getKey() + "] in " + defaultValue.getOrigin());
+                        continue;
+                    }
+                }
+                Info info = TypeInfos.create(parameterDeclaration.getTypeInfo(), null, index, templateIdToPathFun,
+                        parameterDeclaration.getDefaultValue().getOrigin());
+                if (!info.isTypeInfo()) {
+                    throw new IllegalStateException("Invalid type info [" + info + "] of parameter declaration ["
+                            + parameterDeclaration.getKey() + "] in "
+                            + defaultValue.getOrigin().toString());
+                }
+                if (!Types.isAssignableFrom(info.asTypeInfo().resolvedType, match.type(), index, assignableCache)) {
+                    incorrectExpressions.add(new IncorrectExpressionBuildItem(defaultValue.toOriginalString(),
+                            "The type of the default value [" + match.type()
+                                    + "] does not match the type of the parameter declaration ["
+                                    + info.asTypeInfo().resolvedType + "]",
+                            defaultValue.getOrigin()));
+                }
+            }
+        }
+
+        return new TemplateValidation(templateAnalysis.generatedId, generatedIdsToMatches, incorrectExpressions,
+                implicitClassToMembersUsed);
+    }
+
+    static final class TemplateValidation {
+
+        final String generatedId;
+        final Map<Integer, Match> generatedIdsToMatches;
+        final List<IncorrectExpressionBuildItem> incorrectExpressions;
+        final Map<DotName, Set<String>> implicitClassToMembersUsed;
+
+        TemplateValidation(String generatedId, Map<Integer, Match> generatedIdsToMatches,
+                List<IncorrectExpressionBuildItem> incorrectExpressions,
+                Map<DotName, Set<String>> implicitClassToMembersUsed) {
+            this.generatedId = generatedId;
+            this.generatedIdsToMatches = generatedIdsToMatches;
+            this.incorrectExpressions = incorrectExpressions;
+            this.implicitClassToMembersUsed = implicitClassToMembersUsed;
+        }
+
+    }
+
+    private static <T> Callable<T> withContextClassLoader(ClassLoader classLoader, Callable<T> task) {
+        return new Callable<T>() {
+            @Override
+            public T call() throws Exception {
+                ClassLoader old = Thread.currentThread().getContextClassLoader();
+                try {
+                    Thread.currentThread().setContextClassLoader(classLoader);
+                    return task.call();
+                } finally {
+                    Thread.currentThread().setContextClassLoader(old);
+                }
+            }
+        };
+    }
+
+    private static <T> T getResult(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            // Rethrow the original exception, e.g. a TemplateException with the details of a parser error
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
     static Match validateNestedExpressions(QuteConfig config, TemplateAnalysis templateAnalysis, ClassInfo rootClazz,
             Map<String, Match> results,
             List<Predicate<TypeCheck>> excludes, BuildProducer<IncorrectExpressionBuildItem> incorrectExpressions,
@@ -1667,6 +1800,56 @@ public Function<FieldInfo, String> apply(ClassInfo clazz) {
         }
     }
 
+    @BuildStep
+    void compileTemplates(QuteConfig config, LaunchModeBuildItem launchMode, BeanArchiveIndexBuildItem beanArchiveIndex,
+            TemplatesAnalysisBuildItem templatesAnalysis, List<CheckedTemplateBuildItem> checkedTemplates,
+            List<TemplateExtensionMethodBuildItem> templateExtensionMethods,
+            BuildProducer<GeneratedClassBuildItem> generatedClasses,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClass,
+            BuildProducer<CompiledTemplateBuildItem> compiledTemplates) {
+        if (checkedTemplates.isEmpty() || launchMode.getLaunchMode() == LaunchMode.DEVELOPMENT) {
+            // The templates can be modified in the dev mode
+            return;
+        }
+        IndexView index = beanArchiveIndex.getIndex();
+        if (!index.getAllKnownImplementors(Names.TEMPLATE_LOCATOR).isEmpty()) {
+            // A locator may provide a template that differs from the template analyzed during the build
+            return;
+        }
+        for (AnnotationInstance observes : index.getAnnotations(DotNames.OBSERVES)) {
+            if (observes.target().kind() == Kind.METHOD_PARAMETER
+                    && observes.target().asMethodParameter().type().name().equals(Names.ENGINE_BUILDER)) {
+                // An observer may register value resolvers that take precedence over the compiled expressions
+                return;
+            }
+        }
+
+        Map<CheckedTemplateBuildItem, List<TemplateAnalysis>> checkedToAnalysis = new HashMap<>();
+        for (TemplateAnalysis analysis : templatesAnalysis.getAnalysis()) {
+            CheckedTemplateBuildItem checkedTemplate = findCheckedTemplate(config, analysis, checkedTemplates);
+            if (checkedTemplate != null) {
+                checkedToAnalysis.computeIfAbsent(checkedTemplate, k -> new ArrayList<>()).add(analysis);
+            }
+        }
+        CompiledTemplateGenerator generator = new CompiledTemplateGenerator(index, templateExtensionMethods,
+                new GeneratedClassGizmoAdaptor(generatedClasses, true));
+        for (Entry<CheckedTemplateBuildItem, List<TemplateAnalysis>> e : checkedToAnalysis.entrySet()) {
+            if (e.getValue().size() > 1) {
+                // The variant is selected at runtime
+                continue;
+            }
+            TemplateAnalysis analysis = e.getValue().get(0);
+            if (!analysis.parameterDeclarations.isEmpty()) {
+                continue;
+            }
+            String generatedType = generator.generate(e.getKey(), analysis);
+            if (generatedType != null) {
+                compiledTemplates.produce(new CompiledTemplateBuildItem(e.getKey().templateId, generatedType));
+                reflectiveClass.produce(new ReflectiveClassBuildItem(false, false, generatedType));
+            }
+        }
+    }
+
     @BuildStep
     void collectTemplates(ApplicationArchivesBuildItem applicationArchives,
             CurateOutcomeBuildItem curateOutcome,
@@ -1946,7 +2129,8 @@ public boolean test(TypeCheck check) {
     void initialize(BuildProducer<SyntheticBeanBuildItem> syntheticBeans, QuteRecorder recorder,
             List<GeneratedValueResolverBuildItem> generatedValueResolvers, List<TemplatePathBuildItem> templatePaths,
             Optional<TemplateVariantsBuildItem> templateVariants,
-            List<GeneratedTemplateInitializerBuildItem> templateInitializers) {
+            List<GeneratedTemplateInitializerBuildItem> templateInitializers, List<CompiledTemplateBuildItem> compiledTemplates,
+            Capabilities capabilities) {
 
         List<String> templates = new ArrayList<>();
         List<String> tags = new ArrayList<>();
@@ -1970,7 +2154,10 @@ void initialize(BuildProducer<SyntheticBeanBuildItem> syntheticBeans, QuteRecord
                 .supplier(recorder.createContext(generatedValueResolvers.stream()
                         .map(GeneratedValueResolverBuildItem::getClassName).collect(Collectors.toList()), templates,
                         tags, variants, templateInitializers.stream()
-                                .map(GeneratedTemplateInitializerBuildItem::getClassName).collect(Collectors.toList())))
+                                .map(GeneratedTemplateInitializerBuildItem::getClassName).collect(Collectors.toList()),
+                        capabilities.isPresent(Capability.CACHE),
+                        compiledTemplates.stream().collect(Collectors.toMap(CompiledTemplateBuildItem::getTemplateId,
+                                CompiledTemplateBuildItem::getClassName))))
                 .done());
     }
 
@@ -1,11 +1,13 @@
 package io.quarkus.qute.deployment;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
 import io.quarkus.builder.item.SimpleBuildItem;
 import io.quarkus.qute.Expression;
 import io.quarkus.qute.ParameterDeclaration;
+import io.quarkus.qute.TemplateNode;
 
 /**
  * Represents the result of analysis of all templates.
@@ -40,13 +42,22 @@ public static final class TemplateAnalysis {
         // File path, e.g. hello.html or ItemResource/items.html
         public final String path;
 
+        // The top-level nodes of the template
+        public final List<TemplateNode> nodes;
+
         public TemplateAnalysis(String id, String generatedId, List<Expression> expressions,
                 List<ParameterDeclaration> parameterDeclarations, String path) {
+            this(id, generatedId, expressions, parameterDeclarations, path, Collections.emptyList());
+        }
+
+        public TemplateAnalysis(String id, String generatedId, List<Expression> expressions,
+                List<ParameterDeclaration> parameterDeclarations, String path, List<TemplateNode> nodes) {
             this.id = id;
             this.generatedId = generatedId;
             this.expressions = expressions;
             this.parameterDeclarations = parameterDeclarations;
             this.path = path;
+            this.nodes = nodes;
         }
 
         Expression findExpression(int id) {
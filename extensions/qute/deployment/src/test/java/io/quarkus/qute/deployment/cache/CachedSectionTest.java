@@ -0,0 +1,131 @@
+package io.quarkus.qute.deployment.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CaffeineCache;
+import io.quarkus.qute.CacheSectionHelper;
+import io.quarkus.qute.Template;
+import io.quarkus.qute.runtime.cache.QuteCache;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CachedSectionTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClass(Counter.class)
+                    .addAsResource(new StringAsset("{#cached}{inject:counter.next}{/cached}"),
+                            "templates/cached.html")
+                    .addAsResource(new StringAsset("{#cached ttl=100ms}{inject:counter.next}{/cached}"),
+                            "templates/expiring.html")
+                    .addAsResource(new StringAsset("{#cached}{inject:counter.nextOrFail}{/cached}"),
+                            "templates/failing.html")
+                    .addAsResource(new StringAsset("{#cached}{inject:counter.next}{/cached}"),
+                            "templates/measured.html")
+                    .addAsResource(new StringAsset("quarkus.cache.caffeine.\"qute-cache\".metrics-enabled=true"),
+                            "application.properties"));
+
+    @Inject
+    Template cached;
+
+    @Inject
+    Template expiring;
+
+    @Inject
+    Template failing;
+
+    @Inject
+    Template measured;
+
+    @Inject
+    CacheSectionHelper.Cache sectionCache;
+
+    @Inject
+    @CacheName(QuteCache.NAME)
+    Cache cache;
+
+    @Inject
+    MeterRegistry registry;
+
+    @Test
+    public void testCached() {
+        // The section is registered and backed by the qute-cache because quarkus-cache is present
+        assertTrue(sectionCache instanceof QuteCache);
+        String value = cached.render();
+        assertEquals(value, cached.render());
+        assertTrue(cache.as(CaffeineCache.class).keySet().stream().anyMatch(key -> key.toString().startsWith("cached")),
+                () -> "Keys: " + cache.as(CaffeineCache.class).keySet());
+    }
+
+    @Test
+    public void testExpired() throws InterruptedException {
+        String value = expiring.render();
+        assertEquals(value, expiring.render());
+        Thread.sleep(150);
+        // The expired value is invalidated and a new value is loaded
+        String reloaded = expiring.render();
+        assertNotEquals(value, reloaded);
+        assertEquals(reloaded, expiring.render());
+    }
+
+    @Test
+    public void testFailure() {
+        assertThrows(RuntimeException.class, () -> failing.render());
+        // The failure is invalidated and a new value is loaded
+        String value = failing.render();
+        assertEquals(value, failing.render());
+    }
+
+    @Test
+    public void testMetrics() {
+        double hits = gets("hit");
+        double misses = gets("miss");
+        measured.render();
+        measured.render();
+        measured.render();
+        assertEquals(misses + 1, gets("miss"));
+        assertEquals(hits + 2, gets("hit"));
+    }
+
+    private double gets(String result) {
+        return registry.get("cache.gets").tag("cache", QuteCache.NAME).tag("result", result).functionCounter().count();
+    }
+
+    @Named
+    @Singleton
+    public static class Counter {
+
+        private final AtomicInteger value = new AtomicInteger();
+        private final AtomicBoolean failed = new AtomicBoolean();
+
+        public int next() {
+            return value.incrementAndGet();
+        }
+
+        public int nextOrFail() {
+            if (failed.compareAndSet(false, true)) {
+                throw new IllegalStateException("Rendering failed");
+            }
+            return next();
+        }
+
+    }
+
+}
@@ -88,6 +88,15 @@ public void testResolvers() {
         assertEquals("Dot test!", engine.parse("{msg:['dot.test']}").render());
         assertEquals("Hello world! Hello Malachi Constant!",
                 engine.getTemplate("dynamic").data("key", "hello_fullname").data("surname", "Constant").render());
+        // Messages inherited from the default bundle
+        assertEquals("Hello world! Hello Malachi Constant!",
+                engine.getTemplate("dynamic").data("key", "hello_fullname").data("surname", "Constant")
+                        .setAttribute(MessageBundles.ATTRIBUTE_LOCALE, Locale.forLanguageTag("cs")).render());
+        assertEquals("Hallo Welt! Hello Malachi Constant!",
+                engine.getTemplate("dynamic").data("key", "hello_fullname").data("surname", "Constant")
+                        .setAttribute(MessageBundles.ATTRIBUTE_LOCALE, Locale.GERMAN).render());
+        assertEquals("Dot test!", engine.parse("{msg:['dot.test']}").instance()
+                .setAttribute(MessageBundles.ATTRIBUTE_LOCALE, Locale.forLanguageTag("cs")).render());
 
         assertEquals("There are no files on C.",
                 engine.parse("{msg:files(0,'C')}").render());
@@ -0,0 +1,58 @@
+package io.quarkus.qute.deployment.typesafe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.CheckedTemplate;
+import io.quarkus.qute.TemplateException;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CheckedTemplateCompiledTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Templates.class, Item.class, OtherItem.class)
+                    .addAsResource(new StringAsset("<p>Hello {item.name}! {item.primitiveId}</p>"),
+                            "templates/CheckedTemplateCompiledTest/hello.html")
+                    .addAsResource(new StringAsset("{#if item.name}{item.name}{/if}"),
+                            "templates/CheckedTemplateCompiledTest/section.html"));
+
+    @Test
+    public void testCompiledTemplate() throws ClassNotFoundException {
+        assertNotNull(loadCompiledTemplate("hello"));
+        assertEquals("<p>Hello &lt;Foo&gt;! 9</p>", Templates.hello(new Item("<Foo>")).render());
+        assertEquals("<p>Hello &lt;Foo&gt;! 9</p>",
+                Templates.hello(new Item("<Foo>")).createUni().await().indefinitely());
+        assertEquals("<p>Hello ! 9</p>", Templates.hello(new Item(null)).render());
+        // The null intermediate result is handled by the interpreter
+        assertThrows(TemplateException.class, () -> Templates.hello(null).render());
+    }
+
+    @Test
+    public void testTemplateWithSectionNotCompiled() {
+        assertThrows(ClassNotFoundException.class, () -> loadCompiledTemplate("section"));
+        assertEquals("Foo", Templates.section(new Item("Foo")).render());
+    }
+
+    private static Class<?> loadCompiledTemplate(String method) throws ClassNotFoundException {
+        return Class.forName(Templates.class.getName().replace('$', '_') + "_" + method + "_CompiledTemplate", false,
+                Thread.currentThread().getContextClassLoader());
+    }
+
+    @CheckedTemplate
+    public static class Templates {
+
+        static native TemplateInstance hello(Item item);
+
+        static native TemplateInstance section(Item item);
+
+    }
+
+}
@@ -0,0 +1,60 @@
+package io.quarkus.qute.deployment.typesafe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.CheckedTemplate;
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.qute.runtime.TemplateProducer;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CheckedTemplateReuseTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Templates.class)
+                    .addAsResource(new StringAsset("Hello {name}!"),
+                            "templates/CheckedTemplateReuseTest/hello.txt")
+                    .addAsResource(new StringAsset("Bye {name}!"),
+                            "templates/CheckedTemplateReuseTest/bye.txt"));
+
+    @Inject
+    TemplateProducer templateProducer;
+
+    @Inject
+    Engine engine;
+
+    @Test
+    public void testTemplateReused() {
+        assertEquals("Hello foo!", Templates.hello("foo").render());
+        assertEquals("Hello bar!", Templates.hello("bar").render());
+        assertSame(templateProducer.getInjectableTemplate("CheckedTemplateReuseTest/hello"),
+                templateProducer.getInjectableTemplate("CheckedTemplateReuseTest/hello"));
+    }
+
+    @Test
+    public void testTemplateReplaced() {
+        assertEquals("Bye foo!", Templates.bye("foo").render());
+        // The shared template must not keep the template that was replaced
+        engine.putTemplate("CheckedTemplateReuseTest/bye", engine.parse("Farewell {name}!"));
+        assertEquals("Farewell foo!", Templates.bye("foo").render());
+    }
+
+    @CheckedTemplate
+    public static class Templates {
+
+        static native TemplateInstance hello(String name);
+
+        static native TemplateInstance bye(String name);
+
+    }
+
+}
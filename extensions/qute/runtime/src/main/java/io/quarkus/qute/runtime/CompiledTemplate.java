@@ -0,0 +1,30 @@
+package io.quarkus.qute.runtime;
+
+import java.util.Map;
+
+import io.quarkus.qute.Template;
+
+/**
+ * Evaluates the expressions of a type-safe template without the {@link io.quarkus.qute.Evaluator}.
+ * <p>
+ * An implementation is generated for each type-safe template that only consists of text and expressions that read the
+ * public properties of the template parameters. The getters and fields are called directly, and the text of the
+ * template is taken from the template parsed by the engine.
+ */
+public interface CompiledTemplate {
+
+    /**
+     * The result of an expression that must be evaluated by the interpreter instead, e.g. if a template parameter is not
+     * set or a property of an intermediate result is {@code null}.
+     */
+    Object FALLBACK = new Object();
+
+    /**
+     *
+     * @param index the index of the expression in the list returned by {@link Template#getExpressions()}
+     * @param data the template parameters
+     * @return the value of the expression or {@link #FALLBACK}
+     */
+    Object evaluate(int index, Map<String, Object> data);
+
+}
@@ -0,0 +1,119 @@
+package io.quarkus.qute.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.Expression;
+import io.quarkus.qute.ResultNode;
+import io.quarkus.qute.Template;
+import io.quarkus.qute.TemplateNode;
+import io.quarkus.qute.TextNode;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Renders a type-safe template with the expressions evaluated by a {@link CompiledTemplate}.
+ */
+final class CompiledTemplateRenderer {
+
+    private final CompiledTemplate compiledTemplate;
+
+    // The segments of the template last obtained from the engine
+    private volatile Segments segments;
+
+    CompiledTemplateRenderer(CompiledTemplate compiledTemplate) {
+        this.compiledTemplate = compiledTemplate;
+    }
+
+    /**
+     *
+     * @param template
+     * @param data
+     * @param engine
+     * @return the rendered template or {@code null} if the template must be rendered by the interpreter
+     */
+    String render(Template template, Map<String, Object> data, Engine engine) {
+        Segments segments = this.segments;
+        if (segments == null || segments.template != template) {
+            // The template was parsed again, e.g. after the engine cache was cleared
+            segments = new Segments(template);
+            this.segments = segments;
+        }
+        if (segments.texts == null) {
+            return null;
+        }
+        StringBuilder builder = new StringBuilder(1028);
+        for (int i = 0; i < segments.texts.length; i++) {
+            String text = segments.texts[i];
+            if (text != null) {
+                builder.append(text);
+                continue;
+            }
+            Object value = compiledTemplate.evaluate(segments.indexes[i], data);
+            if (value == CompiledTemplate.FALLBACK) {
+                return null;
+            }
+            if (value instanceof Optional) {
+                value = ((Optional<?>) value).orElse(null);
+            }
+            if (value != null) {
+                if (value instanceof CompletionStage || value instanceof Uni || value instanceof ResultNode) {
+                    // Only the interpreter can wait for an asynchronous result
+                    return null;
+                }
+                builder.append(engine.mapResult(value, segments.expressions[i]));
+            }
+        }
+        return builder.toString();
+    }
+
+    static final class Segments {
+
+        final Template template;
+        // The text of each segment or null for an expression; null if the template cannot be rendered
+        final String[] texts;
+        // The index of the expression of each segment
+        final int[] indexes;
+        final Expression[] expressions;
+
+        Segments(Template template) {
+            this.template = template;
+            List<Expression> templateExpressions = template.getExpressions();
+            List<String> texts = new ArrayList<>();
+            List<Expression> expressions = new ArrayList<>();
+            boolean supported = true;
+            for (TemplateNode node : template.getNodes()) {
+                if (node.isText()) {
+                    texts.add(((TextNode) node).getValue());
+                    expressions.add(null);
+                } else if (node.isExpression()) {
+                    texts.add(null);
+                    expressions.add(node.getExpressions().get(0));
+                } else {
+                    // The templates with sections or parameter declarations are not compiled
+                    supported = false;
+                    break;
+                }
+            }
+            if (supported) {
+                this.texts = texts.toArray(new String[0]);
+                this.expressions = expressions.toArray(new Expression[0]);
+                this.indexes = new int[this.expressions.length];
+                for (int i = 0; i < this.expressions.length; i++) {
+                    if (this.expressions[i] != null) {
+                        indexes[i] = templateExpressions.indexOf(this.expressions[i]);
+                    }
+                }
+            } else {
+                this.texts = null;
+                this.expressions = null;
+                this.indexes = null;
+            }
+        }
+
+    }
+
+}
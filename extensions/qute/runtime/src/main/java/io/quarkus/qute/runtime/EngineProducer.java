@@ -33,6 +33,7 @@
 import io.quarkus.arc.ArcContainer;
 import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.InstanceHandle;
+import io.quarkus.qute.CacheSectionHelper;
 import io.quarkus.qute.Engine;
 import io.quarkus.qute.EngineBuilder;
 import io.quarkus.qute.EvalContext;
@@ -158,6 +159,13 @@ public EngineProducer(QuteContext context, QuteConfig config, QuteRuntimeConfig
         // Default section helpers
         builder.addDefaultSectionHelpers();
 
+        // The cached section is only registered if the quarkus-cache extension is present, i.e. the same condition is used
+        // to validate the templates during the build
+        if (context.isCacheSectionEnabled()) {
+            builder.addSectionHelper(
+                    new CacheSectionHelper.Factory(container.instance(CacheSectionHelper.Cache.class).get()));
+        }
+
         // Allow anyone to customize the builder
         builderReady.fire(builder);
 
@@ -11,7 +11,8 @@ public class QuteRecorder {
 
     public Supplier<Object> createContext(List<String> resolverClasses,
             List<String> templatePaths, List<String> tags, Map<String, List<String>> variants,
-            List<String> templateInstanceInitializerClasses) {
+            List<String> templateInstanceInitializerClasses, boolean cacheSectionEnabled,
+            Map<String, String> compiledTemplateClasses) {
         return new Supplier<Object>() {
 
             @Override
@@ -43,6 +44,16 @@ public List<String> getTemplateInstanceInitializerClasses() {
                         return templateInstanceInitializerClasses;
                     }
 
+                    @Override
+                    public boolean isCacheSectionEnabled() {
+                        return cacheSectionEnabled;
+                    }
+
+                    @Override
+                    public Map<String, String> getCompiledTemplateClasses() {
+                        return compiledTemplateClasses;
+                    }
+
                 };
             }
         };
@@ -60,6 +71,14 @@ public interface QuteContext {
 
         List<String> getTemplateInstanceInitializerClasses();
 
+        boolean isCacheSectionEnabled();
+
+        /**
+         *
+         * @return the map of type-safe template paths to the generated {@link CompiledTemplate} classes
+         */
+        Map<String, String> getCompiledTemplateClasses();
+
     }
 
 }
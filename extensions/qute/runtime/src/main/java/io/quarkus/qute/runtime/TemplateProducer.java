@@ -2,6 +2,7 @@
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
@@ -10,6 +11,8 @@
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -22,6 +25,7 @@
 import org.jboss.logging.Logger;
 
 import io.quarkus.arc.impl.LazyValue;
+import io.quarkus.qute.CompletedStage;
 import io.quarkus.qute.Engine;
 import io.quarkus.qute.Expression;
 import io.quarkus.qute.Location;
@@ -29,6 +33,7 @@
 import io.quarkus.qute.Template;
 import io.quarkus.qute.TemplateInstance;
 import io.quarkus.qute.TemplateInstanceBase;
+import io.quarkus.qute.TemplateNode;
 import io.quarkus.qute.Variant;
 import io.quarkus.qute.runtime.QuteRecorder.QuteContext;
 import io.smallrye.mutiny.Multi;
@@ -43,6 +48,12 @@ public class TemplateProducer {
 
     private final Map<String, TemplateVariants> templateVariants;
 
+    // Type-safe templates are obtained for each invocation of a @CheckedTemplate method
+    private final ConcurrentMap<String, InjectableTemplate> injectableTemplates;
+
+    // Type-safe template path -> renderer of the compiled template
+    private final Map<String, CompiledTemplateRenderer> compiledTemplates;
+
     TemplateProducer(Engine engine, QuteContext context, ContentTypes contentTypes) {
         this.engine = engine;
         Map<String, TemplateVariants> templateVariants = new HashMap<>();
@@ -52,7 +63,14 @@ public class TemplateProducer {
             templateVariants.put(entry.getKey(), var);
         }
         this.templateVariants = Collections.unmodifiableMap(templateVariants);
+        this.injectableTemplates = new ConcurrentHashMap<>();
+        Map<String, CompiledTemplateRenderer> compiledTemplates = new HashMap<>();
+        for (Entry<String, String> entry : context.getCompiledTemplateClasses().entrySet()) {
+            compiledTemplates.put(entry.getKey(), new CompiledTemplateRenderer(createCompiledTemplate(entry.getValue())));
+        }
+        this.compiledTemplates = Collections.unmodifiableMap(compiledTemplates);
         LOGGER.debugf("Initializing Qute variant templates: %s", templateVariants);
+        LOGGER.debugf("Initializing Qute compiled templates: %s", compiledTemplates.keySet());
     }
 
     @Produces
@@ -96,7 +114,28 @@ Template getTemplate(InjectionPoint injectionPoint) {
      * Used by NativeCheckedTemplateEnhancer to inject calls to this method in the native type-safe methods.
      */
     public Template getInjectableTemplate(String path) {
-        return new InjectableTemplate(path, templateVariants, engine);
+        // The path is a constant in the generated method so the injectable template can be shared; it does not memoize
+        // the template obtained from the engine so that a template reloaded after the engine cache is cleared is used
+        InjectableTemplate template = injectableTemplates.get(path);
+        if (template == null) {
+            template = injectableTemplates.computeIfAbsent(path,
+                    p -> new InjectableTemplate(p, templateVariants, engine, false, compiledTemplates.get(p)));
+        }
+        return template;
+    }
+
+    private CompiledTemplate createCompiledTemplate(String compiledTemplateClassName) {
+        try {
+            Class<?> compiledTemplateClazz = Thread.currentThread()
+                    .getContextClassLoader().loadClass(compiledTemplateClassName);
+            if (CompiledTemplate.class.isAssignableFrom(compiledTemplateClazz)) {
+                return (CompiledTemplate) compiledTemplateClazz.getDeclaredConstructor().newInstance();
+            }
+            throw new IllegalStateException("Not a compiled template: " + compiledTemplateClassName);
+        } catch (InstantiationException | IllegalAccessException | ClassNotFoundException | IllegalArgumentException
+                | InvocationTargetException | NoSuchMethodException | SecurityException e) {
+            throw new IllegalStateException("Unable to create compiled template: " + compiledTemplateClassName, e);
+        }
     }
 
     static class InjectableTemplate implements Template {
@@ -104,22 +143,38 @@ static class InjectableTemplate implements Template {
         private final String path;
         private final TemplateVariants variants;
         private final Engine engine;
+        // The id of the template if there is no need to select a variant
+        private final String unambiguousId;
         private final LazyValue<Template> unambiguousTemplate;
+        // The renderer of the unambiguous template if it was compiled; may be null
+        private final CompiledTemplateRenderer compiledTemplate;
 
         public InjectableTemplate(String path, Map<String, TemplateVariants> templateVariants, Engine engine) {
+            this(path, templateVariants, engine, true, null);
+        }
+
+        /**
+         * @param memoize if the unambiguous template should be obtained from the engine only once
+         * @param compiledTemplate the renderer of the compiled template, may be {@code null}
+         */
+        InjectableTemplate(String path, Map<String, TemplateVariants> templateVariants, Engine engine, boolean memoize,
+                CompiledTemplateRenderer compiledTemplate) {
             this.path = path;
             this.variants = templateVariants.get(path);
             this.engine = engine;
             if (variants == null || variants.variantToTemplate.size() == 1) {
-                unambiguousTemplate = new LazyValue<>(new Supplier<Template>() {
+                unambiguousId = variants != null ? variants.defaultTemplate : path;
+                unambiguousTemplate = memoize ? new LazyValue<>(new Supplier<Template>() {
                     @Override
                     public Template get() {
-                        String id = variants != null ? variants.defaultTemplate : path;
-                        return engine.getTemplate(id);
+                        return engine.getTemplate(unambiguousId);
                     }
-                });
+                }) : null;
+                this.compiledTemplate = compiledTemplate;
             } else {
+                unambiguousId = null;
                 unambiguousTemplate = null;
+                this.compiledTemplate = null;
             }
         }
 
@@ -130,60 +185,72 @@ public TemplateInstance instance() {
 
         @Override
         public List<Expression> getExpressions() {
-            if (unambiguousTemplate != null) {
-                return unambiguousTemplate.get().getExpressions();
+            if (unambiguousId != null) {
+                return unambiguousTemplate().getExpressions();
             }
             throw ambiguousTemplates("getExpressions()");
         }
 
         @Override
         public Expression findExpression(Predicate<Expression> predicate) {
-            if (unambiguousTemplate != null) {
-                return unambiguousTemplate.get().findExpression(predicate);
+            if (unambiguousId != null) {
+                return unambiguousTemplate().findExpression(predicate);
             }
             throw ambiguousTemplates("findExpression()");
         }
 
+        @Override
+        public List<TemplateNode> getNodes() {
+            if (unambiguousId != null) {
+                return unambiguousTemplate().getNodes();
+            }
+            throw ambiguousTemplates("getNodes()");
+        }
+
         @Override
         public List<ParameterDeclaration> getParameterDeclarations() {
-            if (unambiguousTemplate != null) {
-                return unambiguousTemplate.get().getParameterDeclarations();
+            if (unambiguousId != null) {
+                return unambiguousTemplate().getParameterDeclarations();
             }
             throw ambiguousTemplates("getParameterDeclarations()");
         }
 
         @Override
         public String getGeneratedId() {
-            if (unambiguousTemplate != null) {
-                return unambiguousTemplate.get().getGeneratedId();
+            if (unambiguousId != null) {
+                return unambiguousTemplate().getGeneratedId();
             }
             throw ambiguousTemplates("getGeneratedId()");
         }
 
         @Override
         public Optional<Variant> getVariant() {
-            if (unambiguousTemplate != null) {
-                return unambiguousTemplate.get().getVariant();
+            if (unambiguousId != null) {
+                return unambiguousTemplate().getVariant();
             }
             throw ambiguousTemplates("getVariant()");
         }
 
         @Override
         public String getId() {
-            if (unambiguousTemplate != null) {
-                return unambiguousTemplate.get().getId();
+            if (unambiguousId != null) {
+                return unambiguousTemplate().getId();
             }
             throw ambiguousTemplates("getId()");
         }
 
         @Override
         public Fragment getFragment(String identifier) {
-            if (unambiguousTemplate != null) {
-                return unambiguousTemplate.get().getFragment(identifier);
+            if (unambiguousId != null) {
+                return unambiguousTemplate().getFragment(identifier);
             }
             throw ambiguousTemplates("getFragment()");
         }
 
+        private Template unambiguousTemplate() {
+            return unambiguousTemplate != null ? unambiguousTemplate.get() : engine.getTemplate(unambiguousId);
+        }
+
         private UnsupportedOperationException ambiguousTemplates(String method) {
             return new UnsupportedOperationException("Ambiguous injected templates do not support " + method);
         }
@@ -197,17 +264,29 @@ class InjectableTemplateInstanceImpl extends TemplateInstanceBase {
 
             InjectableTemplateInstanceImpl() {
                 if (variants != null) {
-                    setAttribute(TemplateInstance.VARIANTS, List.copyOf(variants.variantToTemplate.keySet()));
+                    setAttribute(TemplateInstance.VARIANTS, variants.variants);
                 }
             }
 
             @Override
             public String render() {
-                return templateInstance().render();
+                String rendered = renderCompiled();
+                return rendered != null ? rendered : templateInstance().render();
             }
 
             @Override
             public CompletionStage<String> renderAsync() {
+                if (compiledTemplate != null) {
+                    String rendered;
+                    try {
+                        rendered = renderCompiled();
+                    } catch (Throwable e) {
+                        return CompletedStage.failure(e);
+                    }
+                    if (rendered != null) {
+                        return CompletedStage.of(rendered);
+                    }
+                }
                 return templateInstance().renderAsync();
             }
 
@@ -218,11 +297,17 @@ public Multi<String> createMulti() {
 
             @Override
             public Uni<String> createUni() {
+                if (compiledTemplate != null) {
+                    return Uni.createFrom().completionStage(this::renderAsync);
+                }
                 return templateInstance().createUni();
             }
 
             @Override
             public CompletionStage<Void> consume(Consumer<String> consumer) {
+                if (compiledTemplate != null) {
+                    return renderAsync().thenAccept(consumer);
+                }
                 return templateInstance().consume(consumer);
             }
 
@@ -236,6 +321,19 @@ public Template getTemplate() {
                 return template();
             }
 
+            /**
+             *
+             * @return the rendered template or {@code null} if the template must be rendered by the interpreter
+             */
+            private String renderCompiled() {
+                // The rendered actions are registered on the template instance of the interpreter
+                if (compiledTemplate == null || data != null || renderedActions != null) {
+                    return null;
+                }
+                return compiledTemplate.render(unambiguousTemplate(), dataMap != null ? dataMap : Collections.emptyMap(),
+                        engine);
+            }
+
             private TemplateInstance templateInstance() {
                 TemplateInstance instance = template().instance();
                 if (dataMap != null) {
@@ -253,8 +351,8 @@ private TemplateInstance templateInstance() {
             }
 
             private Template template() {
-                if (unambiguousTemplate != null) {
-                    return unambiguousTemplate.get();
+                if (unambiguousId != null) {
+                    return unambiguousTemplate();
                 }
                 Variant selected = (Variant) getAttribute(TemplateInstance.SELECTED_VARIANT);
                 String id;
@@ -277,10 +375,13 @@ static class TemplateVariants {
 
         public final Map<Variant, String> variantToTemplate;
         public final String defaultTemplate;
+        // An immutable list shared by all template instances
+        public final List<Variant> variants;
 
         public TemplateVariants(Map<Variant, String> variants, String defaultTemplate) {
             this.variantToTemplate = variants;
             this.defaultTemplate = defaultTemplate;
+            this.variants = List.copyOf(variants.keySet());
         }
 
         String getId(String contentType) {
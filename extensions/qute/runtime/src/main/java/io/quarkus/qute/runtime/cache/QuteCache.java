@@ -0,0 +1,49 @@
+package io.quarkus.qute.runtime.cache;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import javax.inject.Singleton;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.qute.CacheSectionHelper;
+import io.quarkus.qute.CacheSectionHelper.CacheEntry;
+import io.quarkus.qute.ResultNode;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Stores the output of the {@code cached} sections in the {@value #NAME} cache. The cache can be configured like any
+ * other Quarkus cache, e.g. the hit and miss metrics are recorded if {@code quarkus.cache.caffeine."qute-cache".metrics-enabled}
+ * is set to {@code true}.
+ */
+@Singleton
+public class QuteCache implements CacheSectionHelper.Cache {
+
+    public static final String NAME = "qute-cache";
+
+    @CacheName(NAME)
+    Cache cache;
+
+    @Override
+    public CompletionStage<ResultNode> getValue(String key, Duration ttl,
+            Function<String, CompletionStage<ResultNode>> loader) {
+        return get(key, ttl, loader)
+                .chain(entry -> {
+                    if (entry.isExpired() || entry.isFailed()) {
+                        // The expired value and the failure are invalidated and a new value is loaded
+                        // Concurrent refreshes of the same key may render the content more than once
+                        return cache.invalidate(key).chain(() -> get(key, ttl, loader));
+                    }
+                    return Uni.createFrom().item(entry);
+                })
+                .subscribeAsCompletionStage()
+                .thenCompose(entry -> entry.value);
+    }
+
+    private Uni<CacheEntry> get(String key, Duration ttl, Function<String, CompletionStage<ResultNode>> loader) {
+        return cache.<String, CacheEntry> get(key, k -> new CacheEntry(loader.apply(k), ttl));
+    }
+
+}
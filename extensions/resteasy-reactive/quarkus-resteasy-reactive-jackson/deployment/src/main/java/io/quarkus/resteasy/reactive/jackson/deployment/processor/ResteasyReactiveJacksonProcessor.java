@@ -3,9 +3,11 @@
 import static org.jboss.resteasy.reactive.common.util.RestMediaType.APPLICATION_NDJSON;
 import static org.jboss.resteasy.reactive.common.util.RestMediaType.APPLICATION_STREAM_JSON;
 
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
@@ -23,6 +25,8 @@
 import org.jboss.jandex.MethodInfo;
 import org.jboss.jandex.Type;
 import org.jboss.logging.Logger;
+import org.jboss.resteasy.reactive.common.model.MethodParameter;
+import org.jboss.resteasy.reactive.common.model.ParameterType;
 import org.jboss.resteasy.reactive.common.model.ResourceMethod;
 import org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames;
 import org.jboss.resteasy.reactive.server.util.MethodId;
@@ -32,6 +36,7 @@
 import com.fasterxml.jackson.databind.exc.MismatchedInputException;
 
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
+import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.deployment.Feature;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
@@ -39,6 +44,7 @@
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.resteasy.reactive.common.deployment.JaxRsResourceIndexBuildItem;
@@ -65,6 +71,7 @@
 import io.quarkus.resteasy.reactive.spi.ExceptionMapperBuildItem;
 import io.quarkus.resteasy.reactive.spi.MessageBodyReaderBuildItem;
 import io.quarkus.resteasy.reactive.spi.MessageBodyWriterBuildItem;
+import io.quarkus.runtime.LaunchMode;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 
@@ -83,6 +90,8 @@ public class ResteasyReactiveJacksonProcessor {
     private static final String[] EMPTY_STRING_ARRAY = new String[0];
     private static final List<String> HANDLED_MEDIA_TYPES = List.of(MediaType.APPLICATION_JSON, APPLICATION_NDJSON,
             APPLICATION_STREAM_JSON);
+    private static final List<String> NON_WARMED_UP_PACKAGES = List.of("java.", "javax.", "jakarta.", "io.smallrye.mutiny.",
+            "io.vertx.", "org.jboss.resteasy.reactive.");
 
     @BuildStep
     void feature(BuildProducer<FeatureBuildItem> feature) {
@@ -261,6 +270,100 @@ void handleJsonAnnotations(Optional<ResourceScanningResultBuildItem> resourceSca
         }
     }
 
+    /**
+     * Only the server endpoints that produce or consume JSON are considered. The REST Client interfaces are not, the
+     * clients may use their own {@link ObjectMapper} and many of them are never called.
+     */
+    @Record(ExecutionTime.RUNTIME_INIT)
+    @BuildStep
+    void warmUpObjectMapper(ResteasyReactiveResourceMethodEntriesBuildItem resourceMethodEntries,
+            JaxRsResourceIndexBuildItem index, LaunchModeBuildItem launchMode, BeanContainerBuildItem beanContainer,
+            ResteasyReactiveServerJacksonRecorder recorder) {
+        if (launchMode.getLaunchMode() == LaunchMode.DEVELOPMENT) {
+            // keep the restarts fast, the introspection will happen on the first request
+            return;
+        }
+        IndexView indexView = index.getIndexView();
+        Set<String> serializedClassNames = new LinkedHashSet<>();
+        Set<String> deserializedClassNames = new LinkedHashSet<>();
+        for (ResteasyReactiveResourceMethodEntriesBuildItem.Entry entry : resourceMethodEntries.getEntries()) {
+            MethodInfo methodInfo = entry.getMethodInfo();
+            ResourceMethod resourceMethod = entry.getResourceMethod();
+            boolean producesJson = isJsonMediaType(resourceMethod.getProduces());
+            if (producesJson) {
+                addJacksonHandledClass(methodInfo.returnType(), indexView, serializedClassNames);
+            }
+            // without @Consumes the reader is selected from the content type of the request, it is most likely JSON
+            // if the response is JSON
+            String[] consumes = resourceMethod.getConsumes();
+            if ((consumes == null || consumes.length == 0) ? !producesJson : !isJsonMediaType(consumes)) {
+                continue;
+            }
+            MethodParameter[] parameters = resourceMethod.getParameters();
+            for (int i = 0; i < parameters.length && i < methodInfo.parametersCount(); i++) {
+                if (parameters[i].parameterType == ParameterType.BODY) {
+                    addJacksonHandledClass(methodInfo.parameterType(i), indexView, deserializedClassNames);
+                }
+            }
+        }
+        if (!serializedClassNames.isEmpty() || !deserializedClassNames.isEmpty()) {
+            recorder.warmUpObjectMapper(beanContainer.getValue(), serializedClassNames, deserializedClassNames);
+        }
+    }
+
+    /**
+     * Adds the application class that will be (de)serialized by Jackson for the given declared type, if any
+     */
+    private static void addJacksonHandledClass(Type type, IndexView indexView, Set<String> classNames) {
+        if (type.kind() == Type.Kind.PARAMETERIZED_TYPE) {
+            DotName name = type.name();
+            List<Type> arguments = type.asParameterizedType().arguments();
+            if (name.equals(ResteasyReactiveDotNames.REST_RESPONSE) ||
+                    name.equals(ResteasyReactiveDotNames.UNI) ||
+                    name.equals(ResteasyReactiveDotNames.COMPLETABLE_FUTURE) ||
+                    name.equals(ResteasyReactiveDotNames.COMPLETION_STAGE) ||
+                    name.equals(ResteasyReactiveDotNames.MULTI) ||
+                    name.equals(ResteasyReactiveDotNames.SET) ||
+                    name.equals(ResteasyReactiveDotNames.COLLECTION) ||
+                    name.equals(ResteasyReactiveDotNames.LIST)) {
+                addJacksonHandledClass(arguments.get(0), indexView, classNames);
+            } else if (name.equals(ResteasyReactiveDotNames.MAP)) {
+                addJacksonHandledClass(arguments.get(1), indexView, classNames);
+            }
+            return;
+        }
+        if (type.kind() != Type.Kind.CLASS) {
+            return;
+        }
+        ClassInfo classInfo = indexView.getClassByName(type.name());
+        // only application classes, the JDK, JAX-RS, Mutiny and Vert.x types are handled by other providers
+        if ((classInfo == null) || Modifier.isInterface(classInfo.flags())) {
+            return;
+        }
+        String className = classInfo.name().toString();
+        for (String prefix : NON_WARMED_UP_PACKAGES) {
+            if (className.startsWith(prefix)) {
+                return;
+            }
+        }
+        classNames.add(className);
+    }
+
+    private static boolean isJsonMediaType(String[] mediaTypes) {
+        if (mediaTypes == null) {
+            return false;
+        }
+        for (String mediaType : mediaTypes) {
+            String lowerCaseMediaType = mediaType.toLowerCase(Locale.ROOT);
+            for (String handledMediaType : HANDLED_MEDIA_TYPES) {
+                if (lowerCaseMediaType.startsWith(handledMediaType)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     @BuildStep
     public void handleFieldSecurity(ResteasyReactiveResourceMethodEntriesBuildItem resourceMethodEntries,
             JaxRsResourceIndexBuildItem index,
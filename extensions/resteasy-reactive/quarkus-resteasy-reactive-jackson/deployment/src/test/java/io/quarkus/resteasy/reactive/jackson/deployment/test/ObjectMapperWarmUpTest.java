@@ -0,0 +1,156 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import javax.inject.Singleton;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+
+import io.quarkus.jackson.ObjectMapperCustomizer;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ObjectMapperWarmUpTest {
+
+    static final Set<Class<?>> SERIALIZED = ConcurrentHashMap.newKeySet();
+    static final Set<Class<?>> DESERIALIZED = ConcurrentHashMap.newKeySet();
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(new Supplier<>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(WarmUpResource.class, JsonOutput.class, JsonInput.class, DefaultOutput.class,
+                                    TextOutput.class, TextInput.class, RecordingCustomizer.class);
+                }
+            });
+
+    @Test
+    public void testWarmUp() {
+        // no request was sent, the (de)serializers were resolved at startup
+        // the endpoint without @Produces defaults to JSON as it returns an application class
+        assertEquals(Set.of(JsonOutput.class, DefaultOutput.class), SERIALIZED);
+        assertEquals(Set.of(JsonInput.class), DESERIALIZED);
+    }
+
+    @Path("warm-up")
+    public static class WarmUpResource {
+
+        @Path("json")
+        @GET
+        @Produces(MediaType.APPLICATION_JSON)
+        public List<JsonOutput> jsonOutput() {
+            return List.of(new JsonOutput());
+        }
+
+        @Path("json")
+        @POST
+        @Consumes(MediaType.APPLICATION_JSON)
+        public String jsonInput(JsonInput input) {
+            return input.value;
+        }
+
+        @Path("default")
+        @GET
+        public DefaultOutput defaultOutput() {
+            return new DefaultOutput();
+        }
+
+        @Path("text")
+        @GET
+        @Produces(MediaType.TEXT_PLAIN)
+        public TextOutput textOutput() {
+            return new TextOutput();
+        }
+
+        @Path("text")
+        @POST
+        @Consumes(MediaType.TEXT_PLAIN)
+        public String textInput(TextInput input) {
+            return input.value;
+        }
+
+        @Path("response")
+        @GET
+        @Produces(MediaType.APPLICATION_JSON)
+        public Response response() {
+            return Response.ok(new JsonOutput()).build();
+        }
+    }
+
+    public static class JsonOutput {
+
+        public String value = "json";
+    }
+
+    public static class JsonInput {
+
+        public String value;
+    }
+
+    public static class DefaultOutput {
+
+        public String value = "default";
+    }
+
+    public static class TextOutput {
+
+        public String value = "text";
+    }
+
+    public static class TextInput {
+
+        public String value;
+    }
+
+    @Singleton
+    public static class RecordingCustomizer implements ObjectMapperCustomizer {
+
+        @Override
+        public void customize(ObjectMapper objectMapper) {
+            SimpleModule module = new SimpleModule();
+            module.setSerializerModifier(new BeanSerializerModifier() {
+                @Override
+                public JsonSerializer<?> modifySerializer(SerializationConfig config, BeanDescription beanDesc,
+                        JsonSerializer<?> serializer) {
+                    SERIALIZED.add(beanDesc.getBeanClass());
+                    return serializer;
+                }
+            });
+            module.setDeserializerModifier(new BeanDeserializerModifier() {
+                @Override
+                public JsonDeserializer<?> modifyDeserializer(DeserializationConfig config, BeanDescription beanDesc,
+                        JsonDeserializer<?> deserializer) {
+                    DESERIALIZED.add(beanDesc.getBeanClass());
+                    return deserializer;
+                }
+            });
+            objectMapper.registerModule(module);
+        }
+    }
+}
@@ -2,6 +2,15 @@
 
 import static io.restassured.RestAssured.when;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
 import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
@@ -10,10 +19,12 @@
 import org.hamcrest.CoreMatchers;
 import org.jboss.shrinkwrap.api.ShrinkWrap;
 import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
 
 import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
 import io.smallrye.mutiny.Multi;
 
 public class StreamingTest {
@@ -23,6 +34,9 @@ public class StreamingTest {
             .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
                     .addClasses(StreamingResource.class));
 
+    @TestHTTPResource
+    URI uri;
+
     @Test
     public void testSseMultiJsonString() {
         when().get("/test/multi")
@@ -31,15 +45,67 @@ public void testSseMultiJsonString() {
                 .body(CoreMatchers.is("[\"Hello\",\"Hola\"]"));
     }
 
+    @Test
+    public void testLargeMultiJsonArray() {
+        String body = when().get("/test/large")
+                .then()
+                .statusCode(200)
+                .extract().asString();
+        StringBuilder expected = new StringBuilder("[");
+        for (int i = 0; i < 10_000; i++) {
+            if (i > 0) {
+                expected.append(',');
+            }
+            expected.append(i);
+        }
+        expected.append(']');
+        Assertions.assertEquals(expected.toString(), body);
+    }
+
+    @Test
+    public void testInfiniteMultiJsonArrayClosedByClient() throws Exception {
+        try (Socket socket = new Socket(uri.getHost(), uri.getPort())) {
+            OutputStream out = socket.getOutputStream();
+            out.write(("GET /test/infinite HTTP/1.1\r\nHost: " + uri.getHost() + "\r\n\r\n")
+                    .getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            // wait for the beginning of the array
+            InputStream in = socket.getInputStream();
+            int c;
+            while ((c = in.read()) != -1 && c != '[') {
+            }
+            Assertions.assertEquals('[', c);
+        }
+        Assertions.assertTrue(StreamingResource.CANCELLED.await(10, TimeUnit.SECONDS));
+    }
+
     @Path("/test")
     public static class StreamingResource {
 
+        static final CountDownLatch CANCELLED = new CountDownLatch(1);
+
         @GET
         @Path("multi")
         @Produces(MediaType.APPLICATION_JSON)
         public Multi<String> multi() {
             return Multi.createFrom().items("Hello", "Hola");
         }
+
+        @GET
+        @Path("large")
+        @Produces(MediaType.APPLICATION_JSON)
+        public Multi<Integer> large() {
+            return Multi.createFrom().range(0, 10_000);
+        }
+
+        @GET
+        @Path("infinite")
+        @Produces(MediaType.APPLICATION_JSON)
+        public Multi<Long> infinite() {
+            return Multi.createFrom().ticks().every(Duration.ofMillis(10))
+                    .onOverflow().drop()
+                    .onCancellation().invoke(CANCELLED::countDown);
+        }
     }
 
 }
@@ -3,17 +3,23 @@
 import java.lang.reflect.Type;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.BiFunction;
 
+import org.jboss.logging.Logger;
+
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
 
+import io.quarkus.arc.runtime.BeanContainer;
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
 
 @Recorder
 public class ResteasyReactiveServerJacksonRecorder {
 
+    private static final Logger log = Logger.getLogger(ResteasyReactiveServerJacksonRecorder.class);
+
     private static final Map<String, Class<?>> jsonViewMap = new HashMap<>();
     private static final Map<String, Class<?>> customSerializationMap = new HashMap<>();
 
@@ -25,6 +31,31 @@ public void recordCustomSerialization(String methodId, String className) {
         customSerializationMap.put(methodId, loadClass(className));
     }
 
+    /**
+     * Resolves the serializers and deserializers of the types used by the resource methods upfront. The
+     * {@link ObjectMapper} caches them, so the bean introspection is not done while serving the first requests.
+     */
+    public void warmUpObjectMapper(BeanContainer beanContainer, Set<String> serializedClassNames,
+            Set<String> deserializedClassNames) {
+        ObjectMapper mapper = beanContainer.beanInstance(ObjectMapper.class);
+        for (String className : serializedClassNames) {
+            try {
+                // the serializer is fetched eagerly when the writer is created
+                mapper.writerFor(loadClass(className));
+            } catch (Exception e) {
+                log.debugf(e, "Unable to resolve the serializer for %s", className);
+            }
+        }
+        for (String className : deserializedClassNames) {
+            try {
+                // the deserializer is fetched eagerly when the reader is created
+                mapper.readerFor(loadClass(className));
+            } catch (Exception e) {
+                log.debugf(e, "Unable to resolve the deserializer for %s", className);
+            }
+        }
+    }
+
     public void configureShutdown(ShutdownContext shutdownContext) {
         shutdownContext.addShutdownTask(new Runnable() {
             @Override
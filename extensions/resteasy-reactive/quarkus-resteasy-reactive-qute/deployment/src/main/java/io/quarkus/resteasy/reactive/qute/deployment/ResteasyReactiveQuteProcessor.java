@@ -7,6 +7,9 @@
 import java.util.List;
 import java.util.Map;
 
+import javax.ws.rs.RuntimeType;
+import javax.ws.rs.core.MediaType;
+
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.MethodInfo;
@@ -22,11 +25,14 @@
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveHierarchyIgnoreWarningBuildItem;
 import io.quarkus.qute.TemplateInstance;
+import io.quarkus.resteasy.reactive.qute.runtime.TemplateOutput;
+import io.quarkus.resteasy.reactive.qute.runtime.TemplateOutputMessageBodyWriter;
 import io.quarkus.resteasy.reactive.qute.runtime.TemplateResponseFilter;
 import io.quarkus.resteasy.reactive.qute.runtime.TemplateResponseUniHandler;
 import io.quarkus.resteasy.reactive.server.spi.MethodScannerBuildItem;
 import io.quarkus.resteasy.reactive.server.spi.NonBlockingReturnTypeBuildItem;
 import io.quarkus.resteasy.reactive.spi.CustomContainerResponseFilterBuildItem;
+import io.quarkus.resteasy.reactive.spi.MessageBodyWriterBuildItem;
 
 public class ResteasyReactiveQuteProcessor {
 
@@ -42,6 +48,17 @@ CustomContainerResponseFilterBuildItem registerProviders() {
         return new CustomContainerResponseFilterBuildItem(TemplateResponseFilter.class.getName());
     }
 
+    @BuildStep
+    MessageBodyWriterBuildItem registerTemplateOutputWriter() {
+        // The same media types as for the rendered String
+        return new MessageBodyWriterBuildItem.Builder(TemplateOutputMessageBodyWriter.class.getName(),
+                TemplateOutput.class.getName())
+                .setMediaTypeStrings(List.of(MediaType.TEXT_PLAIN, MediaType.WILDCARD))
+                .setRuntimeType(RuntimeType.SERVER)
+                .setBuiltin(true)
+                .build();
+    }
+
     @BuildStep
     ReflectiveHierarchyIgnoreWarningBuildItem ignoreReflectiveWarning() {
         return new ReflectiveHierarchyIgnoreWarningBuildItem(
@@ -0,0 +1,70 @@
+package io.quarkus.resteasy.reactive.qute.deployment;
+
+import static io.restassured.RestAssured.when;
+
+import java.nio.charset.StandardCharsets;
+
+import javax.inject.Inject;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.ext.Provider;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.Template;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class LargeTemplateTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(TestResource.class, EntityTypeFilter.class)
+                    .addAsResource(new StringAsset("{#for i in count}{name}:{i};{/for}"), "templates/items.txt"));
+
+    @Test
+    public void testResponseFilterSeesRenderedString() {
+        StringBuilder expected = new StringBuilder();
+        for (int i = 1; i <= 5000; i++) {
+            expected.append("Čolek 😀:").append(i).append(";");
+        }
+        when().get("/items").then().statusCode(200)
+                .header("Content-Length", String.valueOf(expected.toString().getBytes(StandardCharsets.UTF_8).length))
+                // Response filters see the rendered String
+                .header("X-Entity-Type", String.class.getName())
+                .body(Matchers.is(expected.toString()));
+    }
+
+    @Path("items")
+    public static class TestResource {
+
+        @Inject
+        Template items;
+
+        @GET
+        @Produces(MediaType.TEXT_PLAIN + ";charset=UTF-8")
+        public TemplateInstance get() {
+            return items.data("name", "Čolek 😀").data("count", 5000);
+        }
+    }
+
+    @Provider
+    public static class EntityTypeFilter implements ContainerResponseFilter {
+
+        @Override
+        public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+            if (responseContext.getEntity() != null) {
+                responseContext.getHeaders().putSingle("X-Entity-Type", responseContext.getEntity().getClass().getName());
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package io.quarkus.resteasy.reactive.qute.deployment;
+
+import static io.restassured.RestAssured.when;
+
+import java.nio.charset.StandardCharsets;
+
+import javax.inject.Inject;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.MediaType;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.Template;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class StreamingTemplateTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(TestResource.class)
+                    .addAsResource(new StringAsset("{#for i in count}{name}:{i};{/for}"), "templates/items.txt"));
+
+    @Test
+    public void testLargeOutputIsChunked() {
+        StringBuilder expected = new StringBuilder();
+        for (int i = 1; i <= 5000; i++) {
+            expected.append("Čolek 😀:").append(i).append(";");
+        }
+        // No response filter or writer interceptor is registered so the output is streamed
+        when().get("/items?count=5000").then().statusCode(200)
+                .header("Transfer-Encoding", "chunked")
+                .header("Content-Length", Matchers.nullValue())
+                .body(Matchers.is(expected.toString()));
+    }
+
+    @Test
+    public void testSmallOutputHasContentLength() {
+        String expected = "Čolek 😀:1;";
+        when().get("/items?count=1").then().statusCode(200)
+                .header("Content-Length", String.valueOf(expected.getBytes(StandardCharsets.UTF_8).length))
+                .body(Matchers.is(expected));
+    }
+
+    @Path("items")
+    public static class TestResource {
+
+        @Inject
+        Template items;
+
+        @GET
+        @Produces(MediaType.TEXT_PLAIN + ";charset=UTF-8")
+        public TemplateInstance get(@QueryParam("count") int count) {
+            return items.data("name", "Čolek 😀").data("count", count);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package io.quarkus.resteasy.reactive.qute.runtime;
+
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.TemplateInstance;
+
+/**
+ * The response entity of a template that is streamed to the client, i.e. the output is encoded and written in chunks
+ * while the template is rendered.
+ * <p>
+ * This entity is only used if no response filter and no writer interceptor can observe it. Otherwise the rendered
+ * {@code String} is the response entity.
+ *
+ * @see TemplateOutputMessageBodyWriter
+ */
+public final class TemplateOutput {
+
+    private final TemplateInstance instance;
+    private final Engine engine;
+
+    TemplateOutput(TemplateInstance instance, Engine engine) {
+        this.instance = instance;
+        this.engine = engine;
+    }
+
+    CompletionStage<Void> consume(Consumer<String> consumer) {
+        return Util.consume(instance, engine, consumer);
+    }
+
+    String render() {
+        return instance.render();
+    }
+
+}
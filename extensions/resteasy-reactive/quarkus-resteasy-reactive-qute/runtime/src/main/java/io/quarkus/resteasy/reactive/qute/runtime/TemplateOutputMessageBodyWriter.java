@@ -0,0 +1,149 @@
+package io.quarkus.resteasy.reactive.qute.runtime;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.Provider;
+
+import org.jboss.logging.Logger;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
+import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyWriter;
+import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
+
+@Provider
+public class TemplateOutputMessageBodyWriter implements ServerMessageBodyWriter<TemplateOutput> {
+
+    private static final Logger LOG = Logger.getLogger(TemplateOutputMessageBodyWriter.class);
+
+    static final int CHUNK_SIZE = 8192;
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, ResteasyReactiveResourceInfo target, MediaType mediaType) {
+        return true;
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return true;
+    }
+
+    @Override
+    public void writeResponse(TemplateOutput output, Type genericType, ServerRequestContext context)
+            throws WebApplicationException {
+        ResteasyReactiveRequestContext ctx = (ResteasyReactiveRequestContext) context;
+        ctx.suspend();
+        ChunkWriter writer = new ChunkWriter(context.serverResponse());
+        output.consume(writer).whenComplete(new BiConsumer<Void, Throwable>() {
+            @Override
+            public void accept(Void ignored, Throwable t) {
+                if (t == null) {
+                    writer.end();
+                    ctx.resume();
+                    return;
+                }
+                // E.g. the rendering timeout occurred - the rest of the output is ignored
+                writer.abort();
+                if (writer.started()) {
+                    // The status and headers were sent already
+                    LOG.errorf(t, "Unable to write the output of a template");
+                    ctx.serverRequest().closeConnection();
+                    ctx.close();
+                } else {
+                    ctx.resume(Util.unwrap(t));
+                }
+            }
+        });
+    }
+
+    @Override
+    public void writeTo(TemplateOutput output, Class<?> type, Type genericType, Annotation[] annotations,
+            MediaType mediaType, MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream)
+            throws IOException, WebApplicationException {
+        entityStream.write(output.render().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Encodes the parts of the output and writes a chunk to the response as soon as it's full. The output of a template
+     * that does not fill a chunk is written with a known {@code Content-Length}.
+     */
+    static final class ChunkWriter implements Consumer<String> {
+
+        private static final Consumer<Throwable> WRITE_FAILURE_HANDLER = new Consumer<Throwable>() {
+            @Override
+            public void accept(Throwable t) {
+                if (t != null) {
+                    LOG.debugf(t, "Unable to write a chunk of the template output");
+                }
+            }
+        };
+
+        private final ServerHttpResponse response;
+        private byte[] chunk;
+        private int position;
+        private boolean started;
+        private volatile boolean aborted;
+
+        ChunkWriter(ServerHttpResponse response) {
+            this.response = response;
+            this.chunk = new byte[CHUNK_SIZE];
+        }
+
+        @Override
+        public void accept(String part) {
+            if (aborted || response.closed()) {
+                return;
+            }
+            // The same encoding as the rendered String written by the default writer
+            byte[] bytes = part.getBytes(StandardCharsets.UTF_8);
+            int offset = 0;
+            while (offset < bytes.length) {
+                int length = Math.min(CHUNK_SIZE - position, bytes.length - offset);
+                System.arraycopy(bytes, offset, chunk, position, length);
+                position += length;
+                offset += length;
+                if (position == CHUNK_SIZE) {
+                    flush();
+                }
+            }
+        }
+
+        void abort() {
+            aborted = true;
+        }
+
+        boolean started() {
+            return started;
+        }
+
+        void end() {
+            if (response.closed()) {
+                return;
+            }
+            response.end(Arrays.copyOf(chunk, position));
+        }
+
+        private void flush() {
+            if (!started) {
+                // The length is not known until the template is rendered
+                response.setChunked(true);
+                started = true;
+            }
+            // The written array is not copied so a new chunk is needed
+            response.write(chunk, WRITE_FAILURE_HANDLER);
+            chunk = new byte[CHUNK_SIZE];
+            position = 0;
+        }
+    }
+
+}
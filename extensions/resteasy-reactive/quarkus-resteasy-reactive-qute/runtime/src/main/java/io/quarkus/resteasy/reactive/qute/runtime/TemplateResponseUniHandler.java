@@ -3,15 +3,16 @@
 import static io.quarkus.resteasy.reactive.qute.runtime.Util.*;
 import static io.quarkus.resteasy.reactive.qute.runtime.Util.toUni;
 
+import javax.ws.rs.container.ContainerResponseFilter;
 import javax.ws.rs.core.MediaType;
 
 import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.handlers.ResourceResponseFilterHandler;
 import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.qute.Engine;
 import io.quarkus.qute.TemplateInstance;
-import io.smallrye.mutiny.Uni;
 
 public class TemplateResponseUniHandler implements ServerRestHandler {
 
@@ -33,14 +34,37 @@ public void handle(ResteasyReactiveRequestContext requestContext) {
                 }
             }
         }
-        requestContext.setResult(createUni(requestContext, (TemplateInstance) result, engine));
-    }
-
-    private Uni<String> createUni(ResteasyReactiveRequestContext requestContext, TemplateInstance result, Engine engine) {
-        MediaType mediaType = setSelectedVariant(result, requestContext.getRequest(),
+        TemplateInstance instance = (TemplateInstance) result;
+        MediaType mediaType = setSelectedVariant(instance, requestContext.getRequest(),
                 requestContext.getHttpHeaders().getAcceptableLanguages());
         requestContext.setResponseContentType(mediaType);
-        return toUni(result, engine);
+        if (isEntityObservable(requestContext)) {
+            // The rendered String is the response entity so that response filters and writer interceptors can inspect
+            // or rewrite the output
+            requestContext.setResult(toUni(instance, engine));
+        } else {
+            // The output is streamed to the client
+            requestContext.setResult(new TemplateOutput(instance, engine));
+        }
+    }
+
+    private boolean isEntityObservable(ResteasyReactiveRequestContext requestContext) {
+        if (requestContext.getWriterInterceptors() != null) {
+            return true;
+        }
+        ServerRestHandler[] handlers = requestContext.getHandlers();
+        for (int i = requestContext.getPosition(); i < handlers.length; i++) {
+            if (handlers[i] instanceof ResourceResponseFilterHandler
+                    && !isTemplateResponseFilter(((ResourceResponseFilterHandler) handlers[i]).getFilter())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isTemplateResponseFilter(ContainerResponseFilter filter) {
+        // The filter generated for TemplateResponseFilter only renders a TemplateInstance entity
+        return filter.getClass().getName().startsWith(TemplateResponseFilter.class.getName() + "$");
     }
 
 }
@@ -4,6 +4,11 @@
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
 
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Request;
@@ -30,6 +35,26 @@ static Uni<String> toUni(TemplateInstance instance, Engine engine) {
         return uni;
     }
 
+    static CompletionStage<Void> consume(TemplateInstance instance, Engine engine, Consumer<String> consumer) {
+        CompletionStage<Void> cs = instance.consume(consumer);
+        if (!engine.useAsyncTimeout()) {
+            // Make sure the timeout is always used
+            long timeout = instance.getTimeout();
+            cs = cs.toCompletableFuture().orTimeout(timeout, TimeUnit.MILLISECONDS).exceptionally(t -> {
+                Throwable cause = unwrap(t);
+                if (cause instanceof TimeoutException) {
+                    throw new TemplateException(instance + " rendering timeout [" + timeout + "ms] occurred");
+                }
+                throw new CompletionException(cause);
+            });
+        }
+        return cs;
+    }
+
+    static Throwable unwrap(Throwable t) {
+        return t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+    }
+
     @SuppressWarnings("unchecked")
     static MediaType setSelectedVariant(TemplateInstance result,
             Request request, List<Locale> acceptableLanguages) {
@@ -1321,12 +1321,14 @@ private <T> T getEffectivePropertyValue(String legacyPropertyName, T newProperty
     public void runtimeConfiguration(ResteasyReactiveRuntimeRecorder recorder,
             Optional<ResteasyReactiveDeploymentBuildItem> deployment,
             ResteasyReactiveServerRuntimeConfig resteasyReactiveServerRuntimeConf,
+            ShutdownContextBuildItem shutdownContext,
             BuildProducer<HandlerConfigurationProviderBuildItem> producer) {
         if (deployment.isEmpty()) {
             return;
         }
         producer.produce(new HandlerConfigurationProviderBuildItem(RuntimeConfiguration.class,
-                recorder.runtimeConfiguration(deployment.get().getDeployment(), resteasyReactiveServerRuntimeConf)));
+                recorder.runtimeConfiguration(deployment.get().getDeployment(), resteasyReactiveServerRuntimeConf,
+                        shutdownContext)));
     }
 
     @BuildStep
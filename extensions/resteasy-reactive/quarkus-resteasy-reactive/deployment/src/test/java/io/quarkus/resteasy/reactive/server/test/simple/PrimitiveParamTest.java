@@ -0,0 +1,95 @@
+package io.quarkus.resteasy.reactive.server.test.simple;
+
+import static io.restassured.RestAssured.get;
+
+import java.util.List;
+
+import javax.ws.rs.DefaultValue;
+import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.QueryParam;
+
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class PrimitiveParamTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(PrimitiveResource.class));
+
+    @Test
+    public void primitives() {
+        get("/primitive/query?i=42&l=10000000000&b=true&d=1.5&s=7&by=3")
+                .then()
+                .statusCode(200)
+                .body(Matchers.equalTo("42/10000000000/true/1.5/7/3"));
+    }
+
+    @Test
+    public void missingPrimitives() {
+        get("/primitive/query")
+                .then()
+                .statusCode(200)
+                .body(Matchers.equalTo("0/0/false/0.0/0/0"));
+    }
+
+    @Test
+    public void defaultValues() {
+        get("/primitive/default")
+                .then()
+                .statusCode(200)
+                .body(Matchers.equalTo("5/true/-1"));
+        get("/primitive/default?i=6&b=false")
+                .then()
+                .statusCode(200)
+                .body(Matchers.equalTo("6/false/-1"));
+    }
+
+    @Test
+    public void wrappers() {
+        get("/primitive/wrapper/12?i=1&i=2")
+                .then()
+                .statusCode(200)
+                .body(Matchers.equalTo("12/[1, 2]/null"));
+    }
+
+    @Test
+    public void invalidValue() {
+        get("/primitive/query?i=foo")
+                .then()
+                .statusCode(404);
+    }
+
+    @Path("primitive")
+    public static class PrimitiveResource {
+
+        @Path("query")
+        @GET
+        public String query(@QueryParam("i") int i, @QueryParam("l") long l, @QueryParam("b") boolean b,
+                @QueryParam("d") double d, @QueryParam("s") short s, @QueryParam("by") byte by) {
+            return i + "/" + l + "/" + b + "/" + d + "/" + s + "/" + by;
+        }
+
+        @Path("default")
+        @GET
+        public String defaultValues(@DefaultValue("5") @QueryParam("i") int i,
+                @DefaultValue("true") @QueryParam("b") boolean b,
+                @DefaultValue("-1") @HeaderParam("h") Long h) {
+            return i + "/" + b + "/" + h;
+        }
+
+        @Path("wrapper/{id}")
+        @GET
+        public String wrappers(@PathParam("id") Integer id, @QueryParam("i") List<Integer> i,
+                @QueryParam("missing") Long missing) {
+            return id + "/" + i + "/" + missing;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package io.quarkus.resteasy.reactive.server.test.virtual;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.logging.LogRecord;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.smallrye.common.annotation.RunOnVirtualThread;
+
+public class TracePinnedThreadsTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(PinningResource.class))
+            .overrideConfigKey("quarkus.resteasy-reactive.virtual-threads.trace-pinned-threads", "true")
+            .setLogRecordPredicate(r -> r.getLoggerName().startsWith("io.quarkus.resteasy.reactive.server.runtime"));
+
+    @Test
+    public void testTracePinnedThreads() {
+        // the JVM-wide property is not used, it would also affect the other applications
+        assertNull(System.getProperty("jdk.tracePinnedThreads"));
+
+        RestAssured.get("/pinning").then().statusCode(200).body(is("pinned"));
+
+        if (Runtime.version().feature() < 19) {
+            assertTrue(test.getLogRecords().stream().anyMatch(r -> message(r).startsWith("The pinned virtual threads")));
+            return;
+        }
+        // the virtual threads are a preview feature in Java 19 and 20
+        Assumptions.assumeTrue(Runtime.version().feature() >= 21);
+        // the events are streamed by JFR in batches
+        Awaitility.await().atMost(Duration.ofSeconds(10))
+                .untilAsserted(() -> assertTrue(test.getLogRecords().stream()
+                        .anyMatch(r -> message(r).contains(PinningResource.class.getName() + ".pinned"))));
+    }
+
+    private static String message(LogRecord record) {
+        return String.valueOf(record.getMessage());
+    }
+
+    @Path("pinning")
+    public static class PinningResource {
+
+        private final Object lock = new Object();
+
+        @RunOnVirtualThread
+        @GET
+        public String pinned() throws InterruptedException {
+            // sleeping in a synchronized block pins the virtual thread to its carrier thread
+            synchronized (lock) {
+                Thread.sleep(50);
+            }
+            return "pinned";
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package io.quarkus.resteasy.reactive.server.runtime;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.function.Consumer;
+
+import org.jboss.logging.Logger;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedMethod;
+import jdk.jfr.consumer.RecordedStackTrace;
+
+/**
+ * Logs the virtual threads that block while pinned to their carrier thread, e.g. inside a {@code synchronized} block.
+ * <p>
+ * The {@code jdk.VirtualThreadPinned} JFR event is consumed by a recording stream, unlike the
+ * {@code jdk.tracePinnedThreads} system property it does not affect the whole JVM, it works even if a virtual thread was
+ * already created and the stack traces are logged instead of being printed to the standard output. The recording
+ * stream API is not available in Java 11, so it is accessed reflectively like the virtual threads executor.
+ */
+final class PinnedThreadsTracer {
+
+    private static final Logger log = Logger.getLogger(PinnedThreadsTracer.class);
+
+    private static final String VIRTUAL_THREAD_PINNED = "jdk.VirtualThreadPinned";
+
+    // the threshold of the event in the default JFR configuration
+    private static final Duration THRESHOLD = Duration.ofMillis(20);
+
+    private PinnedThreadsTracer() {
+    }
+
+    /**
+     *
+     * @return the tracer to close once the tracing is not needed anymore, or {@code null} if the JDK does not support
+     *         virtual threads or the JFR event streaming
+     */
+    static Closeable start() {
+        try {
+            // the method was added together with the virtual threads
+            Thread.class.getMethod("isVirtual");
+            Class<?> streamClass = Class.forName("jdk.jfr.consumer.RecordingStream");
+            Object stream = streamClass.getConstructor().newInstance();
+            Object settings = streamClass.getMethod("enable", String.class).invoke(stream, VIRTUAL_THREAD_PINNED);
+            Class<?> settingsClass = Class.forName("jdk.jfr.EventSettings");
+            settingsClass.getMethod("withStackTrace").invoke(settings);
+            settingsClass.getMethod("withThreshold", Duration.class).invoke(settings, THRESHOLD);
+            Consumer<RecordedEvent> consumer = PinnedThreadsTracer::log;
+            streamClass.getMethod("onEvent", String.class, Consumer.class).invoke(stream, VIRTUAL_THREAD_PINNED, consumer);
+            streamClass.getMethod("startAsync").invoke(stream);
+            return new Closeable() {
+                @Override
+                public void close() {
+                    try {
+                        streamClass.getMethod("close").invoke(stream);
+                    } catch (ReflectiveOperationException e) {
+                        log.debug("Unable to close the recording stream of pinned virtual threads", e);
+                    }
+                }
+            };
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.debug("Unable to trace the pinned virtual threads", e);
+            return null;
+        }
+    }
+
+    private static void log(RecordedEvent event) {
+        StringBuilder message = new StringBuilder("A virtual thread was pinned to its carrier thread for ")
+                .append(event.getDuration().toMillis()).append(" ms");
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace != null) {
+            for (RecordedFrame frame : stackTrace.getFrames()) {
+                RecordedMethod method = frame.getMethod();
+                message.append("\n\tat ").append(method.getType().getName()).append('.').append(method.getName());
+                if (frame.isJavaFrame() && frame.getLineNumber() >= 0) {
+                    message.append(':').append(frame.getLineNumber());
+                }
+            }
+        }
+        log.warn(message);
+    }
+}
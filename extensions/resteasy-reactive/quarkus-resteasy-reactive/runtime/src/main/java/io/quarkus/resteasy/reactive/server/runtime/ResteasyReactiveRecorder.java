@@ -74,7 +74,7 @@ public Executor get() {
         }
     };
     public static final Supplier<Executor> VIRTUAL_EXECUTOR_SUPPLIER = new Supplier<Executor>() {
-        Executor current = null;
+        volatile Executor current = null;
 
         /**
          * This method is used to specify a custom executor to dispatch virtual threads on carrier threads
@@ -104,21 +104,30 @@ private Executor setVirtualThreadCustomScheduler(Executor executor) throws Class
          */
         @Override
         public Executor get() {
-            if (current == null) {
-                try {
-                    current = (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor")
-                            .invoke(this);
-                } catch (InvocationTargetException | IllegalAccessException | NoSuchMethodException e) {
-                    System.err.println(e);
-                    //quite ugly but works
-                    logger.warnf("You weren't able to create an executor that spawns virtual threads, the default" +
-                            " blocking executor will be used, please check that your JDK is compatible with " +
-                            "virtual threads");
-                    //if for some reason a class/method can't be loaded or invoked we return the traditional EXECUTOR
-                    current = EXECUTOR_SUPPLIER.get();
+            Executor executor = current;
+            if (executor == null) {
+                synchronized (this) {
+                    executor = current;
+                    if (executor == null) {
+                        executor = current = create();
+                    }
                 }
             }
-            return current;
+            return executor;
+        }
+
+        private Executor create() {
+            try {
+                return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor")
+                        .invoke(this);
+            } catch (InvocationTargetException | IllegalAccessException | NoSuchMethodException e) {
+                //quite ugly but works
+                logger.warnf(e, "You weren't able to create an executor that spawns virtual threads, the default" +
+                        " blocking executor will be used, please check that your JDK is compatible with " +
+                        "virtual threads");
+                //if for some reason a class/method can't be loaded or invoked we return the traditional EXECUTOR
+                return EXECUTOR_SUPPLIER.get();
+            }
         }
     };
 
@@ -1,22 +1,27 @@
 package io.quarkus.resteasy.reactive.server.runtime;
 
+import java.io.Closeable;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
 
+import org.jboss.logging.Logger;
 import org.jboss.resteasy.reactive.server.core.Deployment;
 import org.jboss.resteasy.reactive.server.spi.DefaultRuntimeConfiguration;
 import org.jboss.resteasy.reactive.server.spi.GenericRuntimeConfigurableServerRestHandler;
 import org.jboss.resteasy.reactive.server.spi.RuntimeConfiguration;
 
 import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.vertx.http.runtime.HttpConfiguration;
 
 @Recorder
 public class ResteasyReactiveRuntimeRecorder {
 
+    private static final Logger log = Logger.getLogger(ResteasyReactiveRuntimeRecorder.class);
+
     final HttpConfiguration httpConf;
 
     public ResteasyReactiveRuntimeRecorder(HttpConfiguration httpConf) {
@@ -24,7 +29,7 @@ public ResteasyReactiveRuntimeRecorder(HttpConfiguration httpConf) {
     }
 
     public Supplier<RuntimeConfiguration> runtimeConfiguration(RuntimeValue<Deployment> deployment,
-            ResteasyReactiveServerRuntimeConfig runtimeConf) {
+            ResteasyReactiveServerRuntimeConfig runtimeConf, ShutdownContext shutdownContext) {
         Optional<Long> maxBodySize;
 
         if (httpConf.limits.maxBodySize.isPresent()) {
@@ -40,6 +45,16 @@ public Supplier<RuntimeConfiguration> runtimeConfiguration(RuntimeValue<Deployme
 
         deployment.getValue().setRuntimeConfiguration(runtimeConfiguration);
 
+        if (runtimeConf.virtualThreads.tracePinnedThreads) {
+            Closeable tracer = PinnedThreadsTracer.start();
+            if (tracer == null) {
+                log.warn("The pinned virtual threads are not traced, the JDK does not support virtual threads or the"
+                        + " JFR event streaming");
+            } else {
+                shutdownContext.addShutdownTask(new ShutdownContext.CloseRunnable(tracer));
+            }
+        }
+
         return new Supplier<>() {
             @Override
             public RuntimeConfiguration get() {
@@ -16,6 +16,12 @@ public class ResteasyReactiveServerRuntimeConfig {
     @ConfigItem
     public MultipartConfigGroup multipart;
 
+    /**
+     * Virtual threads configuration.
+     */
+    @ConfigItem
+    public VirtualThreadsConfigGroup virtualThreads;
+
     @ConfigGroup
     public static class MultipartConfigGroup {
 
@@ -35,4 +41,20 @@ public static class InputPartConfigGroup {
         @ConfigItem(defaultValue = "UTF-8")
         public Charset defaultCharset;
     }
+
+    @ConfigGroup
+    public static class VirtualThreadsConfigGroup {
+
+        /**
+         * If enabled, the stack trace of a virtual thread is logged when it blocks while pinned to its carrier thread,
+         * for example inside a {@code synchronized} block. Pinned virtual threads block the carrier thread, so methods
+         * annotated with {@code @RunOnVirtualThread} should avoid it.
+         * <p>
+         * The {@code jdk.VirtualThreadPinned} JFR event is used, i.e. only the threads pinned for at least 20 ms are
+         * logged. A warning is logged if the JDK does not support virtual threads or the JFR event streaming, e.g. in
+         * a native executable.
+         */
+        @ConfigItem(defaultValue = "false")
+        public boolean tracePinnedThreads;
+    }
 }
@@ -1,6 +1,7 @@
 package io.quarkus.resteasy.reactive.runtime.mapping;
 
 import java.util.ArrayList;
+import java.util.List;
 
 import org.jboss.resteasy.reactive.server.mapping.RequestMapper;
 import org.jboss.resteasy.reactive.server.mapping.URITemplate;
@@ -34,6 +35,44 @@ public void testPathMapper() {
 
     }
 
+    @Test
+    public void testLargeRouteTable() {
+        List<String> templates = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            templates.add("/api/resource" + i);
+            templates.add("/api/resource" + i + "/{id}");
+            templates.add("/api/resource" + i + "/{id}/items/{item}");
+        }
+        templates.add("/api/{name}/{id:\\d+}");
+        RequestMapper<String> mapper = mapper(templates.toArray(new String[0]));
+
+        RequestMapper.RequestMatch<String> result = mapper.map("/api/resource42");
+        Assertions.assertEquals("/api/resource42", result.value);
+        result = mapper.map("/api/resource199/abc/items/def");
+        Assertions.assertEquals("/api/resource199/{id}/items/{item}", result.value);
+        Assertions.assertEquals("abc", result.pathParamValues[0]);
+        Assertions.assertEquals("def", result.pathParamValues[1]);
+        result = mapper.map("/api/resource7/abc/");
+        Assertions.assertEquals("/api/resource7/{id}", result.value);
+        Assertions.assertEquals("abc", result.pathParamValues[0]);
+        result = mapper.map("/api/other/15");
+        Assertions.assertEquals("/api/{name}/{id:\\d+}", result.value);
+        Assertions.assertEquals("other", result.pathParamValues[0]);
+        Assertions.assertEquals("15", result.pathParamValues[1]);
+        Assertions.assertNull(mapper.map("/api/resource1/abc/items"));
+        Assertions.assertNull(mapper.map("/api/other/abc"));
+    }
+
+    @Test
+    public void testCustomRegexPriority() {
+        RequestMapper<String> mapper = mapper("/foo/{id}", "/foo/{id:[a-z]+}", "/foo/{id}.json");
+        Assertions.assertEquals("/foo/{id:[a-z]+}", mapper.map("/foo/abc").value);
+        Assertions.assertEquals("/foo/{id}", mapper.map("/foo/123").value);
+        RequestMapper.RequestMatch<String> result = mapper.map("/foo/123.json");
+        Assertions.assertEquals("/foo/{id}.json", result.value);
+        Assertions.assertEquals("123", result.pathParamValues[0]);
+    }
+
     RequestMapper<String> mapper(String... vals) {
         ArrayList<RequestMapper.RequestPath<String>> list = new ArrayList<>();
         for (String i : vals) {
@@ -0,0 +1,23 @@
+package io.quarkus.vertx.http.deployment;
+
+import java.util.Set;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+/**
+ * The paths of the static resources for which a gzip compressed variant was generated at build time.
+ * <p>
+ * The variant of a resource is available under {@code META-INF/resources} + path + {@code .gz}.
+ */
+public final class PrecompressedStaticResourcesBuildItem extends SimpleBuildItem {
+
+    private final Set<String> paths;
+
+    public PrecompressedStaticResourcesBuildItem(Set<String> paths) {
+        this.paths = paths;
+    }
+
+    public Set<String> getPaths() {
+        return paths;
+    }
+}
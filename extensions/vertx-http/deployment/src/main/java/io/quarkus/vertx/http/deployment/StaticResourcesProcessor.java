@@ -2,6 +2,7 @@
 
 import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.FileVisitResult;
@@ -15,6 +16,9 @@
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
 
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.builder.item.SimpleBuildItem;
@@ -25,19 +29,27 @@
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
+import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
+import io.quarkus.deployment.builditem.LaunchModeBuildItem;
+import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.deployment.pkg.steps.NativeOrNativeSourcesBuild;
+import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.util.ClassPathUtils;
 import io.quarkus.vertx.core.deployment.CoreVertxBuildItem;
 import io.quarkus.vertx.http.deployment.spi.AdditionalStaticResourceBuildItem;
+import io.quarkus.vertx.http.runtime.HttpBuildTimeConfig;
 import io.quarkus.vertx.http.runtime.HttpConfiguration;
 import io.quarkus.vertx.http.runtime.StaticResourcesRecorder;
+import io.vertx.core.http.impl.MimeMapping;
 
 /**
  * Handles all static file resources found in {@code META-INF/resources} unless the servlet container is present.
  */
 public class StaticResourcesProcessor {
 
+    private static final String GZIP_SUFFIX = ".gz";
+
     @Deprecated
     public static final class StaticResourcesBuildItem extends SimpleBuildItem {
 
@@ -121,18 +133,73 @@ void collectStaticResources(Capabilities capabilities, ApplicationArchivesBuildI
         }
     }
 
+    @BuildStep
+    void precompressStaticResources(HttpBuildTimeConfig httpBuildTimeConfig, LaunchModeBuildItem launchMode,
+            ApplicationArchivesBuildItem applicationArchivesBuildItem,
+            Optional<io.quarkus.vertx.http.deployment.spi.StaticResourcesBuildItem> staticResources,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources,
+            BuildProducer<PrecompressedStaticResourcesBuildItem> precompressedResources) throws Exception {
+        if (!httpBuildTimeConfig.enableCompression || !httpBuildTimeConfig.precompressStaticResources
+                || httpBuildTimeConfig.compressMediaTypes.isEmpty() || staticResources.isEmpty()
+                || launchMode.getLaunchMode() == LaunchMode.DEVELOPMENT) {
+            // in dev mode the resources may change at any time
+            return;
+        }
+        Set<String> compressMediaTypes = Set.copyOf(httpBuildTimeConfig.compressMediaTypes.get());
+        Set<String> knownPaths = staticResources.get().getPaths();
+        Set<String> precompressed = new HashSet<>();
+        Consumer<Path> precompress = new Consumer<Path>() {
+            @Override
+            public void accept(Path resource) {
+                try (Stream<Path> files = Files.walk(resource)) {
+                    files.filter(Files::isRegularFile).forEach(file -> {
+                        // Windows has a backslash
+                        String path = "/" + resource.relativize(file).toString().replace('\\', '/');
+                        String contentType = MimeMapping.getMimeTypeForFilename(path);
+                        if (contentType == null || !compressMediaTypes.contains(contentType)
+                                || knownPaths.contains(path + GZIP_SUFFIX) || !precompressed.add(path)) {
+                            return;
+                        }
+                        generatedResources.produce(new GeneratedResourceBuildItem(
+                                StaticResourcesRecorder.META_INF_RESOURCES + path + GZIP_SUFFIX, gzip(file)));
+                    });
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+        for (ApplicationArchive i : applicationArchivesBuildItem.getAllApplicationArchives()) {
+            i.accept(tree -> {
+                Path resource = tree.getPath(StaticResourcesRecorder.META_INF_RESOURCES);
+                if (resource != null && Files.exists(resource)) {
+                    precompress.accept(resource);
+                }
+            });
+        }
+        ClassPathUtils.consumeAsPaths(StaticResourcesRecorder.META_INF_RESOURCES, precompress);
+        if (!precompressed.isEmpty()) {
+            precompressedResources.produce(new PrecompressedStaticResourcesBuildItem(precompressed));
+        }
+    }
+
     @BuildStep
     @Record(RUNTIME_INIT)
     public void runtimeInit(Optional<io.quarkus.vertx.http.deployment.spi.StaticResourcesBuildItem> staticResources,
+            Optional<PrecompressedStaticResourcesBuildItem> precompressedResources,
             StaticResourcesRecorder recorder, CoreVertxBuildItem vertx, BeanContainerBuildItem beanContainer,
-            BuildProducer<DefaultRouteBuildItem> defaultRoutes, HttpConfiguration config) {
+            BuildProducer<DefaultRouteBuildItem> defaultRoutes, HttpConfiguration config,
+            ShutdownContextBuildItem shutdownContext) {
         if (staticResources.isPresent()) {
-            defaultRoutes.produce(new DefaultRouteBuildItem(recorder.start(staticResources.get().getPaths())));
+            Set<String> precompressedPaths = precompressedResources.isPresent() ? precompressedResources.get().getPaths()
+                    : Set.of();
+            defaultRoutes.produce(new DefaultRouteBuildItem(
+                    recorder.start(staticResources.get().getPaths(), precompressedPaths, shutdownContext)));
         }
     }
 
     @BuildStep(onlyIf = NativeOrNativeSourcesBuild.class)
     public void nativeImageResource(Optional<io.quarkus.vertx.http.deployment.spi.StaticResourcesBuildItem> staticResources,
+            Optional<PrecompressedStaticResourcesBuildItem> precompressedResources,
             BuildProducer<NativeImageResourceBuildItem> producer) {
         if (staticResources.isPresent()) {
             Set<io.quarkus.vertx.http.deployment.spi.StaticResourcesBuildItem.Entry> entries = staticResources.get()
@@ -146,10 +213,27 @@ public void nativeImageResource(Optional<io.quarkus.vertx.http.deployment.spi.St
                 String metaInfResourcesPath = StaticResourcesRecorder.META_INF_RESOURCES + entry.getPath();
                 metaInfResources.add(metaInfResourcesPath);
             }
+            if (precompressedResources.isPresent()) {
+                for (String path : precompressedResources.get().getPaths()) {
+                    metaInfResources.add(StaticResourcesRecorder.META_INF_RESOURCES + path + GZIP_SUFFIX);
+                }
+            }
             producer.produce(new NativeImageResourceBuildItem(metaInfResources));
         }
     }
 
+    private static byte[] gzip(Path file) {
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+                Files.copy(file, gzip);
+            }
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     /**
      * Find all static file resources that are available from classpath.
      *
@@ -0,0 +1,55 @@
+package io.quarkus.vertx.http;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+/**
+ * The precompressed variants that are not kept in memory are sent from the extracted files.
+ */
+public class PrecompressedStaticResourcesFileTest {
+
+    @RegisterExtension
+    final static QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .add(new StringAsset("quarkus.http.enable-compression=true\n"
+                            + "quarkus.http.precompress-static-resources=true\n"
+                            + "quarkus.http.precompressed-static-resources-max-memory=0\n"),
+                            "application.properties")
+                    .addAsResource("static-file.html", "META-INF/resources/static-file.html"));
+
+    @Test
+    public void shouldServePrecompressedHtmlPageFromFile() {
+        String etag = RestAssured.when().get("/static-file.html")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .header("Content-Type", Matchers.startsWith("text/html"))
+                .header("ETag", Matchers.notNullValue())
+                .body(Matchers.containsString("This is the title of the webpage!"))
+                .extract().header("ETag");
+        RestAssured.given().header("If-None-Match", etag)
+                .when().get("/static-file.html")
+                .then()
+                .statusCode(304);
+    }
+
+    @Test
+    public void shouldSendContentLengthOfFile() {
+        String length = RestAssured.given().header("Accept-Encoding", "gzip")
+                .when().head("/static-file.html")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .extract().header("Content-Length");
+        RestAssured.given().header("Accept-Encoding", "gzip")
+                .when().get("/static-file.html")
+                .then()
+                .statusCode(200)
+                .header("Content-Length", length);
+    }
+}
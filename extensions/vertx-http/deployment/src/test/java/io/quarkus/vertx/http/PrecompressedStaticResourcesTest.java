@@ -0,0 +1,110 @@
+package io.quarkus.vertx.http;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class PrecompressedStaticResourcesTest {
+
+    @RegisterExtension
+    final static QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .add(new StringAsset("quarkus.http.enable-compression=true\n"
+                            + "quarkus.http.precompress-static-resources=true\n"),
+                            "application.properties")
+                    .addAsResource("static-file.html", "META-INF/resources/static-file.html")
+                    .addAsResource("static-file.html", "META-INF/resources/index.html")
+                    .addAsResource("static-file.html", "META-INF/resources/image.svg"));
+
+    @Test
+    public void shouldServePrecompressedHtmlPage() {
+        RestAssured.when().get("/static-file.html")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .header("Content-Type", Matchers.startsWith("text/html"))
+                .header("Vary", "accept-encoding")
+                .header("ETag", Matchers.notNullValue())
+                .header("Cache-Control", Matchers.startsWith("public"))
+                .header("Last-Modified", Matchers.notNullValue())
+                .body(Matchers.containsString("This is the title of the webpage!"));
+    }
+
+    @Test
+    public void shouldServePrecompressedRootPage() {
+        RestAssured.when().get("/")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .body(Matchers.containsString("This is the title of the webpage!"));
+    }
+
+    @Test
+    public void shouldReturnNotModified() {
+        String etag = RestAssured.when().get("/static-file.html").then().statusCode(200).extract().header("ETag");
+        RestAssured.given().header("If-None-Match", etag)
+                .when().get("/static-file.html")
+                .then()
+                .statusCode(304);
+        RestAssured.given().header("If-None-Match", "\"foo\", W/" + etag)
+                .when().get("/static-file.html")
+                .then()
+                .statusCode(304);
+        RestAssured.given().header("If-None-Match", "*")
+                .when().get("/static-file.html")
+                .then()
+                .statusCode(304);
+        RestAssured.given().header("If-None-Match", "\"foo\"")
+                .when().get("/static-file.html")
+                .then()
+                .statusCode(200);
+    }
+
+    @Test
+    public void shouldReturnNotModifiedSince() {
+        String lastModified = RestAssured.when().get("/static-file.html").then().statusCode(200).extract()
+                .header("Last-Modified");
+        RestAssured.given().header("If-Modified-Since", lastModified)
+                .when().get("/static-file.html")
+                .then()
+                .statusCode(304);
+    }
+
+    @Test
+    public void shouldNotServePrecompressedIfNotAccepted() {
+        RestAssured.given().header("Accept-Encoding", "gzip;q=0")
+                .when().get("/static-file.html")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", Matchers.not("gzip"))
+                .body(Matchers.containsString("This is the title of the webpage!"));
+        RestAssured.given().header("Accept-Encoding", "gzip;q=0, *")
+                .when().get("/static-file.html")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", Matchers.not("gzip"));
+    }
+
+    @Test
+    public void shouldServePrecompressedIfAcceptedAfterWildcard() {
+        RestAssured.given().header("Accept-Encoding", "*;q=0, gzip")
+                .when().get("/static-file.html")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .body(Matchers.containsString("This is the title of the webpage!"));
+    }
+
+    @Test
+    public void shouldNotEncodeSVG() {
+        RestAssured.when().get("/image.svg")
+                .then()
+                .header("Content-Encoding", Matchers.nullValue())
+                .body(Matchers.containsString("This is the title of the webpage!"))
+                .statusCode(200);
+    }
+}
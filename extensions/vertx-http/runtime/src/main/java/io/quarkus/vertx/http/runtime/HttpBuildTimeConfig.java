@@ -9,6 +9,7 @@
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.quarkus.runtime.annotations.ConvertWith;
+import io.quarkus.runtime.configuration.MemorySize;
 import io.quarkus.runtime.configuration.NormalizeRootHttpPathConverter;
 import io.quarkus.vertx.http.Compressed;
 import io.quarkus.vertx.http.Uncompressed;
@@ -97,4 +98,23 @@ public class HttpBuildTimeConfig {
      */
     @ConfigItem
     public OptionalInt compressionLevel;
+
+    /**
+     * If static resources with one of the {@link #compressMediaTypes} should be compressed with gzip at build time.
+     *
+     * The compressed variants are loaded when the application starts and are served as is to the clients that accept
+     * the gzip encoding, so the resources are not compressed again for every request. This has no effect unless
+     * compression is enabled.
+     */
+    @ConfigItem
+    public boolean precompressStaticResources;
+
+    /**
+     * The maximum total size of the precompressed variants of static resources kept in memory.
+     *
+     * A variant larger than 64 KiB, or that does not fit in this limit, is extracted to a temporary file when the
+     * application starts and is sent from this file, instead of being loaded in the heap.
+     */
+    @ConfigItem(defaultValue = "10M")
+    public MemorySize precompressedStaticResourcesMaxMemory;
 }
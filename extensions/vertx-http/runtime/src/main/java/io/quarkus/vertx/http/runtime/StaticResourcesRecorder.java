@@ -1,15 +1,39 @@
 package io.quarkus.vertx.http.runtime;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
 import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.http.impl.MimeMapping;
 import io.vertx.ext.web.Route;
 import io.vertx.ext.web.RoutingContext;
@@ -20,6 +44,17 @@ public class StaticResourcesRecorder {
 
     public static final String META_INF_RESOURCES = "META-INF/resources";
 
+    /**
+     * The IMF-fixdate format, unlike {@link DateTimeFormatter#RFC_1123_DATE_TIME} the day of month has two digits
+     */
+    private static final DateTimeFormatter HTTP_DATE_FORMAT = DateTimeFormatter
+            .ofPattern("EEE, dd MMM yyyy HH:mm:ss 'GMT'", Locale.US).withZone(ZoneOffset.UTC);
+
+    /**
+     * The precompressed variants larger than this size are not kept in memory
+     */
+    static final int MAX_IN_MEMORY_PRECOMPRESSED_SIZE = 64 * 1024;
+
     private static volatile List<Path> hotDeploymentResourcePaths;
 
     final RuntimeValue<HttpConfiguration> httpConfiguration;
@@ -37,6 +72,16 @@ public static void setHotDeploymentResources(List<Path> resources) {
     }
 
     public Consumer<Route> start(Set<String> knownPaths) {
+        return start(knownPaths, Set.of(), null);
+    }
+
+    /**
+     * @param knownPaths the paths of all the static resources
+     * @param precompressedPaths the paths of the static resources that have a gzip compressed variant generated at build
+     *        time
+     * @param shutdownContext used to delete the extracted precompressed variants
+     */
+    public Consumer<Route> start(Set<String> knownPaths, Set<String> precompressedPaths, ShutdownContext shutdownContext) {
         if (httpBuildTimeConfig.enableCompression && httpBuildTimeConfig.compressMediaTypes.isPresent()) {
             this.compressMediaTypes = Set.copyOf(httpBuildTimeConfig.compressMediaTypes.get());
         }
@@ -68,6 +113,10 @@ public void handle(RoutingContext ctx) {
         if (!knownPaths.isEmpty()) {
             ClassLoader currentCl = Thread.currentThread().getContextClassLoader();
             StaticHandler staticHandler = StaticHandler.create(META_INF_RESOURCES).setDefaultContentEncoding("UTF-8");
+            Map<String, PrecompressedResource> precompressed = httpBuildTimeConfig.enableCompression
+                    ? loadPrecompressed(currentCl, precompressedPaths,
+                            httpBuildTimeConfig.precompressedStaticResourcesMaxMemory.asLongValue(), shutdownContext)
+                    : Map.of();
             handlers.add(new Handler<>() {
                 @Override
                 public void handle(RoutingContext ctx) {
@@ -76,6 +125,9 @@ public void handle(RoutingContext ctx) {
                                     // let's be extra careful here in case Vert.x normalizes the mount points at some point
                                     ctx.mountPoint().endsWith("/") ? ctx.mountPoint().length() - 1 : ctx.mountPoint().length());
                     if (knownPaths.contains(rel)) {
+                        if (!precompressed.isEmpty() && sendPrecompressed(ctx, rel, precompressed)) {
+                            return;
+                        }
                         compressIfNeeded(ctx, rel);
                         staticHandler.handle(ctx);
                     } else {
@@ -98,6 +150,199 @@ public void accept(Route route) {
         };
     }
 
+    /**
+     * The small variants are kept in memory as long as their total size does not exceed the limit, the other ones are
+     * extracted to a temporary directory, deleted on shutdown, and are sent from the file system.
+     */
+    private static Map<String, PrecompressedResource> loadPrecompressed(ClassLoader cl, Set<String> paths,
+            long maxMemory, ShutdownContext shutdownContext) {
+        if (paths.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, PrecompressedResource> ret = new HashMap<>();
+        // the resources on the classpath have no reliable modification time, like Vert.x we use the time they are made
+        // available
+        long lastModified = System.currentTimeMillis();
+        long inMemory = 0;
+        Path directory = null;
+        for (String path : paths) {
+            try (InputStream in = cl.getResourceAsStream(META_INF_RESOURCES + path + ".gz")) {
+                if (in == null) {
+                    continue;
+                }
+                byte[] head = in.readNBytes(MAX_IN_MEMORY_PRECOMPRESSED_SIZE + 1);
+                String contentType = MimeMapping.getMimeTypeForFilename(path);
+                if (contentType != null && contentType.startsWith("text")) {
+                    contentType = contentType + ";charset=UTF-8";
+                }
+                if (head.length <= MAX_IN_MEMORY_PRECOMPRESSED_SIZE && inMemory + head.length <= maxMemory) {
+                    inMemory += head.length;
+                    ret.put(path, new PrecompressedResource(head, contentType, lastModified));
+                    continue;
+                }
+                if (directory == null) {
+                    directory = createPrecompressedDirectory(shutdownContext);
+                }
+                Path file = Files.createTempFile(directory, "variant", ".gz");
+                MessageDigest digest = PrecompressedResource.newDigest();
+                try (OutputStream out = new DigestOutputStream(Files.newOutputStream(file), digest)) {
+                    out.write(head);
+                    in.transferTo(out);
+                }
+                ret.put(path, new PrecompressedResource(file, Files.size(file), digest.digest(), contentType,
+                        lastModified));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unable to load the precompressed static resource " + path, e);
+            }
+        }
+        return ret;
+    }
+
+    private static Path createPrecompressedDirectory(ShutdownContext shutdownContext) throws IOException {
+        Path directory = Files.createTempDirectory("quarkus-precompressed-");
+        Runnable delete = new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+                        for (Path file : files) {
+                            Files.deleteIfExists(file);
+                        }
+                    }
+                    Files.deleteIfExists(directory);
+                } catch (IOException e) {
+                    directory.toFile().deleteOnExit();
+                }
+            }
+        };
+        if (shutdownContext != null) {
+            shutdownContext.addLastShutdownTask(delete);
+        } else {
+            directory.toFile().deleteOnExit();
+        }
+        return directory;
+    }
+
+    /**
+     * Sends the precompressed variant of the resource if there is one and the client accepts it.
+     *
+     * @return {@code true} if the response was sent
+     */
+    private static boolean sendPrecompressed(RoutingContext ctx, String path,
+            Map<String, PrecompressedResource> precompressed) {
+        HttpMethod method = ctx.request().method();
+        if (method != HttpMethod.GET && method != HttpMethod.HEAD) {
+            return false;
+        }
+        PrecompressedResource resource = precompressed
+                .get(path.endsWith("/") ? path + StaticHandler.DEFAULT_INDEX_PAGE : path);
+        if (resource == null || !acceptsGzip(ctx.request().headers().get(HttpHeaders.ACCEPT_ENCODING))) {
+            return false;
+        }
+        HttpServerResponse response = ctx.response();
+        // the response varies on Accept-Encoding even when it's not modified
+        response.headers().set(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        response.headers().set(HttpHeaders.ETAG, resource.etag);
+        // the same caching headers as the ones set by the StaticHandler with the default configuration
+        response.headers().set(HttpHeaders.CACHE_CONTROL,
+                "public, immutable, max-age=" + StaticHandler.DEFAULT_MAX_AGE_SECONDS);
+        response.headers().set(HttpHeaders.LAST_MODIFIED, resource.lastModified);
+        response.headers().set(HttpHeaders.DATE, formatHttpDate(System.currentTimeMillis()));
+        if (isNotModified(ctx.request().headers().get(HttpHeaders.IF_NONE_MATCH),
+                ctx.request().headers().get(HttpHeaders.IF_MODIFIED_SINCE), resource)) {
+            response.headers().remove(HttpHeaders.CONTENT_ENCODING);
+            response.setStatusCode(304).end();
+            return true;
+        }
+        // setting the encoding explicitly also prevents Vert.x from compressing the response again
+        response.headers().set(HttpHeaders.CONTENT_ENCODING, "gzip");
+        if (resource.contentType != null) {
+            response.headers().set(HttpHeaders.CONTENT_TYPE, resource.contentType);
+        }
+        if (method == HttpMethod.HEAD) {
+            response.headers().set(HttpHeaders.CONTENT_LENGTH, Long.toString(resource.length));
+            response.end();
+        } else if (resource.file != null) {
+            response.sendFile(resource.file);
+        } else {
+            // no copy of the shared content
+            response.end(Buffer.buffer(resource.content.duplicate()));
+        }
+        return true;
+    }
+
+    /**
+     * An explicit {@code gzip} coding takes precedence over {@code *}, whatever their order. A coding with {@code q=0} is
+     * not acceptable.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        double wildcardQuality = -1;
+        for (String part : acceptEncoding.split(",")) {
+            int paramsIdx = part.indexOf(';');
+            String coding = (paramsIdx == -1 ? part : part.substring(0, paramsIdx)).trim();
+            if (coding.equalsIgnoreCase("gzip")) {
+                return quality(part, paramsIdx) > 0;
+            } else if (coding.equals("*")) {
+                wildcardQuality = quality(part, paramsIdx);
+            }
+        }
+        return wildcardQuality > 0;
+    }
+
+    private static double quality(String part, int paramsIdx) {
+        if (paramsIdx == -1) {
+            return 1;
+        }
+        for (String param : part.substring(paramsIdx + 1).split(";")) {
+            param = param.trim();
+            if (param.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(param.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * If-None-Match takes precedence over If-Modified-Since. The entity tags are compared with the weak comparison, as
+     * required for If-None-Match.
+     */
+    static boolean isNotModified(String ifNoneMatch, String ifModifiedSince, PrecompressedResource resource) {
+        if (ifNoneMatch != null) {
+            for (String tag : ifNoneMatch.split(",")) {
+                tag = tag.trim();
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if (tag.equals("*") || tag.equals(resource.etag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        if (ifModifiedSince != null) {
+            try {
+                long since = ZonedDateTime.parse(ifModifiedSince, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant()
+                        .toEpochMilli();
+                // the HTTP dates have a precision of one second
+                return resource.lastModifiedMillis / 1000 <= since / 1000;
+            } catch (DateTimeParseException e) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private static String formatHttpDate(long millis) {
+        return HTTP_DATE_FORMAT.format(Instant.ofEpochMilli(millis));
+    }
+
     private void compressIfNeeded(RoutingContext ctx, String path) {
         if (httpBuildTimeConfig.enableCompression && isCompressed(path)) {
             // VertxHttpRecorder is adding "Content-Encoding: identity" to all requests if compression is enabled.
@@ -115,4 +360,52 @@ private boolean isCompressed(String path) {
         return contentType != null && compressMediaTypes.contains(contentType);
     }
 
+    static final class PrecompressedResource {
+
+        /**
+         * The content kept in memory, or {@code null} if the content is sent from the {@link #file}
+         */
+        final ByteBuf content;
+        /**
+         * The extracted content, or {@code null} if the content is kept in memory
+         */
+        final String file;
+        final long length;
+        final String contentType;
+        /**
+         * A strong validator of the compressed representation
+         */
+        final String etag;
+        final long lastModifiedMillis;
+        final String lastModified;
+
+        PrecompressedResource(byte[] content, String contentType, long lastModifiedMillis) {
+            this(Unpooled.unreleasableBuffer(Unpooled.wrappedBuffer(content)), null, content.length,
+                    newDigest().digest(content), contentType, lastModifiedMillis);
+        }
+
+        PrecompressedResource(Path file, long length, byte[] digest, String contentType, long lastModifiedMillis) {
+            this(null, file.toAbsolutePath().toString(), length, digest, contentType, lastModifiedMillis);
+        }
+
+        private PrecompressedResource(ByteBuf content, String file, long length, byte[] digest, String contentType,
+                long lastModifiedMillis) {
+            this.content = content;
+            this.file = file;
+            this.length = length;
+            this.contentType = contentType;
+            this.etag = "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest) + "\"";
+            this.lastModifiedMillis = lastModifiedMillis;
+            this.lastModified = formatHttpDate(lastModifiedMillis);
+        }
+
+        static MessageDigest newDigest() {
+            try {
+                return MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
 }
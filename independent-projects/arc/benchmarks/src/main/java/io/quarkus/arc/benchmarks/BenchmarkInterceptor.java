@@ -0,0 +1,89 @@
+package io.quarkus.arc.benchmarks;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.Set;
+
+import javax.enterprise.context.spi.CreationalContext;
+import javax.enterprise.inject.spi.InterceptionType;
+import javax.interceptor.InvocationContext;
+
+import io.quarkus.arc.ArcInvocationContext;
+import io.quarkus.arc.InjectableInterceptor;
+
+/**
+ * A minimal around invoke interceptor bean that is not managed by the container.
+ */
+public abstract class BenchmarkInterceptor implements InjectableInterceptor<Object> {
+
+    abstract Object aroundInvoke(InvocationContext ctx) throws Exception;
+
+    @Override
+    public Object intercept(InterceptionType type, Object instance, InvocationContext ctx) throws Exception {
+        return aroundInvoke(ctx);
+    }
+
+    @Override
+    public boolean intercepts(InterceptionType type) {
+        return type == InterceptionType.AROUND_INVOKE;
+    }
+
+    @Override
+    public Set<Annotation> getInterceptorBindings() {
+        return Collections.emptySet();
+    }
+
+    @Override
+    public String getIdentifier() {
+        return getClass().getName();
+    }
+
+    @Override
+    public Set<Type> getTypes() {
+        return Set.of(getClass(), Object.class);
+    }
+
+    @Override
+    public Class<?> getBeanClass() {
+        return getClass();
+    }
+
+    @Override
+    public Object create(CreationalContext<Object> creationalContext) {
+        return this;
+    }
+
+    @Override
+    public Object get(CreationalContext<Object> creationalContext) {
+        return this;
+    }
+
+    /**
+     * Simply proceeds to the next interceptor, e.g. like an interceptor that only starts a timer.
+     */
+    public static class PassThrough extends BenchmarkInterceptor {
+
+        @Override
+        Object aroundInvoke(InvocationContext ctx) throws Exception {
+            return ctx.proceed();
+        }
+
+    }
+
+    /**
+     * Reads the interceptor bindings from the context data before it proceeds.
+     */
+    public static class ContextData extends BenchmarkInterceptor {
+
+        @Override
+        Object aroundInvoke(InvocationContext ctx) throws Exception {
+            if (ctx.getContextData().get(ArcInvocationContext.KEY_INTERCEPTOR_BINDINGS) == null) {
+                throw new IllegalStateException();
+            }
+            return ctx.proceed();
+        }
+
+    }
+
+}
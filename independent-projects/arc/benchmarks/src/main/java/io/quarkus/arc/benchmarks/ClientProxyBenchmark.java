@@ -0,0 +1,84 @@
+package io.quarkus.arc.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InjectableContext;
+
+/**
+ * Compares the client proxies of {@link ApplicationScoped} beans that look up the contextual instance for each invocation
+ * with the proxies that cache the instance. Each benchmark invokes the proxies of four different beans, so that the
+ * lookup in the application context is a megamorphic call site, like in an application with many beans.
+ * <p>
+ * The proxies are the hand-written mirrors in {@link ServiceClientProxies}, not the proxies generated by ArC.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ClientProxyBenchmark {
+
+    private Service[] plain;
+    private Service[] lookup;
+    private Service[] cached;
+    private String name;
+
+    @Setup
+    public void setup() {
+        InjectableContext applicationContext = Arc.initialize().getActiveContext(ApplicationScoped.class);
+        ServiceBean[] beans = ServiceBean.all();
+        plain = new Service[beans.length];
+        lookup = new Service[beans.length];
+        cached = new Service[beans.length];
+        for (int i = 0; i < beans.length; i++) {
+            plain[i] = new Service();
+            lookup[i] = new ServiceClientProxies.Lookup(beans[i], applicationContext);
+            cached[i] = new ServiceClientProxies.Cached(beans[i], applicationContext);
+        }
+        name = "foo";
+    }
+
+    @TearDown
+    public void tearDown() {
+        Arc.shutdown();
+    }
+
+    @Benchmark
+    public void plain(Blackhole blackhole) {
+        invoke(plain, blackhole);
+    }
+
+    @Benchmark
+    public void lookup(Blackhole blackhole) {
+        invoke(lookup, blackhole);
+    }
+
+    @Benchmark
+    public void cached(Blackhole blackhole) {
+        invoke(cached, blackhole);
+    }
+
+    private void invoke(Service[] services, Blackhole blackhole) {
+        for (Service service : services) {
+            blackhole.consume(service.ping(name));
+        }
+    }
+
+}
@@ -0,0 +1,49 @@
+package io.quarkus.arc.benchmarks;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.List;
+
+import io.quarkus.arc.ArcUndeclaredThrowableException;
+import io.quarkus.arc.impl.InterceptedMethodMetadata;
+import io.quarkus.arc.impl.InterceptorInvocation;
+import io.quarkus.arc.impl.InvocationContexts;
+
+/**
+ * Mirrors the intercepted subclass generated for {@link Service}; the metadata, including the forwarding function, is
+ * created once per instance.
+ * <p>
+ * This class is written by hand, it is not generated by ArC. The benchmark does not run the bean processor, so that the
+ * interceptor chains can be assembled freely and no container is needed. As a consequence, the results are only
+ * representative as long as this class follows the bytecode generated by {@code SubclassGenerator}: the field holding
+ * the {@link InterceptedMethodMetadata}, the forwarding function calling the superclass method, and the exception
+ * wrapping of {@link InvocationContexts#performAroundInvoke(Object, Object[], InterceptedMethodMetadata)}. The mirror
+ * must be updated whenever the generator changes.
+ */
+public class InterceptedService extends Service {
+
+    private final InterceptedMethodMetadata pingMetadata;
+
+    public InterceptedService(List<InterceptorInvocation> chain) {
+        Method ping;
+        try {
+            ping = Service.class.getMethod("ping", String.class);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+        this.pingMetadata = new InterceptedMethodMetadata(chain, ping, Collections.emptySet(),
+                ctx -> super.ping((String) ctx.getParameters()[0]));
+    }
+
+    @Override
+    public String ping(String name) {
+        try {
+            return (String) InvocationContexts.performAroundInvoke(this, new Object[] { name }, pingMetadata);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ArcUndeclaredThrowableException("Error invoking subclass method", e);
+        }
+    }
+
+}
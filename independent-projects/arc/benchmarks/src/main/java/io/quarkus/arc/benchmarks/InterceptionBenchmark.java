@@ -0,0 +1,73 @@
+package io.quarkus.arc.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.arc.impl.InterceptorInvocation;
+
+/**
+ * Compares a plain method call with an intercepted call of the same method, i.e. the overhead of the around invoke
+ * invocation context. Run with the GC profiler to see the allocations per call.
+ * <p>
+ * The intercepted calls go through {@link InterceptedService}, a hand-written mirror of the subclass generated by ArC.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class InterceptionBenchmark {
+
+    private Service plain;
+    private Service intercepted;
+    private Service interceptedChain;
+    private Service interceptedContextData;
+    private String name;
+
+    @Setup
+    public void setup() {
+        plain = new Service();
+        intercepted = new InterceptedService(List.of(aroundInvoke(new BenchmarkInterceptor.PassThrough())));
+        interceptedChain = new InterceptedService(List.of(aroundInvoke(new BenchmarkInterceptor.PassThrough()),
+                aroundInvoke(new BenchmarkInterceptor.PassThrough())));
+        interceptedContextData = new InterceptedService(List.of(aroundInvoke(new BenchmarkInterceptor.ContextData())));
+        name = "foo";
+    }
+
+    @Benchmark
+    public String plain() {
+        return plain.ping(name);
+    }
+
+    @Benchmark
+    public String intercepted() {
+        return intercepted.ping(name);
+    }
+
+    @Benchmark
+    public String interceptedChain() {
+        return interceptedChain.ping(name);
+    }
+
+    @Benchmark
+    public String interceptedContextData() {
+        return interceptedContextData.ping(name);
+    }
+
+    private static InterceptorInvocation aroundInvoke(BenchmarkInterceptor interceptor) {
+        return InterceptorInvocation.aroundInvoke(interceptor, interceptor);
+    }
+
+}
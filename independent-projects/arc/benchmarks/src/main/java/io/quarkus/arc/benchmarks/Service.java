@@ -0,0 +1,12 @@
+package io.quarkus.arc.benchmarks;
+
+/**
+ * The bean class used by the interception benchmarks.
+ */
+public class Service {
+
+    public String ping(String name) {
+        return name;
+    }
+
+}
@@ -0,0 +1,64 @@
+package io.quarkus.arc.benchmarks;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Set;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.spi.CreationalContext;
+
+import io.quarkus.arc.InjectableBean;
+
+/**
+ * An {@link ApplicationScoped} bean that is not registered in the container. Each subclass represents a different bean,
+ * i.e. the call sites in the container that invoke the bean see several receiver types.
+ */
+public abstract class ServiceBean implements InjectableBean<Service> {
+
+    @Override
+    public Class<? extends Annotation> getScope() {
+        return ApplicationScoped.class;
+    }
+
+    @Override
+    public String getIdentifier() {
+        return getClass().getName();
+    }
+
+    @Override
+    public Set<Type> getTypes() {
+        return Set.of(Service.class, Object.class);
+    }
+
+    @Override
+    public Class<?> getBeanClass() {
+        return Service.class;
+    }
+
+    @Override
+    public Service create(CreationalContext<Service> creationalContext) {
+        return new Service();
+    }
+
+    @Override
+    public Service get(CreationalContext<Service> creationalContext) {
+        return create(creationalContext);
+    }
+
+    static ServiceBean[] all() {
+        return new ServiceBean[] { new Alpha(), new Bravo(), new Charlie(), new Delta() };
+    }
+
+    static class Alpha extends ServiceBean {
+    }
+
+    static class Bravo extends ServiceBean {
+    }
+
+    static class Charlie extends ServiceBean {
+    }
+
+    static class Delta extends ServiceBean {
+    }
+
+}
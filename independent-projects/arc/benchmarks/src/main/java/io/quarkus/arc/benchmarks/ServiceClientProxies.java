@@ -0,0 +1,69 @@
+package io.quarkus.arc.benchmarks;
+
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.InjectableContext;
+import io.quarkus.arc.impl.ClientProxies;
+import io.quarkus.arc.impl.ClientProxies.CachedDelegate;
+
+/**
+ * Mirror the client proxies generated for an {@link javax.enterprise.context.ApplicationScoped} bean of type
+ * {@link Service}.
+ * <p>
+ * The proxies are written by hand, they are not generated by ArC. The benchmark does not run the bean processor, so that
+ * both variants can be compared in the same JVM without bootstrapping a container per variant. As a consequence, the
+ * results are only representative as long as these classes follow the bytecode generated by
+ * {@code ClientProxyGenerator}, with and without {@code BeanProcessor.Builder#setCacheClientProxyDelegates(boolean)}. The
+ * mirrors must be updated whenever the generator changes.
+ */
+final class ServiceClientProxies {
+
+    private ServiceClientProxies() {
+    }
+
+    /**
+     * Obtains the delegate from the application context for each invocation.
+     */
+    static class Lookup extends Service {
+
+        private final InjectableBean<Service> bean;
+        private final InjectableContext context;
+
+        Lookup(InjectableBean<Service> bean, InjectableContext context) {
+            this.bean = bean;
+            this.context = context;
+        }
+
+        @Override
+        public String ping(String name) {
+            return ClientProxies.getApplicationScopedDelegate(context, bean).ping(name);
+        }
+
+    }
+
+    /**
+     * Reuses the delegate obtained by the previous invocation.
+     */
+    static class Cached extends Service {
+
+        private final InjectableBean<Service> bean;
+        private final InjectableContext context;
+        private CachedDelegate cachedDelegate;
+
+        Cached(InjectableBean<Service> bean, InjectableContext context) {
+            this.bean = bean;
+            this.context = context;
+        }
+
+        @Override
+        public String ping(String name) {
+            CachedDelegate cached = cachedDelegate;
+            CachedDelegate current = ClientProxies.getApplicationScopedDelegate(context, bean, cached);
+            if (current != cached) {
+                cachedDelegate = current;
+            }
+            return ((Service) current.instance).ping(name);
+        }
+
+    }
+
+}
@@ -293,6 +293,7 @@ Collection<Resource> generateSyntheticBean(BeanInfo bean) {
 
         implementIsAlternative(bean, beanCreator);
         implementGetPriority(bean, beanCreator);
+        implementGetRequestContextIndex(bean, beanCreator);
 
         if (stereotypes != null) {
             implementGetStereotypes(bean, beanCreator, stereotypes.getFieldDescriptor());
@@ -379,6 +380,7 @@ Collection<Resource> generateClassBean(BeanInfo bean, ClassInfo beanClass) {
 
         implementIsAlternative(bean, beanCreator);
         implementGetPriority(bean, beanCreator);
+        implementGetRequestContextIndex(bean, beanCreator);
 
         if (stereotypes != null) {
             implementGetStereotypes(bean, beanCreator, stereotypes.getFieldDescriptor());
@@ -463,6 +465,7 @@ Collection<Resource> generateProducerMethodBean(BeanInfo bean, MethodInfo produc
 
         implementIsAlternative(bean, beanCreator);
         implementGetPriority(bean, beanCreator);
+        implementGetRequestContextIndex(bean, beanCreator);
 
         implementGetDeclaringBean(beanCreator);
         if (stereotypes != null) {
@@ -543,6 +546,7 @@ Collection<Resource> generateProducerFieldBean(BeanInfo bean, FieldInfo producer
 
         implementIsAlternative(bean, beanCreator);
         implementGetPriority(bean, beanCreator);
+        implementGetRequestContextIndex(bean, beanCreator);
 
         implementGetDeclaringBean(beanCreator);
         if (stereotypes != null) {
@@ -1778,6 +1782,15 @@ protected void implementGetPriority(BeanInfo bean, ClassCreator beanCreator) {
         }
     }
 
+    protected void implementGetRequestContextIndex(BeanInfo bean, ClassCreator beanCreator) {
+        if (bean.getRequestContextIndex() >= 0) {
+            MethodCreator getRequestContextIndex = beanCreator.getMethodCreator("getRequestContextIndex", int.class)
+                    .setModifiers(ACC_PUBLIC);
+            getRequestContextIndex
+                    .returnValue(getRequestContextIndex.load(bean.getRequestContextIndex()));
+        }
+    }
+
     protected void implementIsDefaultBean(BeanInfo bean, ClassCreator beanCreator) {
         MethodCreator isDefaultBean = beanCreator.getMethodCreator("isDefaultBean", boolean.class)
                 .setModifiers(ACC_PUBLIC);
@@ -90,6 +90,9 @@ public class BeanInfo implements InjectionTargetInfo {
 
     private final String targetPackageName;
 
+    // The slot of a request scoped bean in the request context state, assigned before the bean is generated
+    private int requestContextIndex = -1;
+
     BeanInfo(AnnotationTarget target, BeanDeployment beanDeployment, ScopeInfo scope, Set<Type> types,
             Set<AnnotationInstance> qualifiers, List<Injection> injections, BeanInfo declaringBean, DisposerInfo disposer,
             boolean alternative, List<StereotypeInfo> stereotypes, String name, boolean isDefaultBean, String targetPackageName,
@@ -441,6 +444,19 @@ public Integer getPriority() {
         return priority;
     }
 
+    /**
+     *
+     * @return the index of a {@link javax.enterprise.context.RequestScoped} bean in the request context state, or
+     *         {@code -1} if no index was assigned
+     */
+    public int getRequestContextIndex() {
+        return requestContextIndex;
+    }
+
+    void setRequestContextIndex(int requestContextIndex) {
+        this.requestContextIndex = requestContextIndex;
+    }
+
     public List<StereotypeInfo> getStereotypes() {
         return stereotypes;
     }
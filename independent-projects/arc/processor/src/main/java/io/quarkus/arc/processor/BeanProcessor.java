@@ -4,6 +4,7 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -78,6 +79,7 @@ public static Builder builder() {
     private final boolean generateSources;
     private final boolean allowMocking;
     private final boolean transformUnproxyableClasses;
+    private final boolean cacheClientProxyDelegates;
     private final List<Function<BeanInfo, Consumer<BytecodeCreator>>> suppressConditionGenerators;
 
     // This predicate is used to filter annotations for InjectionPoint metadata
@@ -95,6 +97,7 @@ private BeanProcessor(Builder builder) {
         this.generateSources = builder.generateSources;
         this.allowMocking = builder.allowMocking;
         this.transformUnproxyableClasses = builder.transformUnproxyableClasses;
+        this.cacheClientProxyDelegates = builder.cacheClientProxyDelegates;
         this.suppressConditionGenerators = builder.suppressConditionGenerators;
 
         // Initialize all build processors
@@ -175,9 +178,10 @@ public List<Resource> generateResources(ReflectionRegistration reflectionRegistr
         for (BeanInfo bean : beans) {
             beanGenerator.precomputeGeneratedName(bean);
         }
+        assignRequestContextIndexes(beans);
 
         ClientProxyGenerator clientProxyGenerator = new ClientProxyGenerator(applicationClassPredicate, generateSources,
-                allowMocking, refReg, existingClasses);
+                allowMocking, cacheClientProxyDelegates, refReg, existingClasses);
 
         InterceptorGenerator interceptorGenerator = new InterceptorGenerator(annotationLiterals, applicationClassPredicate,
                 privateMembers, generateSources, refReg, existingClasses, beanToGeneratedName,
@@ -406,6 +410,21 @@ public Collection<Resource> call() throws Exception {
         return resources;
     }
 
+    private void assignRequestContextIndexes(Collection<BeanInfo> beans) {
+        // The order must be deterministic so that the generated classes do not change between builds
+        List<BeanInfo> requestScoped = new ArrayList<>();
+        for (BeanInfo bean : beans) {
+            if (BuiltinScope.REQUEST.is(bean.getScope())) {
+                requestScoped.add(bean);
+            }
+        }
+        requestScoped.sort(Comparator.comparing(BeanInfo::getIdentifier));
+        int index = 0;
+        for (BeanInfo bean : requestScoped) {
+            bean.setRequestContextIndex(index++);
+        }
+    }
+
     public BeanDeployment getBeanDeployment() {
         return beanDeployment;
     }
@@ -467,6 +486,7 @@ public static class Builder {
         boolean transformUnproxyableClasses;
         boolean failOnInterceptedPrivateMethod;
         boolean allowMocking;
+        boolean cacheClientProxyDelegates;
 
         AlternativePriorities alternativePriorities;
         final List<Predicate<ClassInfo>> excludeTypes;
@@ -498,6 +518,7 @@ public Builder() {
             transformUnproxyableClasses = false;
             failOnInterceptedPrivateMethod = false;
             allowMocking = false;
+            cacheClientProxyDelegates = true;
 
             excludeTypes = new ArrayList<>();
 
@@ -694,6 +715,19 @@ public Builder setTransformUnproxyableClasses(boolean value) {
             return this;
         }
 
+        /**
+         * If set to true then a client proxy of an {@link javax.enterprise.context.ApplicationScoped} bean reuses the
+         * contextual instance obtained by the previous invocation, unless an instance of the application context was
+         * destroyed in the meantime.
+         *
+         * @param value
+         * @return self
+         */
+        public Builder setCacheClientProxyDelegates(boolean value) {
+            this.cacheClientProxyDelegates = value;
+            return this;
+        }
+
         /**
          * If set to true, the build will fail if an annotation that would result in an interceptor being created (such as
          * {@code @Transactional})
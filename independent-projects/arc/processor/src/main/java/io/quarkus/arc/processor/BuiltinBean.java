@@ -3,7 +3,11 @@
 import static io.quarkus.arc.processor.IndexClassLookupUtils.getClassByName;
 
 import java.lang.reflect.Member;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
+import java.util.ListIterator;
 import java.util.Set;
 import java.util.function.BiPredicate;
 import java.util.function.Consumer;
@@ -15,6 +19,7 @@
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
+import org.jboss.jandex.Type;
 import org.jboss.jandex.Type.Kind;
 
 import io.quarkus.arc.InjectableBean;
@@ -205,11 +210,23 @@ private static void generateInstanceBytecode(GeneratorContext ctx) {
             default:
                 throw new IllegalStateException("Unsupported target info: " + ctx.targetInfo);
         }
+        // The beans whose types match the required type are found at build time so that the lookup does not need to
+        // iterate over all beans at runtime
+        List<String> candidates = findInstanceCandidates(ctx.beanDeployment, ctx.injectionPoint);
+        ResultHandle candidatesHandle;
+        if (candidates == null) {
+            candidatesHandle = ctx.constructor.loadNull();
+        } else {
+            candidatesHandle = ctx.constructor.newArray(String.class, candidates.size());
+            for (ListIterator<String> it = candidates.listIterator(); it.hasNext();) {
+                ctx.constructor.writeArrayValue(candidatesHandle, it.nextIndex(), ctx.constructor.load(it.next()));
+            }
+        }
         ResultHandle instanceProvider = ctx.constructor.newInstance(
                 MethodDescriptor.ofConstructor(InstanceProvider.class, java.lang.reflect.Type.class, Set.class,
-                        InjectableBean.class, Set.class, Member.class, int.class),
+                        InjectableBean.class, Set.class, Member.class, int.class, String[].class),
                 parameterizedType, qualifiers, beanHandle, annotationsHandle, javaMemberHandle,
-                ctx.constructor.load(ctx.injectionPoint.getPosition()));
+                ctx.constructor.load(ctx.injectionPoint.getPosition()), candidatesHandle);
         ResultHandle instanceProviderSupplier = ctx.constructor.newInstance(
                 MethodDescriptors.FIXED_VALUE_SUPPLIER_CONSTRUCTOR, instanceProvider);
         ctx.constructor.writeInstanceField(
@@ -218,6 +235,35 @@ private static void generateInstanceBytecode(GeneratorContext ctx) {
                 ctx.constructor.getThis(), instanceProviderSupplier);
     }
 
+    /**
+     * The qualifiers are ignored so that the candidates can be also used for {@code Instance.select()}.
+     *
+     * @param beanDeployment
+     * @param injectionPoint
+     * @return the sorted identifiers of the beans whose types match the required type, or {@code null} if the required type
+     *         may also match a built-in bean that is only registered at runtime
+     */
+    static List<String> findInstanceCandidates(BeanDeployment beanDeployment, InjectionPointInfo injectionPoint) {
+        Type requiredType = injectionPoint.getRequiredType();
+        if (requiredType.kind() != Kind.CLASS && requiredType.kind() != Kind.PARAMETERIZED_TYPE) {
+            return null;
+        }
+        DotName requiredName = requiredType.name();
+        if (requiredName.equals(DotNames.OBJECT)
+                || requiredName.equals(DotNames.BEAN_MANAGER)
+                || requiredName.equals(DotNames.EVENT)
+                || requiredName.equals(DotNames.INSTANCE)
+                || requiredName.equals(DotNames.INJECTION_POINT)) {
+            return null;
+        }
+        List<String> candidates = new ArrayList<>();
+        for (BeanInfo bean : beanDeployment.getBeanResolver().resolveBeans(requiredType, Collections.emptySet())) {
+            candidates.add(bean.getIdentifier());
+        }
+        Collections.sort(candidates);
+        return candidates;
+    }
+
     private static void generateEventBytecode(GeneratorContext ctx) {
         ResultHandle qualifiers = ctx.constructor.newInstance(MethodDescriptor.ofConstructor(HashSet.class));
         if (!ctx.injectionPoint.getRequiredQualifiers().isEmpty()) {
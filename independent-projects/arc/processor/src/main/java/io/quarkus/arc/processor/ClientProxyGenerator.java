@@ -26,6 +26,7 @@
 import io.quarkus.arc.ClientProxy;
 import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.InjectableContext;
+import io.quarkus.arc.impl.ClientProxies;
 import io.quarkus.arc.impl.Mockable;
 import io.quarkus.arc.processor.BeanGenerator.ProviderType;
 import io.quarkus.arc.processor.ResourceOutput.Resource;
@@ -54,16 +55,27 @@ public class ClientProxyGenerator extends AbstractGenerator {
     static final String BEAN_FIELD = "bean";
     static final String MOCK_FIELD = "mock";
     static final String CONTEXT_FIELD = "context";
+    static final String CACHED_DELEGATE_FIELD = "cachedDelegate";
+
+    static final FieldDescriptor CACHED_DELEGATE_INSTANCE = FieldDescriptor.of(ClientProxies.CachedDelegate.class, "instance",
+            Object.class);
 
     private final Predicate<DotName> applicationClassPredicate;
     private final boolean mockable;
+    private final boolean cacheDelegates;
     private final Set<String> existingClasses;
 
     public ClientProxyGenerator(Predicate<DotName> applicationClassPredicate, boolean generateSources, boolean mockable,
             ReflectionRegistration reflectionRegistration, Set<String> existingClasses) {
+        this(applicationClassPredicate, generateSources, mockable, false, reflectionRegistration, existingClasses);
+    }
+
+    public ClientProxyGenerator(Predicate<DotName> applicationClassPredicate, boolean generateSources, boolean mockable,
+            boolean cacheDelegates, ReflectionRegistration reflectionRegistration, Set<String> existingClasses) {
         super(generateSources, reflectionRegistration);
         this.applicationClassPredicate = applicationClassPredicate;
         this.mockable = mockable;
+        this.cacheDelegates = cacheDelegates;
         this.existingClasses = existingClasses;
     }
 
@@ -133,6 +145,11 @@ Collection<Resource> generate(BeanInfo bean, String beanClassName,
             // It is safe to store the application context instance on the proxy
             contextField = clientProxy.getFieldCreator(CONTEXT_FIELD, InjectableContext.class)
                     .setModifiers(ACC_PRIVATE | ACC_FINAL);
+            if (cacheDelegates) {
+                // The cached delegate is immutable and so a plain field is sufficient
+                clientProxy.getFieldCreator(CACHED_DELEGATE_FIELD, ClientProxies.CachedDelegate.class)
+                        .setModifiers(ACC_PRIVATE);
+            }
         }
 
         createConstructor(clientProxy, superClass, beanField.getFieldDescriptor(),
@@ -291,11 +308,27 @@ void implementDelegate(ClassCreator clientProxy, ProviderType providerType, Fiel
 
         if (BuiltinScope.APPLICATION.is(bean.getScope())) {
             // Application context is stored in a field and is always active
-            creator.returnValue(creator.invokeStaticMethod(MethodDescriptors.CLIENT_PROXIES_GET_APP_SCOPED_DELEGATE,
-                    creator.readInstanceField(
-                            FieldDescriptor.of(clientProxy.getClassName(), CONTEXT_FIELD, InjectableContext.class),
-                            creator.getThis()),
-                    beanHandle));
+            ResultHandle contextHandle = creator.readInstanceField(
+                    FieldDescriptor.of(clientProxy.getClassName(), CONTEXT_FIELD, InjectableContext.class),
+                    creator.getThis());
+            if (cacheDelegates) {
+                // CachedDelegate cached = this.cachedDelegate;
+                // CachedDelegate current = ClientProxies.getApplicationScopedDelegate(this.context, this.bean, cached);
+                // if (current != cached) this.cachedDelegate = current;
+                // return current.instance;
+                FieldDescriptor cachedDelegateField = FieldDescriptor.of(clientProxy.getClassName(), CACHED_DELEGATE_FIELD,
+                        ClientProxies.CachedDelegate.class);
+                ResultHandle cachedHandle = creator.readInstanceField(cachedDelegateField, creator.getThis());
+                ResultHandle currentHandle = creator.invokeStaticMethod(
+                        MethodDescriptors.CLIENT_PROXIES_GET_CACHED_APP_SCOPED_DELEGATE, contextHandle, beanHandle,
+                        cachedHandle);
+                BytecodeCreator changed = creator.ifReferencesNotEqual(currentHandle, cachedHandle).trueBranch();
+                changed.writeInstanceField(cachedDelegateField, changed.getThis(), currentHandle);
+                creator.returnValue(creator.readInstanceField(CACHED_DELEGATE_INSTANCE, currentHandle));
+            } else {
+                creator.returnValue(creator.invokeStaticMethod(MethodDescriptors.CLIENT_PROXIES_GET_APP_SCOPED_DELEGATE,
+                        contextHandle, beanHandle));
+            }
         } else {
             creator.returnValue(creator.invokeStaticMethod(MethodDescriptors.CLIENT_PROXIES_GET_DELEGATE,
                     beanHandle));
@@ -192,16 +192,19 @@ private void processBeans(ClassCreator componentsProvider, MethodCreator getComp
         // - when a bean is processed the map entry is removed
         // - if we're stuck and the map is not empty ISE is thrown
         boolean stuck = false;
+        // A bean is a dependency if it's injected into a bean that is not processed yet
+        // We keep the number of such beans so that we don't need to iterate over the map for each bean
+        Map<BeanInfo, Integer> dependencyCounts = initDependencyCounts(beanToInjections);
         Predicate<BeanInfo> isNotDependencyPredicate = new Predicate<BeanInfo>() {
             @Override
             public boolean test(BeanInfo b) {
-                return !isDependency(b, beanToInjections);
+                return !isDependency(b, dependencyCounts);
             }
         };
         Predicate<BeanInfo> isNormalScopedOrNotDependencyPredicate = new Predicate<BeanInfo>() {
             @Override
             public boolean test(BeanInfo b) {
-                return b.getScope().isNormal() || !isDependency(b, beanToInjections);
+                return b.getScope().isNormal() || !isDependency(b, dependencyCounts);
             }
         };
         Predicate<BeanInfo> isNotProducerOrNormalScopedOrNotDependencyPredicate = new Predicate<BeanInfo>() {
@@ -211,7 +214,7 @@ public boolean test(BeanInfo b) {
                 if (b.isProducerField() || b.isProducerMethod()) {
                     return false;
                 }
-                return b.getScope().isNormal() || !isDependency(b, beanToInjections);
+                return b.getScope().isNormal() || !isDependency(b, dependencyCounts);
             }
         };
 
@@ -221,14 +224,14 @@ public boolean test(BeanInfo b) {
             }
             stuck = true;
             // First try to process beans that are not dependencies
-            stuck = addBeans(beanAdder, beanToInjections, processed, beanIdToBeanHandle,
+            stuck = addBeans(beanAdder, beanToInjections, dependencyCounts, processed, beanIdToBeanHandle,
                     beanToGeneratedName, isNotDependencyPredicate);
             if (stuck) {
                 // It seems we're stuck but we can try to process normal scoped beans that can prevent a circular dependency
-                stuck = addBeans(beanAdder, beanToInjections, processed, beanIdToBeanHandle,
+                stuck = addBeans(beanAdder, beanToInjections, dependencyCounts, processed, beanIdToBeanHandle,
                         beanToGeneratedName, isNotProducerOrNormalScopedOrNotDependencyPredicate);
                 if (stuck) {
-                    stuck = addBeans(beanAdder, beanToInjections, processed,
+                    stuck = addBeans(beanAdder, beanToInjections, dependencyCounts, processed,
                             beanIdToBeanHandle, beanToGeneratedName, isNormalScopedOrNotDependencyPredicate);
                 }
             }
@@ -350,7 +353,7 @@ public List<BeanInfo> apply(BeanInfo b) {
     }
 
     private boolean addBeans(BeanAdder beanAdder,
-            Map<BeanInfo, List<BeanInfo>> beanToInjections, Set<BeanInfo> processed,
+            Map<BeanInfo, List<BeanInfo>> beanToInjections, Map<BeanInfo, Integer> dependencyCounts, Set<BeanInfo> processed,
             ResultHandle beanIdToBeanHandle, Map<BeanInfo, String> beanToGeneratedName, Predicate<BeanInfo> filter) {
         boolean stuck = true;
         for (Iterator<Entry<BeanInfo, List<BeanInfo>>> iterator = beanToInjections.entrySet().iterator(); iterator
@@ -359,6 +362,9 @@ private boolean addBeans(BeanAdder beanAdder,
             BeanInfo bean = entry.getKey();
             if (filter.test(bean)) {
                 iterator.remove();
+                for (BeanInfo dependency : new HashSet<>(entry.getValue())) {
+                    dependencyCounts.computeIfPresent(dependency, (k, count) -> count == 1 ? null : count - 1);
+                }
                 beanAdder.addComponent(bean);
                 processed.add(bean);
                 stuck = false;
@@ -367,14 +373,19 @@ private boolean addBeans(BeanAdder beanAdder,
         return stuck;
     }
 
-    private boolean isDependency(BeanInfo bean, Map<BeanInfo, List<BeanInfo>> beanToInjections) {
-        for (Iterator<Entry<BeanInfo, List<BeanInfo>>> iterator = beanToInjections.entrySet().iterator(); iterator.hasNext();) {
-            Entry<BeanInfo, List<BeanInfo>> entry = iterator.next();
-            if (entry.getValue().contains(bean)) {
-                return true;
+    private Map<BeanInfo, Integer> initDependencyCounts(Map<BeanInfo, List<BeanInfo>> beanToInjections) {
+        Map<BeanInfo, Integer> dependencyCounts = new HashMap<>();
+        for (List<BeanInfo> injections : beanToInjections.values()) {
+            // A bean may be injected multiple times into the same bean
+            for (BeanInfo dependency : new HashSet<>(injections)) {
+                dependencyCounts.merge(dependency, 1, Integer::sum);
             }
         }
-        return false;
+        return dependencyCounts;
+    }
+
+    private boolean isDependency(BeanInfo bean, Map<BeanInfo, Integer> dependencyCounts) {
+        return dependencyCounts.containsKey(bean);
     }
 
     static class ObserverAdder extends ComponentAdder<ObserverInfo> {
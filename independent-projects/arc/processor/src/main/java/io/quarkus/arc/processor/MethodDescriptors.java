@@ -164,8 +164,7 @@ public final class MethodDescriptors {
     public static final MethodDescriptor INVOCATION_CONTEXTS_PERFORM_AROUND_INVOKE = MethodDescriptor.ofMethod(
             InvocationContexts.class,
             "performAroundInvoke",
-            Object.class, Object.class, Method.class, Function.class, Object[].class, List.class,
-            Set.class);
+            Object.class, Object.class, Object[].class, InterceptedMethodMetadata.class);
 
     public static final MethodDescriptor INVOCATION_CONTEXTS_AROUND_CONSTRUCT = MethodDescriptor.ofMethod(
             InvocationContexts.class,
@@ -232,6 +231,10 @@ public final class MethodDescriptors {
             InterceptedMethodMetadata.class,
             List.class, Method.class, Set.class);
 
+    public static final MethodDescriptor INTERCEPTED_METHOD_METADATA_FORWARD_CONSTRUCTOR = MethodDescriptor.ofConstructor(
+            InterceptedMethodMetadata.class,
+            List.class, Method.class, Set.class, Function.class);
+
     public static final MethodDescriptor CREATIONAL_CTX_HAS_DEPENDENT_INSTANCES = MethodDescriptor.ofMethod(
             CreationalContextImpl.class,
             "hasDependentInstances", boolean.class);
@@ -252,6 +255,10 @@ public final class MethodDescriptors {
     public static final MethodDescriptor CLIENT_PROXIES_GET_APP_SCOPED_DELEGATE = MethodDescriptor.ofMethod(ClientProxies.class,
             "getApplicationScopedDelegate", Object.class, InjectableContext.class, InjectableBean.class);
 
+    public static final MethodDescriptor CLIENT_PROXIES_GET_CACHED_APP_SCOPED_DELEGATE = MethodDescriptor.ofMethod(
+            ClientProxies.class, "getApplicationScopedDelegate", ClientProxies.CachedDelegate.class, InjectableContext.class,
+            InjectableBean.class, ClientProxies.CachedDelegate.class);
+
     public static final MethodDescriptor CLIENT_PROXIES_GET_DELEGATE = MethodDescriptor.ofMethod(ClientProxies.class,
             "getDelegate", Object.class, InjectableBean.class);
 
@@ -392,10 +392,14 @@ public String apply(List<BindingKey> keys) {
                             initMetadataMethodFinal.getMethodParam(1), initMetadataMethodFinal.load(bindingKey));
                 });
 
+                // 4. Forwarding function - created once so that it's not allocated for each invocation
+                ResultHandle forwardHandle = createForwardingFunction(initMetadataMethod, method, subclass, forwardDescriptor,
+                        decoration != null ? decoration.decorators.get(0) : null);
+
                 // Now create metadata for the given intercepted method
                 ResultHandle methodMetadataHandle = initMetadataMethod.newInstance(
-                        MethodDescriptors.INTERCEPTED_METHOD_METADATA_CONSTRUCTOR,
-                        chainHandle, methodHandle, bindingsHandle);
+                        MethodDescriptors.INTERCEPTED_METHOD_METADATA_FORWARD_CONSTRUCTOR,
+                        chainHandle, methodHandle, bindingsHandle, forwardHandle);
 
                 FieldDescriptor metadataField = FieldDescriptor.of(subclass.getClassName(), "arc$" + methodIdx++,
                         InterceptedMethodMetadata.class.getName());
@@ -407,8 +411,7 @@ public String apply(List<BindingKey> keys) {
 
                 // Finally create the intercepted method
                 createInterceptedMethod(classOutput, bean, method, subclass, providerTypeName,
-                        metadataField, constructedField.getFieldDescriptor(), forwardDescriptor,
-                        decoration != null ? decoration.decorators.get(0) : null);
+                        metadataField, constructedField.getFieldDescriptor(), forwardDescriptor);
             } else {
                 // Only decorators are applied
                 MethodCreator decoratedMethod = subclass.getMethodCreator(methodDescriptor);
@@ -737,7 +740,7 @@ private MethodDescriptor createForwardingMethod(ClassCreator subclass, String pr
 
     private void createInterceptedMethod(ClassOutput classOutput, BeanInfo bean, MethodInfo method, ClassCreator subclass,
             String providerTypeName, FieldDescriptor metadataField, FieldDescriptor constructedField,
-            MethodDescriptor forwardMethod, DecoratorInfo decorator) {
+            MethodDescriptor forwardMethod) {
 
         MethodDescriptor originalMethodDescriptor = MethodDescriptor.of(method);
         MethodCreator interceptedMethod = subclass.getMethodCreator(originalMethodDescriptor);
@@ -769,15 +772,65 @@ private void createInterceptedMethod(ClassOutput classOutput, BeanInfo bean, Met
             notConstructed.returnValue(notConstructed.invokeVirtualMethod(forwardMethod, notConstructed.getThis(), params));
         }
 
+        for (Type declaredException : method.exceptions()) {
+            interceptedMethod.addException(declaredException.name().toString());
+        }
+
+        TryBlock tryCatch = interceptedMethod.tryBlock();
+        // catch exceptions declared on the original method
+        boolean addCatchRuntimeException = true;
+        boolean addCatchException = true;
+        boolean isKotlin = method.declaringClass().declaredAnnotation(DotNames.KOTLIN_METADATA_ANNOTATION) != null;
+        Set<DotName> declaredExceptions = new LinkedHashSet<>(method.exceptions().size());
+        for (Type declaredException : method.exceptions()) {
+            declaredExceptions.add(declaredException.name());
+        }
+        for (DotName declaredException : declaredExceptions) {
+            CatchBlockCreator catchDeclaredException = tryCatch.addCatch(declaredException.toString());
+            catchDeclaredException.throwException(catchDeclaredException.getCaughtException());
+
+            if (JAVA_LANG_RUNTIME_EXCEPTION.equals(declaredException) ||
+                    JAVA_LANG_THROWABLE.equals(declaredException)) {
+                addCatchRuntimeException = false;
+            }
+            if (JAVA_LANG_EXCEPTION.equals(declaredException) ||
+                    JAVA_LANG_THROWABLE.equals(declaredException)) {
+                addCatchException = false;
+            }
+        }
+        // catch (RuntimeException e) if not already caught
+        if (addCatchRuntimeException) {
+            CatchBlockCreator catchRuntimeException = tryCatch.addCatch(RuntimeException.class);
+            catchRuntimeException.throwException(catchRuntimeException.getCaughtException());
+        }
+        // now catch the rest (Exception e) if not already caught
+        // this catch is _not_ included for Kotlin methods because Kotlin has not checked exceptions contract
+        if (addCatchException && !isKotlin) {
+            CatchBlockCreator catchOtherExceptions = tryCatch.addCatch(Exception.class);
+            // and wrap them in a new RuntimeException(e)
+            catchOtherExceptions.throwException(ArcUndeclaredThrowableException.class, "Error invoking subclass method",
+                    catchOtherExceptions.getCaughtException());
+        }
+        // InvocationContexts.performAroundInvoke(this, params, metadata)
+        ResultHandle ret = tryCatch.invokeStaticMethod(MethodDescriptors.INVOCATION_CONTEXTS_PERFORM_AROUND_INVOKE,
+                tryCatch.getThis(), paramsHandle, tryCatch.readInstanceField(metadataField, tryCatch.getThis()));
+        tryCatch.returnValue(ret);
+    }
+
+    private ResultHandle createForwardingFunction(MethodCreator init, MethodInfo method, ClassCreator subclass,
+            MethodDescriptor forwardMethod, DecoratorInfo decorator) {
+        MethodDescriptor originalMethodDescriptor = MethodDescriptor.of(method);
+        List<Type> parameters = method.parameterTypes();
+
         ResultHandle decoratorHandle = null;
         if (decorator != null) {
-            decoratorHandle = interceptedMethod.readInstanceField(FieldDescriptor.of(subclass.getClassName(),
-                    decorator.getIdentifier(), Object.class.getName()), interceptedMethod.getThis());
+            decoratorHandle = init.readInstanceField(FieldDescriptor.of(subclass.getClassName(),
+                    decorator.getIdentifier(), Object.class.getName()), init.getThis());
         }
 
         // Forwarding function
         // Function<InvocationContext, Object> forward = ctx -> super.foo((java.lang.String)ctx.getParameters()[0])
-        FunctionCreator func = interceptedMethod.createFunction(Function.class);
+        FunctionCreator func = init.createFunction(Function.class);
         BytecodeCreator funcBytecode = func.getBytecode();
         ResultHandle ctxHandle = funcBytecode.getMethodParam(0);
         ResultHandle[] superParamHandles;
@@ -810,58 +863,12 @@ private void createInterceptedMethod(ClassOutput classOutput, BeanInfo bean, Met
                     .returnValue(funcBytecode.invokeVirtualMethod(methodDescriptor, funDecoratorInstance, superParamHandles));
 
         } else {
-            ResultHandle superResult = funcBytecode.invokeVirtualMethod(forwardMethod, interceptedMethod.getThis(),
+            ResultHandle superResult = funcBytecode.invokeVirtualMethod(forwardMethod, init.getThis(),
                     superParamHandles);
             funcBytecode.returnValue(superResult != null ? superResult : funcBytecode.loadNull());
         }
 
-        for (Type declaredException : method.exceptions()) {
-            interceptedMethod.addException(declaredException.name().toString());
-        }
-
-        TryBlock tryCatch = interceptedMethod.tryBlock();
-        // catch exceptions declared on the original method
-        boolean addCatchRuntimeException = true;
-        boolean addCatchException = true;
-        boolean isKotlin = method.declaringClass().declaredAnnotation(DotNames.KOTLIN_METADATA_ANNOTATION) != null;
-        Set<DotName> declaredExceptions = new LinkedHashSet<>(method.exceptions().size());
-        for (Type declaredException : method.exceptions()) {
-            declaredExceptions.add(declaredException.name());
-        }
-        for (DotName declaredException : declaredExceptions) {
-            CatchBlockCreator catchDeclaredException = tryCatch.addCatch(declaredException.toString());
-            catchDeclaredException.throwException(catchDeclaredException.getCaughtException());
-
-            if (JAVA_LANG_RUNTIME_EXCEPTION.equals(declaredException) ||
-                    JAVA_LANG_THROWABLE.equals(declaredException)) {
-                addCatchRuntimeException = false;
-            }
-            if (JAVA_LANG_EXCEPTION.equals(declaredException) ||
-                    JAVA_LANG_THROWABLE.equals(declaredException)) {
-                addCatchException = false;
-            }
-        }
-        // catch (RuntimeException e) if not already caught
-        if (addCatchRuntimeException) {
-            CatchBlockCreator catchRuntimeException = tryCatch.addCatch(RuntimeException.class);
-            catchRuntimeException.throwException(catchRuntimeException.getCaughtException());
-        }
-        // now catch the rest (Exception e) if not already caught
-        // this catch is _not_ included for Kotlin methods because Kotlin has not checked exceptions contract
-        if (addCatchException && !isKotlin) {
-            CatchBlockCreator catchOtherExceptions = tryCatch.addCatch(Exception.class);
-            // and wrap them in a new RuntimeException(e)
-            catchOtherExceptions.throwException(ArcUndeclaredThrowableException.class, "Error invoking subclass method",
-                    catchOtherExceptions.getCaughtException());
-        }
-        // InvocationContexts.performAroundInvoke(...)
-        ResultHandle methodMetadataHandle = tryCatch.readInstanceField(metadataField, tryCatch.getThis());
-        ResultHandle ret = tryCatch.invokeStaticMethod(MethodDescriptors.INVOCATION_CONTEXTS_PERFORM_AROUND_INVOKE,
-                tryCatch.getThis(),
-                tryCatch.readInstanceField(FIELD_METADATA_METHOD, methodMetadataHandle), func.getInstance(), paramsHandle,
-                tryCatch.readInstanceField(FIELD_METADATA_CHAIN, methodMetadataHandle),
-                tryCatch.readInstanceField(FIELD_METADATA_BINDINGS, methodMetadataHandle));
-        tryCatch.returnValue(ret);
+        return func.getInstance();
     }
 
     /**
@@ -143,6 +143,16 @@ default int getPriority() {
         return 0;
     }
 
+    /**
+     * The index is assigned at build time to a {@link javax.enterprise.context.RequestScoped} bean. It is used to store the
+     * contextual instance of the bean in the request context state without a hash lookup.
+     *
+     * @return the index of the bean in the request context state, or {@code -1} if no index was assigned
+     */
+    default int getRequestContextIndex() {
+        return -1;
+    }
+
     enum Kind {
 
         CLASS,
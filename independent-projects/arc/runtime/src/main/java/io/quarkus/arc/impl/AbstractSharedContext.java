@@ -4,6 +4,7 @@
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -16,8 +17,15 @@
 
 abstract class AbstractSharedContext implements InjectableContext, InjectableContext.ContextState {
 
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<AbstractSharedContext> VERSION_UPDATER = AtomicIntegerFieldUpdater
+            .newUpdater(AbstractSharedContext.class, "version");
+
     protected final ComputingCache<String, ContextInstanceHandle<?>> instances;
 
+    // Incremented whenever a contextual instance is destroyed
+    private volatile int version;
+
     public AbstractSharedContext() {
         this.instances = new ComputingCache<>();
     }
@@ -77,6 +85,7 @@ public void destroy(Contextual<?> contextual) {
         InjectableBean<?> bean = (InjectableBean<?>) contextual;
         ContextInstanceHandle<?> handle = instances.remove(bean.getIdentifier());
         if (handle != null) {
+            VERSION_UPDATER.incrementAndGet(this);
             handle.destroy();
         }
     }
@@ -96,6 +105,7 @@ public synchronized void destroy() {
             instanceHandle.destroy();
         }
         instances.clear();
+        VERSION_UPDATER.incrementAndGet(this);
     }
 
     @Override
@@ -107,6 +117,16 @@ public void destroy(ContextState state) {
         }
     }
 
+    /**
+     * A value obtained from {@link #get(Contextual, CreationalContext)} may be reused as long as the version does not
+     * change.
+     *
+     * @return the version of this context
+     */
+    int getVersion() {
+        return version;
+    }
+
     @SuppressWarnings({ "unchecked", "rawtypes" })
     private static <T> ContextInstanceHandle createInstanceHandle(InjectableBean<T> bean,
             CreationalContext<T> creationalContext) {
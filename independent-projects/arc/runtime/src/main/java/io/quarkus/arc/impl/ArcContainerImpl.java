@@ -86,7 +86,8 @@ public class ArcContainerImpl implements ArcContainer {
     private final Map<Class<? extends Annotation>, Set<Annotation>> transitiveInterceptorBindings;
     private final Contexts contexts;
     private final ComputingCache<Resolvable, Set<InjectableBean<?>>> resolved;
-    private final ComputingCache<String, InjectableBean<?>> beansById;
+    // Built eagerly because the beans are often looked up by identifier, e.g. the candidates of an injected Instance
+    private final Map<String, InjectableBean<?>> beansById;
     private final ComputingCache<String, Set<InjectableBean<?>>> beansByName;
 
     private final ArrayList<ResourceReferenceProvider> resourceProviders;
@@ -140,7 +141,6 @@ public ArcContainerImpl(CurrentContextFactory currentContextFactory) {
         interceptors.sort((i1, i2) -> Integer.compare(i2.getPriority(), i1.getPriority()));
 
         resolved = new ComputingCache<>(this::resolve);
-        beansById = new ComputingCache<>(this::findById);
         beansByName = new ComputingCache<>(this::resolve);
         resourceProviders = new ArrayList<>();
         for (ResourceReferenceProvider resourceProvider : ServiceLoader.load(ResourceReferenceProvider.class)) {
@@ -153,6 +153,7 @@ public ArcContainerImpl(CurrentContextFactory currentContextFactory) {
         this.beans = List.copyOf(beans);
         this.interceptors = List.copyOf(interceptors);
         this.decorators = List.copyOf(decorators);
+        this.beansById = indexById(this.beans, this.interceptors);
         this.observers = List.copyOf(observers);
         this.removedBeans = new LazyValue<>(new Supplier<List<RemovedBean>>() {
             @Override
@@ -169,7 +170,7 @@ public List<RemovedBean> get() {
         this.registeredQualifiers = new Qualifiers(qualifiers, qualifierNonbindingMembers);
 
         Contexts.Builder contextsBuilder = new Contexts.Builder(
-                new RequestContext(this.currentContextFactory.create(RequestScoped.class),
+                new RequestContext(this.currentContextFactory.create(RequestScoped.class), requestContextBeans(this.beans),
                         notifierOrNull(Set.of(Initialized.Literal.REQUEST, Any.Literal.INSTANCE)),
                         notifierOrNull(Set.of(BeforeDestroyed.Literal.REQUEST, Any.Literal.INSTANCE)),
                         notifierOrNull(Set.of(Destroyed.Literal.REQUEST, Any.Literal.INSTANCE))),
@@ -318,7 +319,7 @@ public boolean isRunning() {
     @Override
     public <T> InjectableBean<T> bean(String beanIdentifier) {
         Objects.requireNonNull(beanIdentifier);
-        return (InjectableBean<T>) beansById.getValue(beanIdentifier);
+        return (InjectableBean<T>) beansById.get(beanIdentifier);
     }
 
     @Override
@@ -559,18 +560,51 @@ private Set<InjectableBean<?>> resolve(String name) {
         return resolve(getMatchingBeans(name));
     }
 
-    private InjectableBean<?> findById(String identifier) {
+    /**
+     * The request context indexes are assigned per deployment, i.e. the beans from different {@link ComponentsProvider}s may
+     * use the same index. A slot is only used if a single bean declares the index. Other beans are stored in a map.
+     *
+     * @param beans
+     * @return the beans that own a slot in the request context state, indexed by the request context index
+     */
+    static InjectableBean<?>[] requestContextBeans(List<InjectableBean<?>> beans) {
+        int size = 0;
+        for (InjectableBean<?> bean : beans) {
+            size = Math.max(size, bean.getRequestContextIndex() + 1);
+        }
+        InjectableBean<?>[] indexedBeans = new InjectableBean<?>[size];
+        boolean[] duplicates = new boolean[size];
         for (InjectableBean<?> bean : beans) {
-            if (bean.getIdentifier().equals(identifier)) {
-                return bean;
+            int index = bean.getRequestContextIndex();
+            if (index < 0) {
+                continue;
+            }
+            if (indexedBeans[index] != null && indexedBeans[index] != bean) {
+                duplicates[index] = true;
+                LOGGER.debugf("Request context index %s is declared by multiple beans: %s and %s", index,
+                        indexedBeans[index], bean);
+            } else {
+                indexedBeans[index] = bean;
             }
         }
-        for (InjectableInterceptor<?> interceptorBean : interceptors) {
-            if (interceptorBean.getIdentifier().equals(identifier)) {
-                return interceptorBean;
+        for (int i = 0; i < size; i++) {
+            if (duplicates[i]) {
+                indexedBeans[i] = null;
             }
         }
-        return null;
+        return indexedBeans;
+    }
+
+    private static Map<String, InjectableBean<?>> indexById(List<InjectableBean<?>> beans,
+            List<InjectableInterceptor<?>> interceptors) {
+        Map<String, InjectableBean<?>> beansById = new HashMap<>();
+        for (InjectableBean<?> bean : beans) {
+            beansById.putIfAbsent(bean.getIdentifier(), bean);
+        }
+        for (InjectableInterceptor<?> interceptor : interceptors) {
+            beansById.putIfAbsent(interceptor.getIdentifier(), interceptor);
+        }
+        return beansById;
     }
 
     @SuppressWarnings("unchecked")
@@ -837,6 +871,31 @@ Set<InjectableBean<?>> getResolvedBeans(Type requiredType, Annotation... qualifi
         return resolved.getValue(new Resolvable(requiredType, qualifiers));
     }
 
+    /**
+     * Performs typesafe resolution on the specified candidates and resolves ambiguities. The result is not cached here,
+     * the {@link InstanceProvider} that owns the candidates caches it instead.
+     *
+     * @param candidates
+     * @param requiredType
+     * @param qualifiers
+     * @return the set of resolved beans
+     */
+    Set<InjectableBean<?>> getResolvedBeans(List<InjectableBean<?>> candidates, Type requiredType,
+            Annotation... qualifiers) {
+        if (qualifiers == null || qualifiers.length == 0) {
+            qualifiers = new Annotation[] { Default.Literal.INSTANCE };
+        } else {
+            registeredQualifiers.verify(qualifiers);
+        }
+        List<InjectableBean<?>> matching = new ArrayList<>(candidates.size());
+        for (InjectableBean<?> bean : candidates) {
+            if (matches(bean, requiredType, qualifiers)) {
+                matching.add(bean);
+            }
+        }
+        return resolve(matching);
+    }
+
     private boolean matches(InjectableBean<?> bean, Type requiredType, Annotation... qualifiers) {
         return matches(bean.getTypes(), bean.getQualifiers(), requiredType, qualifiers);
     }
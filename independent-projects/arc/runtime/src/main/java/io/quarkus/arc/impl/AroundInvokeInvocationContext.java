@@ -4,6 +4,7 @@
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
 
@@ -19,18 +20,24 @@
  * <p>
  * Note that context data and method parameters are mutable and are not guarded/synchronized. We expect them to be modified
  * before or after dispatch. If modified before and after dispatch an unpredictable behavior may occur.
+ * <p>
+ * The context data are shared by all contexts of a chain. The map is only created if an interceptor asks for it, i.e. an
+ * invocation of a method with a single interceptor that does not use the context data allocates a single object.
  */
 class AroundInvokeInvocationContext extends AbstractInvocationContext {
 
     private final int position;
     private final Function<InvocationContext, Object> aroundInvokeForward;
+    // The first context of the chain holds the context data, null if this is the first context
+    private final AroundInvokeInvocationContext first;
 
     AroundInvokeInvocationContext(Object target, Method method, Object[] parameters,
-            ContextDataMap contextData, Set<Annotation> interceptorBindings, int position,
+            AroundInvokeInvocationContext first, Set<Annotation> interceptorBindings, int position,
             List<InterceptorInvocation> chain, Function<InvocationContext, Object> aroundInvokeForward) {
-        super(target, method, null, parameters, contextData, interceptorBindings, chain);
+        super(target, method, null, parameters, null, interceptorBindings, chain);
         this.position = position;
         this.aroundInvokeForward = aroundInvokeForward;
+        this.first = first;
     }
 
     static Object perform(Object target, Method method,
@@ -48,7 +55,8 @@ public Object proceed() throws Exception {
             if (position < chain.size()) {
                 // Invoke the next interceptor in the chain
                 return chain.get(position).invoke(new AroundInvokeInvocationContext(target, method,
-                        parameters, contextData, interceptorBindings, position + 1, chain, aroundInvokeForward));
+                        parameters, first != null ? first : this, interceptorBindings, position + 1, chain,
+                        aroundInvokeForward));
             } else {
                 // Invoke the target method
                 return aroundInvokeForward.apply(this);
@@ -65,4 +73,9 @@ public Object proceed() throws Exception {
         }
     }
 
+    @Override
+    public Map<String, Object> getContextData() {
+        return first != null ? first.getContextData() : super.getContextData();
+    }
+
 }
@@ -23,6 +23,28 @@ public static <T> T getApplicationScopedDelegate(InjectableContext applicationCo
         return result;
     }
 
+    /**
+     * The returned delegate can be cached by the client proxy and passed to subsequent invocations. It's reused as long as
+     * no contextual instance of the application context is destroyed, i.e. the context lookup is skipped.
+     *
+     * @param applicationContext
+     * @param bean
+     * @param cached the delegate returned by the previous invocation, may be {@code null}
+     * @return the current delegate
+     */
+    public static <T> CachedDelegate getApplicationScopedDelegate(InjectableContext applicationContext,
+            InjectableBean<T> bean, CachedDelegate cached) {
+        if (applicationContext instanceof AbstractSharedContext) {
+            // The version must be read before the instance is obtained
+            int version = ((AbstractSharedContext) applicationContext).getVersion();
+            if (cached != null && cached.version == version) {
+                return cached;
+            }
+            return new CachedDelegate(getApplicationScopedDelegate(applicationContext, bean), version);
+        }
+        return new CachedDelegate(getApplicationScopedDelegate(applicationContext, bean), -1);
+    }
+
     public static <T> T getDelegate(InjectableBean<T> bean) {
         List<InjectableContext> contexts = Arc.container().getContexts(bean.getScope());
         T result = null;
@@ -61,4 +83,16 @@ private static <T> CreationalContextImpl<T> newCreationalContext(Contextual<T> c
         return new CreationalContextImpl<>(contextual);
     }
 
+    public static final class CachedDelegate {
+
+        public final Object instance;
+        private final int version;
+
+        CachedDelegate(Object instance, int version) {
+            this.instance = instance;
+            this.version = version;
+        }
+
+    }
+
 }
@@ -43,11 +43,13 @@
     static <T> InstanceImpl<T> of(Type requiredType, Set<Annotation> requiredQualifiers) {
         return new InstanceImpl<>(null, null, requiredType, requiredQualifiers,
                 new CreationalContextImpl<>(null),
-                Collections.emptySet(), null, -1);
+                Collections.emptySet(), null, -1, null);
     }
 
     private final CreationalContextImpl<?> creationalContext;
     private final List<InjectableBean<?>> resolvedBeans;
+    // Resolves the beans from the candidates found at build time, or null if all beans must be considered
+    private final InstanceProvider<?> provider;
 
     private final Type requiredType;
     private final Set<Annotation> requiredQualifiers;
@@ -63,20 +65,32 @@ static <T> InstanceImpl<T> of(Type requiredType, Set<Annotation> requiredQualifi
 
     InstanceImpl(InjectableBean<?> targetBean, Type type, Set<Annotation> qualifiers,
             CreationalContextImpl<?> creationalContext, Set<Annotation> annotations, Member javaMember, int position) {
-        this(targetBean, type, getRequiredType(type), qualifiers, creationalContext, annotations, javaMember, position);
+        this(targetBean, type, qualifiers, creationalContext, annotations, javaMember, position, null);
+    }
+
+    InstanceImpl(InjectableBean<?> targetBean, Type type, Set<Annotation> qualifiers,
+            CreationalContextImpl<?> creationalContext, Set<Annotation> annotations, Member javaMember, int position,
+            InstanceProvider<?> provider) {
+        this(targetBean, type, getRequiredType(type), qualifiers, creationalContext, annotations, javaMember, position,
+                provider);
     }
 
     private InstanceImpl(InstanceImpl<?> parent, Type requiredType, Set<Annotation> requiredQualifiers) {
+        // The candidates only match the required type of the injection point
+        // A bean that matches a subtype does not necessarily match the required type, e.g. if it declares @Typed
         this(parent.targetBean, parent.injectionPointType, requiredType, requiredQualifiers, parent.creationalContext,
-                parent.annotations, parent.javaMember, parent.position);
+                parent.annotations, parent.javaMember, parent.position,
+                requiredType.equals(parent.requiredType) ? parent.provider : null);
     }
 
     InstanceImpl(InjectableBean<?> targetBean, Type injectionPointType, Type requiredType, Set<Annotation> requiredQualifiers,
-            CreationalContextImpl<?> creationalContext, Set<Annotation> annotations, Member javaMember, int position) {
+            CreationalContextImpl<?> creationalContext, Set<Annotation> annotations, Member javaMember, int position,
+            InstanceProvider<?> provider) {
         this.injectionPointType = injectionPointType;
         this.requiredType = requiredType;
         this.requiredQualifiers = requiredQualifiers != null ? requiredQualifiers : Collections.emptySet();
         this.creationalContext = creationalContext;
+        this.provider = provider;
         if (this.requiredQualifiers.isEmpty() && Object.class.equals(requiredType)) {
             // Do not prefetch the beans for Instance<Object> with no qualifiers
             this.resolvedBeans = null;
@@ -238,7 +252,8 @@ private List<InjectableBean<?>> beans() {
     }
 
     private List<InjectableBean<?>> resolve() {
-        return Instances.resolveBeans(requiredType, requiredQualifiers);
+        return provider != null ? provider.resolveBeans(requiredQualifiers)
+                : Instances.resolveBeans(requiredType, requiredQualifiers);
     }
 
     class InstanceIterator implements Iterator<T> {
@@ -288,7 +303,7 @@ public InstanceHandle<H> next() {
 
     }
 
-    private static Type getRequiredType(final Type type) {
+    static Type getRequiredType(final Type type) {
         if (isParameterizedType(type)) {
             final ParameterizedType parameterizedType = asParameterizedType(type);
             if (Provider.class.isAssignableFrom(Types.getRawType(parameterizedType.getRawType()))) {
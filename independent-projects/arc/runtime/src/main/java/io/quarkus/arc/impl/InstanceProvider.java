@@ -3,6 +3,8 @@
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Member;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 import javax.enterprise.context.spi.CreationalContext;
@@ -23,15 +25,27 @@
     private final Set<Annotation> annotations;
     private final Member javaMember;
     private final int position;
+    // Identifiers of the beans whose types match the required type, found at build time
+    private final String[] candidateIds;
+    private volatile List<InjectableBean<?>> candidates;
+    // The beans resolved from the candidates, keyed by the required qualifiers
+    private final ComputingCache<Set<Annotation>, List<InjectableBean<?>>> resolved;
 
     public InstanceProvider(Type type, Set<Annotation> qualifiers, InjectableBean<?> targetBean, Set<Annotation> annotations,
             Member javaMember, int position) {
+        this(type, qualifiers, targetBean, annotations, javaMember, position, null);
+    }
+
+    public InstanceProvider(Type type, Set<Annotation> qualifiers, InjectableBean<?> targetBean, Set<Annotation> annotations,
+            Member javaMember, int position, String[] candidateIds) {
         this.requiredType = type;
         this.qualifiers = qualifiers;
         this.targetBean = targetBean;
         this.annotations = annotations;
         this.javaMember = javaMember;
         this.position = position;
+        this.candidateIds = candidateIds;
+        this.resolved = candidateIds != null ? new ComputingCache<>(this::resolveCandidates) : null;
     }
 
     @SuppressWarnings({ "unchecked", "rawtypes" })
@@ -39,10 +53,42 @@ public InstanceProvider(Type type, Set<Annotation> qualifiers, InjectableBean<?>
     public Instance<T> get(CreationalContext<Instance<T>> creationalContext) {
         InstanceImpl<T> instance = new InstanceImpl<T>(targetBean, requiredType, qualifiers,
                 CreationalContextImpl.unwrap(creationalContext),
-                annotations, javaMember, position);
+                annotations, javaMember, position, candidateIds != null ? this : null);
         CreationalContextImpl.addDependencyToParent(InstanceBean.INSTANCE, instance,
                 (CreationalContext) creationalContext);
         return instance;
     }
 
+    /**
+     * The required type is always the required type of the injection point.
+     *
+     * @param requiredQualifiers
+     * @return the resolved beans
+     */
+    List<InjectableBean<?>> resolveBeans(Set<Annotation> requiredQualifiers) {
+        return resolved.getValue(requiredQualifiers);
+    }
+
+    private List<InjectableBean<?>> resolveCandidates(Set<Annotation> requiredQualifiers) {
+        return Instances.resolveBeans(candidates(), InstanceImpl.getRequiredType(requiredType), requiredQualifiers);
+    }
+
+    private List<InjectableBean<?>> candidates() {
+        List<InjectableBean<?>> ret = candidates;
+        if (ret == null) {
+            // The beans cannot be obtained during the container initialization, i.e. when this provider is created
+            ArcContainerImpl container = ArcContainerImpl.instance();
+            List<InjectableBean<?>> beans = new ArrayList<>(candidateIds.length);
+            for (String id : candidateIds) {
+                InjectableBean<?> bean = container.bean(id);
+                if (bean != null) {
+                    beans.add(bean);
+                }
+            }
+            ret = List.copyOf(beans);
+            candidates = ret;
+        }
+        return ret;
+    }
+
 }
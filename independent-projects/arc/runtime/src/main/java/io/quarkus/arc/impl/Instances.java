@@ -37,8 +37,25 @@ public static List<InjectableBean<?>> resolveBeans(Type requiredType, Set<Annota
     }
 
     public static List<InjectableBean<?>> resolveBeans(Type requiredType, Annotation... requiredQualifiers) {
-        Set<InjectableBean<?>> resolvedBeans = ArcContainerImpl.instance()
-                .getResolvedBeans(requiredType, requiredQualifiers);
+        return filterAndSort(ArcContainerImpl.instance().getResolvedBeans(requiredType, requiredQualifiers));
+    }
+
+    /**
+     * Unlike {@link #resolveBeans(Type, Set)} only the specified candidates are considered and the result is not stored in
+     * the resolution cache of the container.
+     *
+     * @param candidates
+     * @param requiredType
+     * @param requiredQualifiers
+     * @return the list of resolved beans
+     */
+    static List<InjectableBean<?>> resolveBeans(List<InjectableBean<?>> candidates, Type requiredType,
+            Set<Annotation> requiredQualifiers) {
+        return filterAndSort(ArcContainerImpl.instance().getResolvedBeans(candidates, requiredType,
+                requiredQualifiers.toArray(EMPTY_ANNOTATION_ARRAY)));
+    }
+
+    private static List<InjectableBean<?>> filterAndSort(Set<InjectableBean<?>> resolvedBeans) {
         List<InjectableBean<?>> nonSuppressed = new ArrayList<>(resolvedBeans.size());
         for (InjectableBean<?> injectableBean : resolvedBeans) {
             if (!injectableBean.isSuppressed()) {
@@ -33,6 +33,22 @@ public static Object performAroundInvoke(Object target, Method method,
         return AroundInvokeInvocationContext.perform(target, method, aroundInvokeForward, args, chain, interceptorBindings);
     }
 
+    /**
+     * The forwarding function and the interceptor chain are taken from the metadata, i.e. no function needs to be allocated
+     * for each invocation.
+     *
+     * @param target
+     * @param args
+     * @param metadata
+     * @return the return value
+     * @throws Exception
+     */
+    public static Object performAroundInvoke(Object target, Object[] args, InterceptedMethodMetadata metadata)
+            throws Exception {
+        return AroundInvokeInvocationContext.perform(target, metadata.method, metadata.aroundInvokeForward, args,
+                metadata.chain, metadata.bindings);
+    }
+
     /**
      *
      * @param target
@@ -4,10 +4,12 @@
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.VarHandle;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -34,14 +36,18 @@ class RequestContext implements ManagedContext {
     private static final Logger LOG = Logger.getLogger("io.quarkus.arc.requestContext");
 
     private final CurrentContext<RequestContextState> currentContext;
+    // The beans that own a slot in the request context state, indexed by InjectableBean#getRequestContextIndex()
+    private final InjectableBean<?>[] indexedBeans;
 
     private final Notifier<Object> initializedNotifier;
     private final Notifier<Object> beforeDestroyedNotifier;
     private final Notifier<Object> destroyedNotifier;
 
-    public RequestContext(CurrentContext<RequestContextState> currentContext, Notifier<Object> initializedNotifier,
-            Notifier<Object> beforeDestroyedNotifier, Notifier<Object> destroyedNotifier) {
+    public RequestContext(CurrentContext<RequestContextState> currentContext, InjectableBean<?>[] indexedBeans,
+            Notifier<Object> initializedNotifier, Notifier<Object> beforeDestroyedNotifier,
+            Notifier<Object> destroyedNotifier) {
         this.currentContext = currentContext;
+        this.indexedBeans = indexedBeans;
         this.initializedNotifier = initializedNotifier;
         this.beforeDestroyedNotifier = beforeDestroyedNotifier;
         this.destroyedNotifier = destroyedNotifier;
@@ -66,13 +72,13 @@ public <T> T getIfActive(Contextual<T> contextual, Function<Contextual<T>, Creat
             // Context is not active!
             return null;
         }
-        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) ctxState.map.get(contextual);
+        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) ctxState.get(bean);
         if (instance == null) {
             CreationalContext<T> creationalContext = creationalContextFun.apply(contextual);
             // Bean instance does not exist - create one if we have CreationalContext
             instance = new ContextInstanceHandleImpl<T>((InjectableBean<T>) contextual,
                     contextual.create(creationalContext), creationalContext);
-            ctxState.map.put(contextual, instance);
+            ctxState.put(bean, instance);
         }
         return instance.get();
     }
@@ -99,7 +105,7 @@ public <T> T get(Contextual<T> contextual) {
         if (state == null) {
             throw notActive();
         }
-        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) state.map.get(contextual);
+        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) state.get(bean);
         return instance == null ? null : instance.get();
     }
 
@@ -115,7 +121,7 @@ public void destroy(Contextual<?> contextual) {
             // Context is not active
             throw notActive();
         }
-        ContextInstanceHandle<?> instance = state.map.remove(contextual);
+        ContextInstanceHandle<?> instance = state.remove(contextual);
         if (instance != null) {
             instance.destroy();
         }
@@ -133,7 +139,7 @@ public void activate(ContextState initialState) {
                     initialState != null ? Integer.toHexString(initialState.hashCode()) : "new", stack);
         }
         if (initialState == null) {
-            currentContext.set(new RequestContextState(new ConcurrentHashMap<>()));
+            currentContext.set(new RequestContextState(indexedBeans));
             // Fire an event with qualifier @Initialized(RequestScoped.class) if there are any observers for it
             fireIfNotEmpty(initializedNotifier);
         } else {
@@ -196,12 +202,7 @@ public void destroy(ContextState state) {
             if (reqState.invalidate()) {
                 // Fire an event with qualifier @BeforeDestroyed(RequestScoped.class) if there are any observers for it
                 fireIfNotEmpty(beforeDestroyedNotifier);
-                Map<Contextual<?>, ContextInstanceHandle<?>> map = ((RequestContextState) state).map;
-                if (!map.isEmpty()) {
-                    //Performance: avoid an iterator on the map elements
-                    map.forEach(this::destroyContextElement);
-                    map.clear();
-                }
+                reqState.destroyAll(this::destroyContextElement);
                 // Fire an event with qualifier @Destroyed(RequestScoped.class) if there are any observers for it
                 fireIfNotEmpty(destroyedNotifier);
             }
@@ -210,7 +211,7 @@ public void destroy(ContextState state) {
         }
     }
 
-    private void destroyContextElement(Contextual<?> contextual, ContextInstanceHandle<?> contextInstanceHandle) {
+    private void destroyContextElement(ContextInstanceHandle<?> contextInstanceHandle) {
         try {
             contextInstanceHandle.destroy();
         } catch (Exception e) {
@@ -237,27 +238,90 @@ private ContextNotActiveException notActive() {
     static class RequestContextState implements ContextState {
 
         private static final VarHandle IS_VALID;
+        private static final VarHandle MAP;
+        private static final VarHandle INSTANCES = MethodHandles.arrayElementVarHandle(ContextInstanceHandle[].class);
 
         static {
             try {
                 IS_VALID = MethodHandles.lookup().findVarHandle(RequestContextState.class, "isValid", int.class);
+                MAP = MethodHandles.lookup().findVarHandle(RequestContextState.class, "map", ConcurrentMap.class);
             } catch (ReflectiveOperationException e) {
                 throw new Error(e);
             }
         }
 
-        private final Map<Contextual<?>, ContextInstanceHandle<?>> map;
+        // The beans that own a slot
+        private final InjectableBean<?>[] indexedBeans;
+        // Instances of beans with an index assigned at build time
+        private final ContextInstanceHandle<?>[] instances;
+        // Instances of beans without an index, e.g. beans that were not generated by ArC; initialized lazily
+        private volatile ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map;
         private volatile int isValid;
 
-        RequestContextState(ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> value) {
-            this.map = Objects.requireNonNull(value);
+        RequestContextState(InjectableBean<?>[] indexedBeans) {
+            this.indexedBeans = indexedBeans;
+            this.instances = new ContextInstanceHandle<?>[indexedBeans.length];
             this.isValid = 1;
         }
 
+        ContextInstanceHandle<?> get(Contextual<?> contextual) {
+            int index = indexOf(contextual);
+            if (index >= 0) {
+                return (ContextInstanceHandle<?>) INSTANCES.getAcquire(instances, index);
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map = this.map;
+            return map != null ? map.get(contextual) : null;
+        }
+
+        void put(Contextual<?> contextual, ContextInstanceHandle<?> instance) {
+            int index = indexOf(contextual);
+            if (index >= 0) {
+                INSTANCES.setRelease(instances, index, instance);
+            } else {
+                map().put(contextual, instance);
+            }
+        }
+
+        ContextInstanceHandle<?> remove(Contextual<?> contextual) {
+            int index = indexOf(contextual);
+            if (index >= 0) {
+                return (ContextInstanceHandle<?>) INSTANCES.getAndSet(instances, index, null);
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map = this.map;
+            return map != null ? map.remove(contextual) : null;
+        }
+
+        void destroyAll(Consumer<ContextInstanceHandle<?>> action) {
+            for (int i = 0; i < instances.length; i++) {
+                ContextInstanceHandle<?> instance = (ContextInstanceHandle<?>) INSTANCES.getAndSet(instances, i, null);
+                if (instance != null) {
+                    action.accept(instance);
+                }
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map = this.map;
+            if (map != null && !map.isEmpty()) {
+                //Performance: avoid an iterator on the map elements
+                map.forEach((contextual, instance) -> action.accept(instance));
+                map.clear();
+            }
+        }
+
         @Override
         public Map<InjectableBean<?>, Object> getContextualInstances() {
-            return map.values().stream()
-                    .collect(Collectors.toUnmodifiableMap(ContextInstanceHandle::getBean, ContextInstanceHandle::get));
+            Map<InjectableBean<?>, Object> result = new HashMap<>();
+            for (int i = 0; i < instances.length; i++) {
+                ContextInstanceHandle<?> instance = (ContextInstanceHandle<?>) INSTANCES.getAcquire(instances, i);
+                if (instance != null) {
+                    result.put(instance.getBean(), instance.get());
+                }
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map = this.map;
+            if (map != null) {
+                for (ContextInstanceHandle<?> instance : map.values()) {
+                    result.put(instance.getBean(), instance.get());
+                }
+            }
+            return Map.copyOf(result);
         }
 
         /**
@@ -273,6 +337,31 @@ public boolean isValid() {
             return isValid == 1;
         }
 
+        private int indexOf(Contextual<?> contextual) {
+            if (contextual instanceof InjectableBean) {
+                int index = ((InjectableBean<?>) contextual).getRequestContextIndex();
+                // The index is only unique within a single deployment
+                // The bean may come from a different deployment or share the index with a bean from another ComponentsProvider
+                if (index >= 0 && index < indexedBeans.length && indexedBeans[index] == contextual) {
+                    return index;
+                }
+            }
+            return -1;
+        }
+
+        @SuppressWarnings("unchecked")
+        private ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map() {
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map = this.map;
+            if (map == null) {
+                ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> newMap = new ConcurrentHashMap<>();
+                map = (ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>>) MAP.compareAndExchange(this, null, newMap);
+                if (map == null) {
+                    map = newMap;
+                }
+            }
+            return map;
+        }
+
     }
 
 }
@@ -0,0 +1,115 @@
+package io.quarkus.arc.impl;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Set;
+
+import javax.enterprise.context.RequestScoped;
+import javax.enterprise.context.spi.CreationalContext;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.arc.InjectableBean;
+
+public class RequestContextTest {
+
+    @Test
+    public void testDuplicateIndex() {
+        // Beans from two different deployments may declare the same index
+        IndexedBean alpha = new IndexedBean("alpha", 0);
+        IndexedBean bravo = new IndexedBean("bravo", 0);
+        IndexedBean charlie = new IndexedBean("charlie", 1);
+        InjectableBean<?>[] indexedBeans = ArcContainerImpl.requestContextBeans(List.of(alpha, bravo, charlie));
+        assertArrayEquals(new InjectableBean<?>[] { null, charlie }, indexedBeans);
+
+        RequestContext requestContext = new RequestContext(new ThreadLocalCurrentContext<>(), indexedBeans, null, null,
+                null);
+        requestContext.activate();
+        try {
+            assertEquals("alpha", requestContext.get(alpha, new CreationalContextImpl<>(alpha)));
+            assertEquals("bravo", requestContext.get(bravo, new CreationalContextImpl<>(bravo)));
+            assertEquals("charlie", requestContext.get(charlie, new CreationalContextImpl<>(charlie)));
+            assertEquals("alpha", requestContext.get(alpha));
+            assertEquals("bravo", requestContext.get(bravo));
+            assertEquals(3, requestContext.getState().getContextualInstances().size());
+            requestContext.destroy(alpha);
+            assertNull(requestContext.get(alpha));
+            assertEquals("bravo", requestContext.get(bravo));
+        } finally {
+            requestContext.terminate();
+        }
+    }
+
+    @Test
+    public void testIndexFromDifferentDeployment() {
+        IndexedBean alpha = new IndexedBean("alpha", 0);
+        IndexedBean bravo = new IndexedBean("bravo", 0);
+        InjectableBean<?>[] indexedBeans = ArcContainerImpl.requestContextBeans(List.of(alpha));
+        assertArrayEquals(new InjectableBean<?>[] { alpha }, indexedBeans);
+
+        RequestContext requestContext = new RequestContext(new ThreadLocalCurrentContext<>(), indexedBeans, null, null,
+                null);
+        requestContext.activate();
+        try {
+            assertEquals("alpha", requestContext.get(alpha, new CreationalContextImpl<>(alpha)));
+            assertNull(requestContext.get(bravo));
+            assertEquals("bravo", requestContext.get(bravo, new CreationalContextImpl<>(bravo)));
+            assertEquals("alpha", requestContext.get(alpha));
+        } finally {
+            requestContext.terminate();
+        }
+    }
+
+    static class IndexedBean implements InjectableBean<String> {
+
+        private final String id;
+        private final int index;
+
+        IndexedBean(String id, int index) {
+            this.id = id;
+            this.index = index;
+        }
+
+        @Override
+        public String getIdentifier() {
+            return id;
+        }
+
+        @Override
+        public Class<? extends Annotation> getScope() {
+            return RequestScoped.class;
+        }
+
+        @Override
+        public Set<Type> getTypes() {
+            return Set.of(String.class, Object.class);
+        }
+
+        @Override
+        public Class<?> getBeanClass() {
+            return String.class;
+        }
+
+        @Override
+        public String create(CreationalContext<String> creationalContext) {
+            return id;
+        }
+
+        @Override
+        public String get(CreationalContext<String> creationalContext) {
+            return create(creationalContext);
+        }
+
+        @Override
+        public int getRequestContextIndex() {
+            return index;
+        }
+
+    }
+
+}
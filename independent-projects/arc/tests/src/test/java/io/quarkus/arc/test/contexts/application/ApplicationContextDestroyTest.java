@@ -0,0 +1,65 @@
+package io.quarkus.arc.test.contexts.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ClientProxy;
+import io.quarkus.arc.InjectableContext;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class ApplicationContextDestroyTest {
+
+    @RegisterExtension
+    ArcTestContainer container = new ArcTestContainer(Counter.class);
+
+    @Test
+    public void testClientProxyDelegateDiscarded() {
+        Counter counter = Arc.container().instance(Counter.class).get();
+        assertTrue(counter instanceof ClientProxy);
+        String id = counter.getId();
+        // The delegate is reused
+        assertEquals(id, counter.getId());
+        assertEquals(0, Counter.DESTROYED.get());
+
+        InjectableContext appContext = Arc.container().getActiveContext(ApplicationScoped.class);
+        appContext.destroy(((ClientProxy) counter).arc_bean());
+        assertEquals(1, Counter.DESTROYED.get());
+        String newId = counter.getId();
+        assertNotEquals(id, newId);
+        assertEquals(newId, counter.getId());
+
+        appContext.destroy();
+        assertEquals(2, Counter.DESTROYED.get());
+        assertNotEquals(newId, counter.getId());
+    }
+
+    @ApplicationScoped
+    static class Counter {
+
+        static final AtomicInteger DESTROYED = new AtomicInteger();
+
+        private final String id = UUID.randomUUID().toString();
+
+        String getId() {
+            return id;
+        }
+
+        @PreDestroy
+        void destroy() {
+            DESTROYED.incrementAndGet();
+        }
+
+    }
+
+}
@@ -4,6 +4,7 @@
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -204,6 +205,29 @@ public void testGet() {
         }
     }
 
+    @Test
+    public void testRequestContextIndex() {
+        ArcContainer arc = Arc.container();
+        InjectableBean<Controller> controllerBean = arc.instance(Controller.class).getBean();
+        assertTrue(controllerBean.getRequestContextIndex() >= 0);
+        assertEquals(-1, arc.instance(Boom.class).getBean().getRequestContextIndex());
+
+        ManagedContext requestContext = arc.requestContext();
+        requestContext.activate();
+        try {
+            Controller.DESTROYED.set(false);
+            String id = arc.instance(Controller.class).get().getId();
+            assertEquals(id, ((Controller) requestContext.getState().getContextualInstances().get(controllerBean)).getId());
+            requestContext.destroy(controllerBean);
+            assertTrue(Controller.DESTROYED.get());
+            assertNull(requestContext.get(controllerBean));
+            assertTrue(requestContext.getState().getContextualInstances().isEmpty());
+            assertNotEquals(id, arc.instance(Controller.class).get().getId());
+        } finally {
+            requestContext.terminate();
+        }
+    }
+
     @ApplicationScoped
     public static class Boom {
 
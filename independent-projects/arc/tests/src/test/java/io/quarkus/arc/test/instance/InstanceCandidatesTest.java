@@ -0,0 +1,135 @@
+package io.quarkus.arc.test.instance;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.enterprise.context.Dependent;
+import javax.enterprise.inject.Any;
+import javax.enterprise.inject.Instance;
+import javax.enterprise.inject.Typed;
+import javax.enterprise.inject.spi.BeanManager;
+import javax.enterprise.util.AnnotationLiteral;
+import javax.inject.Inject;
+import javax.inject.Qualifier;
+import javax.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class InstanceCandidatesTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Service.class, Alpha.class, AlphaService.class,
+            BravoService.class, CharlieService.class, Consumer.class);
+
+    @Test
+    public void testSelect() {
+        Consumer consumer = Arc.container().instance(Consumer.class).get();
+        assertEquals("bravo", consumer.services.get().ping());
+        assertTrue(consumer.beanManager.isResolvable());
+
+        List<String> pings = new ArrayList<>();
+        for (Service service : consumer.allServices) {
+            pings.add(service.ping());
+        }
+        pings.sort(null);
+        assertEquals(List.of("alpha", "bravo"), pings);
+        assertEquals("alpha", consumer.allServices.select(Alpha.Literal.INSTANCE).get().ping());
+        assertEquals("bravo", consumer.allServices.select(BravoService.class).get().ping());
+        assertTrue(consumer.allServices.select(Alpha.Literal.INSTANCE).select(BravoService.class).isUnsatisfied());
+        assertTrue(consumer.services.select(Alpha.Literal.INSTANCE).isUnsatisfied());
+    }
+
+    @Test
+    public void testSelectTypedSubtype() {
+        Consumer consumer = Arc.container().instance(Consumer.class).get();
+        // CharlieService is not a candidate of Instance<Service> because Service is not a bean type
+        assertTrue(consumer.allServices.select(CharlieService.class).isResolvable());
+        assertEquals("charlie", consumer.services.select(CharlieService.class).get().ping());
+        // The result is the same for the second lookup
+        assertEquals("alpha", consumer.allServices.select(Alpha.Literal.INSTANCE).get().ping());
+        assertEquals("alpha", consumer.allServices.select(Alpha.Literal.INSTANCE).get().ping());
+    }
+
+    interface Service {
+
+        String ping();
+
+    }
+
+    @Qualifier
+    @Retention(RUNTIME)
+    @Target({ TYPE, METHOD, FIELD, PARAMETER })
+    @interface Alpha {
+
+        final class Literal extends AnnotationLiteral<Alpha> implements Alpha {
+
+            static final Literal INSTANCE = new Literal();
+
+            private static final long serialVersionUID = 1L;
+
+        }
+
+    }
+
+    @Alpha
+    @Singleton
+    static class AlphaService implements Service {
+
+        @Override
+        public String ping() {
+            return "alpha";
+        }
+
+    }
+
+    @Singleton
+    static class BravoService implements Service {
+
+        @Override
+        public String ping() {
+            return "bravo";
+        }
+
+    }
+
+    @Typed(CharlieService.class)
+    @Singleton
+    static class CharlieService implements Service {
+
+        @Override
+        public String ping() {
+            return "charlie";
+        }
+
+    }
+
+    @Dependent
+    static class Consumer {
+
+        @Inject
+        Instance<Service> services;
+
+        @Any
+        @Inject
+        Instance<Service> allServices;
+
+        @Inject
+        Instance<BeanManager> beanManager;
+
+    }
+
+}
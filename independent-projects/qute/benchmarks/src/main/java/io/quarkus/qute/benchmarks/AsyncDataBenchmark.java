@@ -0,0 +1,67 @@
+package io.quarkus.qute.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.ReflectionValueResolver;
+import io.quarkus.qute.Template;
+
+/**
+ * Measures the rendering of a template whose data are provided asynchronously.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class AsyncDataBenchmark {
+
+    private Template template;
+    private List<Item> items;
+    private ExecutorService executor;
+
+    @Setup
+    public void setup() {
+        Engine engine = Engine.builder().addDefaults().addValueResolver(new ReflectionValueResolver()).build();
+        template = engine.parse("<h1>{title}</h1>{#for item in items}<p>{item.name}: {item.price}</p>{/for}");
+        items = Templates.items(100);
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public String renderCompleted() {
+        return template.data("title", CompletableFuture.completedFuture("Completed"))
+                .data("items", CompletableFuture.completedFuture(items))
+                .render();
+    }
+
+    @Benchmark
+    public String renderAsync() {
+        return template.data("title", CompletableFuture.supplyAsync(() -> "Async", executor))
+                .data("items", CompletableFuture.supplyAsync(() -> items, executor))
+                .renderAsync().toCompletableFuture().join();
+    }
+
+}
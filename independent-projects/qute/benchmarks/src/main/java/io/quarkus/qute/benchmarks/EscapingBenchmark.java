@@ -0,0 +1,59 @@
+package io.quarkus.qute.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.HtmlEscaper;
+import io.quarkus.qute.ReflectionValueResolver;
+import io.quarkus.qute.Template;
+import io.quarkus.qute.Variant;
+
+/**
+ * Measures the rendering of an HTML template where the output of expressions is escaped.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class EscapingBenchmark {
+
+    @Param({ "true", "false" })
+    public boolean escapedChars;
+
+    private Template template;
+    private List<Item> items;
+
+    @Setup
+    public void setup() {
+        Engine engine = Engine.builder().addDefaults().addValueResolver(new ReflectionValueResolver())
+                .addResultMapper(new HtmlEscaper(List.of(Variant.TEXT_HTML))).build();
+        template = engine.parse(Templates.page(5), Variant.forContentType(Variant.TEXT_HTML));
+        items = Templates.items(100);
+        if (!escapedChars) {
+            for (int i = 0; i < items.size(); i++) {
+                items.set(i, new Item("Item " + i, i));
+            }
+        }
+    }
+
+    @Benchmark
+    public String render() {
+        return template.data("title", "Escaping & Co.").data("items", items).render();
+    }
+
+}
@@ -0,0 +1,60 @@
+package io.quarkus.qute.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.ReflectionValueResolver;
+import io.quarkus.qute.Template;
+
+/**
+ * Measures the rendering of a page that extends a layout and includes nested templates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class IncludeBenchmark {
+
+    @Param({ "1", "10" })
+    public int depth;
+
+    private Template page;
+    private List<Item> items;
+
+    @Setup
+    public void setup() {
+        Engine engine = Engine.builder().addDefaults().addValueResolver(new ReflectionValueResolver()).build();
+        engine.putTemplate("layout", engine.parse("<html><head><title>{#insert title}Default{/}</title></head>"
+                + "<body>{#insert}No body{/}</body></html>"));
+        // nested_0 includes nested_1, ..., the last one renders the items
+        for (int i = depth - 1; i >= 0; i--) {
+            String content = i == depth - 1
+                    ? "{#for item in items}<p>{item.name}</p>{/for}"
+                    : "<div>{#include nested_" + (i + 1) + " /}</div>";
+            engine.putTemplate("nested_" + i, engine.parse(content));
+        }
+        page = engine.parse("{#include layout}{#title}Page{/title}{#include nested_0 /}{/include}");
+        items = Templates.items(10);
+    }
+
+    @Benchmark
+    public String render() {
+        return page.data("items", items).render();
+    }
+
+}
@@ -0,0 +1,22 @@
+package io.quarkus.qute.benchmarks;
+
+public class Item {
+
+    public final String name;
+
+    public final int price;
+
+    public Item(String name, int price) {
+        this.name = name;
+        this.price = price;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getPrice() {
+        return price;
+    }
+
+}
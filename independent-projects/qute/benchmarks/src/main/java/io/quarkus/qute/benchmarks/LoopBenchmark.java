@@ -0,0 +1,62 @@
+package io.quarkus.qute.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.ReflectionValueResolver;
+import io.quarkus.qute.Template;
+
+/**
+ * Measures the rendering of a table with many rows, i.e. the loop section, the iteration metadata and the value resolvers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class LoopBenchmark {
+
+    @Param({ "10", "1000" })
+    public int size;
+
+    private Template table;
+    private Template range;
+    private List<Item> items;
+
+    @Setup
+    public void setup() {
+        Engine engine = Engine.builder().addDefaults().addValueResolver(new ReflectionValueResolver()).build();
+        table = engine.parse("<table>\n"
+                + "{#for item in items}\n"
+                + "<tr class=\"{item_indexParity}\"><td>{item_count}</td><td>{item.name}</td><td>{item.price}</td></tr>\n"
+                + "{/for}\n"
+                + "</table>");
+        range = engine.parse("{#for i in total}{i}{#if i_hasNext},{/if}{/for}");
+        items = Templates.items(size);
+    }
+
+    @Benchmark
+    public String renderTable() {
+        return table.data("items", items).render();
+    }
+
+    @Benchmark
+    public String renderRange() {
+        return range.data("total", size).render();
+    }
+
+}
@@ -0,0 +1,67 @@
+package io.quarkus.qute.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.NamespaceResolver;
+import io.quarkus.qute.Results;
+import io.quarkus.qute.Template;
+
+/**
+ * Measures the rendering of a localized page with many message lookups.
+ * <p>
+ * The message bundles are implemented in the Quarkus extension. Therefore, a {@code msg} namespace resolver backed by a
+ * map of messages is used to simulate the message bundle lookups.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MessageBundleBenchmark {
+
+    @Param({ "10", "500" })
+    public int messages;
+
+    private Template template;
+
+    @Setup
+    public void setup() {
+        Map<String, String> bundle = new HashMap<>();
+        for (int i = 0; i < messages; i++) {
+            bundle.put("message_" + i, "Message number " + i);
+        }
+        Engine engine = Engine.builder().addDefaults()
+                .addNamespaceResolver(NamespaceResolver.builder("msg").resolve(ctx -> {
+                    String message = bundle.get(ctx.getName());
+                    return message != null ? message : Results.NotFound.from(ctx);
+                }).build())
+                .build();
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            content.append("<p>{msg:message_").append(i % messages).append("}</p>\n");
+        }
+        template = engine.parse(content.toString());
+    }
+
+    @Benchmark
+    public String render() {
+        return template.render();
+    }
+
+}
@@ -0,0 +1,48 @@
+package io.quarkus.qute.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The templates and the data shared by the benchmarks.
+ */
+final class Templates {
+
+    private Templates() {
+    }
+
+    /**
+     *
+     * @param sections
+     * @return the content of a page with the specified number of repeated sections
+     */
+    static String page(int sections) {
+        StringBuilder builder = new StringBuilder();
+        builder.append("<html>\n<head><title>{title}</title></head>\n<body>\n");
+        for (int i = 0; i < sections; i++) {
+            builder.append("{! Section ").append(i).append(" !}\n")
+                    .append("<h2>{title.toUpperCase} - ").append(i).append("</h2>\n")
+                    .append("{#if items.size > 0}\n")
+                    .append("<ul>\n")
+                    .append("{#for item in items}\n")
+                    .append("<li class=\"{item_indexParity}\">{item.name ?: 'Unknown'} - {item.price}</li>\n")
+                    .append("{/for}\n")
+                    .append("</ul>\n")
+                    .append("{#else}\n")
+                    .append("<p>No items</p>\n")
+                    .append("{/if}\n")
+                    .append("{#let total=items.size}<p>Total: {total}</p>{/let}\n");
+        }
+        builder.append("</body>\n</html>");
+        return builder.toString();
+    }
+
+    static List<Item> items(int size) {
+        List<Item> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            items.add(new Item("Item <" + i + ">", i * 10));
+        }
+        return items;
+    }
+
+}
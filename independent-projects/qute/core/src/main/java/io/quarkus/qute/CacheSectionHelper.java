@@ -0,0 +1,321 @@
+package io.quarkus.qute;
+
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import io.quarkus.qute.TemplateNode.Origin;
+
+/**
+ * Caches the rendered output of the section content.
+ * <p>
+ * The key is derived from the location of the section. The {@code key} parameter can be used to specify an expression whose
+ * value is appended to the key, i.e. each section caches a separate value per distinct key value. The optional {@code ttl}
+ * parameter specifies the time after which a cached value expires, e.g. {@code 30s}, {@code 5m} or {@code PT1H}. A number
+ * without a unit represents seconds.
+ *
+ * <pre>
+ * {#cached key=inject:user.locale ttl=5m}
+ *   {#for item in inject:menu.items}...{/for}
+ * {/cached}
+ * </pre>
+ *
+ * Note that this section helper is not registered by default. An implementation of {@link Cache} must be provided.
+ *
+ * @see Cache
+ */
+public class CacheSectionHelper implements SectionHelper {
+
+    private static final String KEY = "key";
+    private static final String TTL = "ttl";
+
+    private final Cache cache;
+    private final String defaultKey;
+    private final Expression key;
+    private final Duration ttl;
+
+    CacheSectionHelper(Cache cache, String defaultKey, Expression key, Duration ttl) {
+        this.cache = cache;
+        this.defaultKey = defaultKey;
+        this.key = key;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public CompletionStage<ResultNode> resolve(SectionResolutionContext context) {
+        if (key == null) {
+            return getValue(defaultKey, context);
+        }
+        // The key value is combined with the location so that different sections with the same key do not share the value
+        return context.resolutionContext().evaluate(key)
+                .thenCompose(k -> getValue(defaultKey + ":" + k, context));
+    }
+
+    private CompletionStage<ResultNode> getValue(String key, SectionResolutionContext context) {
+        return cache.getValue(key, ttl, k -> context.execute().thenApply(CacheSectionHelper::toRenderedNode));
+    }
+
+    static ResultNode toRenderedNode(ResultNode node) {
+        // Render the content eagerly so that the cached value does not hold the result tree
+        StringBuilder builder = new StringBuilder();
+        node.process(builder::append);
+        return new RenderedNode(builder.toString());
+    }
+
+    /**
+     * Stores the rendered output of cached sections.
+     */
+    public interface Cache {
+
+        /**
+         * The loader must be called if there is no value associated with the key or if the value expired.
+         *
+         * @param key
+         * @param ttl the time after which the value expires, or {@code null} if the value never expires
+         * @param loader
+         * @return the cached value, or the value computed by the loader
+         */
+        CompletionStage<ResultNode> getValue(String key, Duration ttl,
+                Function<String, CompletionStage<ResultNode>> loader);
+
+    }
+
+    /**
+     * A simple in-memory cache. The number of entries is limited, the least recently used entry is removed if the limit
+     * is exceeded. An expired entry is removed when it's accessed.
+     */
+    public static class InMemoryCache implements Cache {
+
+        public static final int DEFAULT_MAX_SIZE = 1000;
+
+        // The access order is used to find the least recently used entry; all access must be synchronized on the map
+        private final Map<String, CacheEntry> entries;
+
+        public InMemoryCache() {
+            this(DEFAULT_MAX_SIZE);
+        }
+
+        /**
+         *
+         * @param maxSize the maximum number of cached values
+         */
+        public InMemoryCache(int maxSize) {
+            if (maxSize < 1) {
+                throw new IllegalArgumentException("The maximum size must be greater than zero: " + maxSize);
+            }
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+                    return size() > maxSize;
+                }
+            };
+        }
+
+        @Override
+        public CompletionStage<ResultNode> getValue(String key, Duration ttl,
+                Function<String, CompletionStage<ResultNode>> loader) {
+            synchronized (entries) {
+                CacheEntry entry = entries.get(key);
+                if (entry != null) {
+                    if (!entry.isExpired()) {
+                        return entry.value;
+                    }
+                    entries.remove(key);
+                }
+            }
+            // The loader is not called while holding a lock because the content may contain other cached sections
+            // Concurrent loads of the same key are not synchronized, the last value wins
+            CacheEntry loaded = new CacheEntry(loader.apply(key), ttl);
+            synchronized (entries) {
+                entries.put(key, loaded);
+            }
+            loaded.value.whenComplete((r, t) -> {
+                if (t != null) {
+                    // Do not cache failures
+                    synchronized (entries) {
+                        entries.remove(key, loaded);
+                    }
+                }
+            });
+            return loaded.value;
+        }
+
+        public void invalidate(String key) {
+            synchronized (entries) {
+                entries.remove(key);
+            }
+        }
+
+        public void invalidateAll() {
+            synchronized (entries) {
+                entries.clear();
+            }
+        }
+
+        /**
+         *
+         * @return the number of cached values, including the expired values that were not accessed yet
+         */
+        public int size() {
+            synchronized (entries) {
+                return entries.size();
+            }
+        }
+
+    }
+
+    /**
+     * A cached value with an optional expiration time.
+     */
+    public static final class CacheEntry {
+
+        public final CompletionStage<ResultNode> value;
+        private final boolean expires;
+        private final long expiresAt;
+        private volatile boolean failed;
+
+        public CacheEntry(CompletionStage<ResultNode> value, Duration ttl) {
+            this.value = Objects.requireNonNull(value);
+            this.expires = ttl != null;
+            this.expiresAt = expires ? System.nanoTime() + ttl.toNanos() : 0;
+            value.whenComplete((r, t) -> {
+                if (t != null) {
+                    failed = true;
+                }
+            });
+        }
+
+        public boolean isExpired() {
+            return expires && System.nanoTime() - expiresAt >= 0;
+        }
+
+        /**
+         *
+         * @return {@code true} if the rendering failed
+         */
+        public boolean isFailed() {
+            return failed;
+        }
+
+    }
+
+    static final class RenderedNode implements ResultNode {
+
+        private final String value;
+
+        RenderedNode(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public void process(Consumer<String> resultConsumer) {
+            if (!value.isEmpty()) {
+                resultConsumer.accept(value);
+            }
+        }
+
+    }
+
+    public static class Factory implements SectionHelperFactory<CacheSectionHelper> {
+
+        private final Cache cache;
+
+        public Factory(Cache cache) {
+            this.cache = Objects.requireNonNull(cache);
+        }
+
+        @Override
+        public List<String> getDefaultAliases() {
+            return ImmutableList.of("cached");
+        }
+
+        @Override
+        public ParametersInfo getParameters() {
+            return ParametersInfo.builder()
+                    .addParameter(Parameter.builder(KEY).optional().build())
+                    .addParameter(Parameter.builder(TTL).optional().build())
+                    .build();
+        }
+
+        @Override
+        public CacheSectionHelper initialize(SectionInitContext context) {
+            Origin origin = context.getOrigin();
+            // The generated id changes when the template is parsed again, e.g. after Engine#clearTemplates(), so only
+            // the anonymous templates use it
+            String defaultKey = origin.getTemplateId() + ":" + origin.getLine() + ":" + origin.getLineCharacterStart();
+            Duration ttl = null;
+            String ttlValue = context.getParameter(TTL);
+            if (ttlValue != null) {
+                ttl = parseTtl(ttlValue);
+                if (ttl == null) {
+                    throw context.error("invalid ttl value: [{ttl}]")
+                            .code(Code.INVALID_TTL)
+                            .argument("ttl", ttlValue)
+                            .origin(origin)
+                            .build();
+                }
+            }
+            return new CacheSectionHelper(cache, defaultKey, context.getExpression(KEY), ttl);
+        }
+
+        @Override
+        public Scope initializeBlock(Scope previousScope, BlockInfo block) {
+            if (block.getLabel().equals(MAIN_BLOCK_NAME)) {
+                String key = block.getParameter(KEY);
+                if (key != null) {
+                    block.addExpression(KEY, key);
+                }
+            }
+            return previousScope;
+        }
+
+        static Duration parseTtl(String value) {
+            if (LiteralSupport.isStringLiteralSeparator(value.charAt(0))) {
+                value = value.substring(1, value.length() - 1);
+            }
+            try {
+                Duration ttl;
+                if (value.startsWith("P") || value.startsWith("p")) {
+                    ttl = Duration.parse(value);
+                } else if (value.endsWith("ms")) {
+                    ttl = Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+                } else if (value.endsWith("s")) {
+                    ttl = Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+                } else if (value.endsWith("m")) {
+                    ttl = Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+                } else if (value.endsWith("h")) {
+                    ttl = Duration.ofHours(Long.parseLong(value.substring(0, value.length() - 1)));
+                } else if (value.endsWith("d")) {
+                    ttl = Duration.ofDays(Long.parseLong(value.substring(0, value.length() - 1)));
+                } else {
+                    ttl = Duration.ofSeconds(Long.parseLong(value));
+                }
+                return ttl.isNegative() || ttl.isZero() ? null : ttl;
+            } catch (NumberFormatException | DateTimeParseException e) {
+                return null;
+            }
+        }
+
+    }
+
+    enum Code implements ErrorCode {
+
+        INVALID_TTL;
+
+        @Override
+        public String getName() {
+            return "CACHED_" + name();
+        }
+
+    }
+
+}
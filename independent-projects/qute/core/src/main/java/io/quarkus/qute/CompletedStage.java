@@ -30,6 +30,16 @@ public static <T> CompletedStage<T> failure(Throwable t) {
         return new CompletedStage<T>(null, t);
     }
 
+    /**
+     *
+     * @param stage
+     * @return {@code true} if the given stage is a {@link CompletedStage} that did not complete exceptionally, i.e. the result
+     *         can be obtained synchronously
+     */
+    static boolean isCompletedNormally(CompletionStage<?> stage) {
+        return stage instanceof CompletedStage && ((CompletedStage<?>) stage).exception == null;
+    }
+
     private final T result;
     private final Throwable exception;
 
@@ -1,8 +1,8 @@
 package io.quarkus.qute;
 
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 
 /**
@@ -10,15 +10,28 @@
  */
 public final class Escaper {
 
-    private final Map<Character, String> replacements;
+    private static final String[] NO_REPLACEMENTS = new String[0];
+
+    // Replacements indexed by the character, the table only covers the characters up to the highest escaped one
+    private final String[] replacements;
 
     /**
      *
      * @param replacements
      */
     private Escaper(Map<Character, String> replacements) {
-        this.replacements = replacements.isEmpty() ? Collections.emptyMap()
-                : new HashMap<>(replacements);
+        if (replacements.isEmpty()) {
+            this.replacements = NO_REPLACEMENTS;
+        } else {
+            int max = 0;
+            for (Character c : replacements.keySet()) {
+                max = Math.max(max, c);
+            }
+            this.replacements = new String[max + 1];
+            for (Entry<Character, String> e : replacements.entrySet()) {
+                this.replacements[e.getKey()] = e.getValue();
+            }
+        }
     }
 
     /**
@@ -28,31 +41,37 @@ private Escaper(Map<Character, String> replacements) {
      */
     public String escape(CharSequence value) {
         Objects.requireNonNull(value);
-        if (value.length() == 0) {
-            return value.toString();
-        }
-        for (int i = 0; i < value.length(); i++) {
-            String replacement = replacements.get(value.charAt(i));
-            if (replacement != null) {
+        int length = value.length();
+        String[] replacements = this.replacements;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < replacements.length && replacements[c] != null) {
                 // In most cases we will not need to escape the value at all
-                return doEscape(value, i, new StringBuilder(value.subSequence(0, i)).append(replacement));
+                return doEscape(value, i);
             }
         }
         return value.toString();
     }
 
-    private String doEscape(CharSequence value, int index, StringBuilder builder) {
+    private String doEscape(CharSequence value, int index) {
         int length = value.length();
-        while (++index < length) {
-            char c = value.charAt(index);
-            String replacement = replacements.get(c);
-            if (replacement != null) {
-                builder.append(replacement);
-            } else {
-                builder.append(c);
+        String[] replacements = this.replacements;
+        // Reserve some space for the replacements
+        StringBuilder builder = new StringBuilder(length + 16);
+        builder.append(value, 0, index);
+        // The start of the sequence of characters that do not need to be escaped
+        int start = index;
+        for (int i = index; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < replacements.length) {
+                String replacement = replacements[c];
+                if (replacement != null) {
+                    builder.append(value, start, i).append(replacement);
+                    start = i + 1;
+                }
             }
         }
-        return builder.toString();
+        return builder.append(value, start, length).toString();
     }
 
     /**
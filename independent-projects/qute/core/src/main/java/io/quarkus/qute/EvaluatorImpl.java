@@ -76,9 +76,21 @@ public CompletionStage<Object> evaluate(Expression expression, ResolutionContext
                     : new NamespaceEvalContextImpl(resolutionContext, part);
             if (matching.length == 1) {
                 // Very often a single matching resolver will be found
-                return matching[0].resolve(context).thenCompose(r -> (parts.size() > 1)
-                        ? resolveReference(false, r, parts, resolutionContext, expression, 1)
-                        : toCompletionStage(r));
+                CompletionStage<Object> result = matching[0].resolve(context);
+                if (parts.size() == 1) {
+                    return result instanceof CompletedStage ? toCompletionStage((CompletedStage<Object>) result)
+                            : result.thenCompose(EvaluatorImpl::toCompletionStage);
+                }
+                if (CompletedStage.isCompletedNormally(result)) {
+                    // No need to compose if the result is available
+                    try {
+                        return resolveReference(false, ((CompletedStage<Object>) result).get(), parts, resolutionContext,
+                                expression, 1);
+                    } catch (Throwable e) {
+                        return CompletedStage.failure(e);
+                    }
+                }
+                return result.thenCompose(r -> resolveReference(false, r, parts, resolutionContext, expression, 1));
             } else {
                 // Multiple namespace resolvers match
                 return resolveNamespace(context, resolutionContext, parts, matching, 0, expression);
@@ -128,8 +140,17 @@ private CompletionStage<Object> resolveReference(boolean tryParent, Object ref,
             return resolve(evalContext, null, true, expression, true, partIndex);
         } else {
             // Next part - no need to try the parent context/outer scope
-            return resolve(evalContext, null, true, expression, false, partIndex)
-                    .thenCompose(r -> resolveReference(false, r, parts, resolutionContext, expression, partIndex + 1));
+            CompletionStage<Object> result = resolve(evalContext, null, true, expression, false, partIndex);
+            if (CompletedStage.isCompletedNormally(result)) {
+                // No need to compose if the result is available
+                try {
+                    return resolveReference(false, ((CompletedStage<Object>) result).get(), parts, resolutionContext,
+                            expression, partIndex + 1);
+                } catch (Throwable e) {
+                    return CompletedStage.failure(e);
+                }
+            }
+            return result.thenCompose(r -> resolveReference(false, r, parts, resolutionContext, expression, partIndex + 1));
         }
     }
 
@@ -140,7 +161,20 @@ private CompletionStage<Object> resolve(EvalContextImpl evalContext, Iterator<Va
             // Try the cached resolver first
             ValueResolver cachedResolver = evalContext.getCachedResolver();
             if (cachedResolver != null && cachedResolver.appliesTo(evalContext)) {
-                return cachedResolver.resolve(evalContext).thenCompose(r -> {
+                CompletionStage<Object> result = cachedResolver.resolve(evalContext);
+                if (CompletedStage.isCompletedNormally(result)) {
+                    // No need to compose if the result is available
+                    CompletedStage<Object> completed = (CompletedStage<Object>) result;
+                    if (!Results.isNotFound(completed.get())) {
+                        return toCompletionStage(completed);
+                    }
+                    try {
+                        return resolve(evalContext, null, false, expression, isLastPart, partIndex);
+                    } catch (Throwable e) {
+                        return CompletedStage.failure(e);
+                    }
+                }
+                return result.thenCompose(r -> {
                     if (Results.isNotFound(r)) {
                         return resolve(evalContext, null, false, expression, isLastPart, partIndex);
                     } else {
@@ -205,7 +239,21 @@ private CompletionStage<Object> resolve(EvalContextImpl evalContext, Iterator<Va
 
         final Iterator<ValueResolver> remainingResolvers = resolvers;
         final ValueResolver foundResolver = applicableResolver;
-        return applicableResolver.resolve(evalContext).thenCompose(r -> {
+        CompletionStage<Object> result = applicableResolver.resolve(evalContext);
+        if (CompletedStage.isCompletedNormally(result)) {
+            // No need to compose if the result is available
+            CompletedStage<Object> completed = (CompletedStage<Object>) result;
+            if (!Results.isNotFound(completed.get())) {
+                evalContext.setCachedResolver(foundResolver);
+                return toCompletionStage(completed);
+            }
+            try {
+                return resolve(evalContext, remainingResolvers, false, expression, isLastPart, partIndex);
+            } catch (Throwable e) {
+                return CompletedStage.failure(e);
+            }
+        }
+        return result.thenCompose(r -> {
             if (Results.isNotFound(r)) {
                 // Result not found - try the next resolver
                 return resolve(evalContext, remainingResolvers, false, expression, isLastPart, partIndex);
@@ -217,6 +265,27 @@ private CompletionStage<Object> resolve(EvalContextImpl evalContext, Iterator<Va
         });
     }
 
+    /**
+     * Unlike {@link #toCompletionStage(Object)} the completed stage is reused if the value is not a future.
+     */
+    @SuppressWarnings("unchecked")
+    private static CompletionStage<Object> toCompletionStage(CompletedStage<Object> completed) {
+        if (completed.isFailure()) {
+            return completed;
+        }
+        Object result = completed.get();
+        if (result instanceof CompletableFuture) {
+            return (CompletableFuture<Object>) result;
+        } else if (result instanceof CompletedStage) {
+            return (CompletedStage<Object>) result;
+        } else if (result instanceof AbstractUni) {
+            return ((AbstractUni<Object>) result).subscribeAsCompletionStage();
+        } else if (result instanceof CompletionStage) {
+            return (CompletionStage<Object>) result;
+        }
+        return completed;
+    }
+
     @SuppressWarnings("unchecked")
     private static CompletionStage<Object> toCompletionStage(Object result) {
         // Note that we intentionally avoid "result instanceof Uni"; see https://github.com/RedHatPerf/type-pollution-agent
@@ -406,12 +475,14 @@ public Object getAttribute(String key) {
         }
 
         ValueResolver getCachedResolver() {
-            return part.cachedResolver;
+            ResolverCache cache = part.cachedResolvers;
+            return cache != null ? cache.get(base) : null;
         }
 
         void setCachedResolver(ValueResolver valueResolver) {
-            // Non-atomic write is ok here
-            part.cachedResolver = valueResolver;
+            ResolverCache cache = part.cachedResolvers;
+            // Non-atomic write is ok here, a lost update only results in an additional lookup
+            part.cachedResolvers = cache != null ? cache.with(base, valueResolver) : ResolverCache.of(base, valueResolver);
         }
 
         boolean tryParent() {
@@ -231,7 +231,8 @@ static class PartImpl implements Part {
 
         protected final String name;
         protected final String typeInfo;
-        protected volatile ValueResolver cachedResolver;
+        // Value resolvers keyed by the class of the base object
+        protected volatile ResolverCache cachedResolvers;
 
         PartImpl(String name, String typeInfo) {
             this.name = name;
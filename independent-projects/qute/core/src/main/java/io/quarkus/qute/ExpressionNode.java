@@ -57,6 +57,11 @@ public boolean isConstant() {
         return expression.isLiteral();
     }
 
+    @Override
+    public boolean isExpression() {
+        return true;
+    }
+
     Engine getEngine() {
         return engine;
     }
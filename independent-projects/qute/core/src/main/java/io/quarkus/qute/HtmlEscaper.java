@@ -1,17 +1,29 @@
 package io.quarkus.qute;
 
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import io.quarkus.qute.TemplateNode.Origin;
 
 public class HtmlEscaper implements ResultMapper {
 
+    private static final Escaper ESCAPER = Escaper.builder()
+            .add('"', "&quot;")
+            .add('\'', "&#39;")
+            .add('&', "&amp;")
+            .add('<', "&lt;")
+            .add('>', "&gt;")
+            .build();
+
     private final List<String> escapedContentTypes;
+    // The content types of templates are few and known, so the result is cached
+    private final Map<String, Boolean> requiresEscaping;
 
     public HtmlEscaper(List<String> escapedContentTypes) {
         this.escapedContentTypes = escapedContentTypes;
+        this.requiresEscaping = new ConcurrentHashMap<>();
     }
 
     @Override
@@ -32,17 +44,7 @@ public String map(Object result, Expression expression) {
     }
 
     String escape(CharSequence value) {
-        if (Objects.requireNonNull(value).length() == 0) {
-            return value.toString();
-        }
-        for (int i = 0; i < value.length(); i++) {
-            String replacement = replacementFor(value.charAt(i));
-            if (replacement != null) {
-                // In most cases we will not need to escape the value at all
-                return doEscape(value, i, new StringBuilder(value.subSequence(0, i)).append(replacement));
-            }
-        }
-        return value.toString();
+        return ESCAPER.escape(value);
     }
 
     private boolean requiresDefaultEscaping(Variant variant) {
@@ -50,6 +52,15 @@ private boolean requiresDefaultEscaping(Variant variant) {
         if (contentType == null) {
             return false;
         }
+        Boolean result = requiresEscaping.get(contentType);
+        if (result == null) {
+            result = matchesEscapedContentType(contentType);
+            requiresEscaping.put(contentType, result);
+        }
+        return result;
+    }
+
+    private boolean matchesEscapedContentType(String contentType) {
         for (String escaped : escapedContentTypes) {
             if (contentType.startsWith(escaped)) {
                 return true;
@@ -58,35 +69,4 @@ private boolean requiresDefaultEscaping(Variant variant) {
         return false;
     }
 
-    private String doEscape(CharSequence value, int index, StringBuilder builder) {
-        int length = value.length();
-        while (++index < length) {
-            char c = value.charAt(index);
-            String replacement = replacementFor(c);
-            if (replacement != null) {
-                builder.append(replacement);
-            } else {
-                builder.append(c);
-            }
-        }
-        return builder.toString();
-    }
-
-    private String replacementFor(char c) {
-        switch (c) {
-            case '"':
-                return "&quot;";
-            case '\'':
-                return "&#39;";
-            case '&':
-                return "&amp;";
-            case '<':
-                return "&lt;";
-            case '>':
-                return "&gt;";
-            default:
-                return null;
-        }
-    }
-
 }
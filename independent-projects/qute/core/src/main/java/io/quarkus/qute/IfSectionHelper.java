@@ -61,13 +61,20 @@ static final class SingletonContext implements IfContext {
 
         @Override
         public CompletionStage<ResultNode> resolve(SectionResolutionContext context) {
-            return block.condition.evaluate(context).thenCompose(r -> {
-                if (isFalsy(r)) {
-                    return ResultNode.NOOP;
-                } else {
-                    return context.execute(block.section, context.resolutionContext());
-                }
-            });
+            CompletionStage<Object> condition = block.condition.evaluate(context);
+            if (CompletedStage.isCompletedNormally(condition)) {
+                // No need to compose if the value is available
+                return resolve(context, ((CompletedStage<Object>) condition).get());
+            }
+            return condition.thenCompose(r -> resolve(context, r));
+        }
+
+        private CompletionStage<ResultNode> resolve(SectionResolutionContext context, Object conditionValue) {
+            if (isFalsy(conditionValue)) {
+                return ResultNode.NOOP;
+            } else {
+                return context.execute(block.section, context.resolutionContext());
+            }
         }
 
     }
@@ -84,23 +91,36 @@ public DoubletonContext(ConditionBlock block, ConditionBlock next) {
 
         @Override
         public CompletionStage<ResultNode> resolve(SectionResolutionContext context) {
-            return block.condition.evaluate(context).thenCompose(r -> {
-                if (isFalsy(r)) {
-                    if (next.condition.isEmpty()) {
-                        // else without operands
-                        return context.execute(next.section, context.resolutionContext());
-                    }
-                    return next.condition.evaluate(context).thenCompose(nr -> {
-                        if (isFalsy(nr)) {
-                            return ResultNode.NOOP;
-                        } else {
-                            return context.execute(next.section, context.resolutionContext());
-                        }
-                    });
-                } else {
-                    return context.execute(block.section, context.resolutionContext());
+            CompletionStage<Object> condition = block.condition.evaluate(context);
+            if (CompletedStage.isCompletedNormally(condition)) {
+                // No need to compose if the value is available
+                return resolve(context, ((CompletedStage<Object>) condition).get());
+            }
+            return condition.thenCompose(r -> resolve(context, r));
+        }
+
+        private CompletionStage<ResultNode> resolve(SectionResolutionContext context, Object conditionValue) {
+            if (isFalsy(conditionValue)) {
+                if (next.condition.isEmpty()) {
+                    // else without operands
+                    return context.execute(next.section, context.resolutionContext());
+                }
+                CompletionStage<Object> nextCondition = next.condition.evaluate(context);
+                if (CompletedStage.isCompletedNormally(nextCondition)) {
+                    return resolveNext(context, ((CompletedStage<Object>) nextCondition).get());
                 }
-            });
+                return nextCondition.thenCompose(nr -> resolveNext(context, nr));
+            } else {
+                return context.execute(block.section, context.resolutionContext());
+            }
+        }
+
+        private CompletionStage<ResultNode> resolveNext(SectionResolutionContext context, Object conditionValue) {
+            if (isFalsy(conditionValue)) {
+                return ResultNode.NOOP;
+            } else {
+                return context.execute(next.section, context.resolutionContext());
+            }
         }
 
     }
@@ -125,16 +145,24 @@ private CompletionStage<ResultNode> resolveBlocks(SectionResolutionContext conte
                 // else without operands
                 return context.execute(block.section, context.resolutionContext());
             }
-            return block.condition.evaluate(context).thenCompose(r -> {
-                if (isFalsy(r)) {
-                    if (blocks.hasNext()) {
-                        return resolveBlocks(context, blocks);
-                    }
-                    return ResultNode.NOOP;
-                } else {
-                    return context.execute(block.section, context.resolutionContext());
+            CompletionStage<Object> condition = block.condition.evaluate(context);
+            if (CompletedStage.isCompletedNormally(condition)) {
+                // No need to compose if the value is available
+                return resolveBlock(context, blocks, block, ((CompletedStage<Object>) condition).get());
+            }
+            return condition.thenCompose(r -> resolveBlock(context, blocks, block, r));
+        }
+
+        private CompletionStage<ResultNode> resolveBlock(SectionResolutionContext context,
+                Iterator<ConditionBlock> blocks, ConditionBlock block, Object conditionValue) {
+            if (isFalsy(conditionValue)) {
+                if (blocks.hasNext()) {
+                    return resolveBlocks(context, blocks);
                 }
-            });
+                return ResultNode.NOOP;
+            } else {
+                return context.execute(block.section, context.resolutionContext());
+            }
         }
 
     }
@@ -248,6 +276,9 @@ static class OperandCondition implements Condition {
         public CompletionStage<Object> evaluate(SectionResolutionContext context) {
             CompletionStage<Object> ret = context.resolutionContext().evaluate(expression);
             if (operator == Operator.NOT) {
+                if (CompletedStage.isCompletedNormally(ret)) {
+                    return logicalComplement(((CompletedStage<Object>) ret).get()) ? Results.TRUE : Results.FALSE;
+                }
                 return ret.thenApply(this::logicalComplement);
             }
             return ret;
@@ -10,8 +10,9 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.RandomAccess;
 import java.util.concurrent.CompletionStage;
-import java.util.stream.IntStream;
+import java.util.function.IntFunction;
 import java.util.stream.Stream;
 
 import io.quarkus.qute.SectionHelperFactory.SectionInitContext;
@@ -42,32 +43,72 @@ public class LoopSectionHelper implements SectionHelper {
 
     @Override
     public CompletionStage<ResultNode> resolve(SectionResolutionContext context) {
-        return context.resolutionContext().evaluate(iterable).thenCompose(it -> {
-            if (it == null) {
-                // Treat null as no-op, as it is handled by SingleResultNode
-                return ResultNode.NOOP;
-            }
-            // Try to extract the capacity for collections, maps and arrays to avoid resize
-            List<CompletionStage<ResultNode>> results = new ArrayList<>(extractSize(it));
-            Iterator<?> iterator = extractIterator(it);
-            int idx = 0;
-            // Ideally, we should not block here but we still need to retain the order of results
-            while (iterator.hasNext()) {
-                results.add(nextElement(iterator.next(), idx++, iterator.hasNext(), context));
-            }
-            if (results.isEmpty()) {
-                // Execute the {#else} block if present
-                if (elseBlock != null) {
-                    return context.execute(elseBlock, context.resolutionContext());
-                } else {
-                    return ResultNode.NOOP;
-                }
-            }
-            if (results.size() == 1) {
-                return results.get(0);
-            }
-            return Results.process(results);
-        });
+        CompletionStage<Object> it = context.resolutionContext().evaluate(iterable);
+        if (CompletedStage.isCompletedNormally(it)) {
+            // No need to compose if the value is available
+            return resolve(context, ((CompletedStage<Object>) it).get());
+        }
+        return it.thenCompose(i -> resolve(context, i));
+    }
+
+    private CompletionStage<ResultNode> resolve(SectionResolutionContext context, Object it) {
+        if (it == null) {
+            // Treat null as no-op, as it is handled by SingleResultNode
+            return ResultNode.NOOP;
+        }
+        // Fast paths for the types that can be accessed by index, i.e. no iterator and no intermediate list is needed
+        if (it instanceof List && it instanceof RandomAccess) {
+            List<?> list = (List<?>) it;
+            return resolve(context, list.size(), list::get);
+        } else if (it instanceof Integer) {
+            return resolve(context, (Integer) it, LoopSectionHelper::rangeElement);
+        } else if (it instanceof Object[]) {
+            Object[] array = (Object[]) it;
+            return resolve(context, array.length, i -> array[i]);
+        } else if (it.getClass().isArray()) {
+            // The val is automatically wrapped for primitive types
+            return resolve(context, Array.getLength(it), i -> Array.get(it, i));
+        }
+        // Try to extract the capacity for collections, maps and arrays to avoid resize
+        List<CompletionStage<ResultNode>> results = new ArrayList<>(extractSize(it));
+        Iterator<?> iterator = extractIterator(it);
+        int idx = 0;
+        // Ideally, we should not block here but we still need to retain the order of results
+        while (iterator.hasNext()) {
+            results.add(nextElement(iterator.next(), idx++, iterator.hasNext(), context));
+        }
+        if (results.isEmpty()) {
+            return resolveElse(context);
+        }
+        if (results.size() == 1) {
+            return results.get(0);
+        }
+        return Results.process(results);
+    }
+
+    private CompletionStage<ResultNode> resolve(SectionResolutionContext context, int size, IntFunction<?> elements) {
+        if (size <= 0) {
+            return resolveElse(context);
+        }
+        if (size == 1) {
+            return nextElement(elements.apply(0), 0, false, context);
+        }
+        int last = size - 1;
+        return Results.process(size, i -> nextElement(elements.apply(i), i, i < last, context));
+    }
+
+    private CompletionStage<ResultNode> resolveElse(SectionResolutionContext context) {
+        // Execute the {#else} block if present
+        if (elseBlock != null) {
+            return context.execute(elseBlock, context.resolutionContext());
+        } else {
+            return ResultNode.NOOP;
+        }
+    }
+
+    private static Integer rangeElement(int index) {
+        // Integer ranges start with 1
+        return index + 1;
     }
 
     private static int extractSize(Object it) {
@@ -75,10 +116,6 @@ private static int extractSize(Object it) {
             return ((Collection<?>) it).size();
         } else if (it instanceof Map) {
             return ((Map<?, ?>) it).size();
-        } else if (it.getClass().isArray()) {
-            return Array.getLength(it);
-        } else if (it instanceof Integer) {
-            return ((Integer) it);
         }
         return 10;
     }
@@ -92,16 +129,6 @@ private Iterator<?> extractIterator(Object it) {
             return ((Map<?, ?>) it).entrySet().iterator();
         } else if (it instanceof Stream) {
             return ((Stream<?>) it).sequential().iterator();
-        } else if (it instanceof Integer) {
-            return IntStream.rangeClosed(1, (Integer) it).iterator();
-        } else if (it.getClass().isArray()) {
-            int length = Array.getLength(it);
-            List<Object> elements = new ArrayList<>(length);
-            for (int i = 0; i < length; i++) {
-                // The val is automatically wrapped for primitive types
-                elements.add(Array.get(it, i));
-            }
-            return elements.iterator();
         } else {
             TemplateException.Builder builder;
             if (Results.isNotFound(it)) {
@@ -254,14 +281,16 @@ static class IterationElement implements Mapper {
 
         final String alias;
         final String metadataPrefix;
-        final CompletedStage<Object> element;
+        final Object element;
         final int index;
         final boolean hasNext;
+        // The stage is only created if the element is referenced, e.g. not for the iteration metadata
+        private CompletedStage<Object> elementStage;
 
         public IterationElement(String alias, String metadataPrefix, Object element, int index, boolean hasNext) {
             this.alias = alias;
             this.metadataPrefix = metadataPrefix;
-            this.element = CompletedStage.of(element);
+            this.element = element;
             this.index = index;
             this.hasNext = hasNext;
         }
@@ -269,7 +298,13 @@ public IterationElement(String alias, String metadataPrefix, Object element, int
         @Override
         public CompletionStage<Object> getAsync(String key) {
             if (alias.equals(key)) {
-                return element;
+                CompletedStage<Object> stage = elementStage;
+                if (stage == null) {
+                    // CompletedStage is immutable so a race is harmless
+                    stage = CompletedStage.of(element);
+                    elementStage = stage;
+                }
+                return stage;
             }
             if (metadataPrefix != null) {
                 if (key.startsWith(metadataPrefix)) {
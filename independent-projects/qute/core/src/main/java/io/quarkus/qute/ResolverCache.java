@@ -0,0 +1,95 @@
+package io.quarkus.qute;
+
+/**
+ * An immutable inline cache of value resolvers that were found for a part of an expression, keyed by the class of the base
+ * object.
+ * <p>
+ * Most parts are monomorphic, i.e. the base object is always of the same class, but a part evaluated in a loop over
+ * heterogeneous items may see several classes. Up to {@value #MAX_SIZE} classes are cached; the least recently added entry
+ * is dropped first.
+ */
+final class ResolverCache {
+
+    static final int MAX_SIZE = 4;
+
+    private final Class<?>[] classes;
+    private final ValueResolver[] resolvers;
+
+    private ResolverCache(Class<?>[] classes, ValueResolver[] resolvers) {
+        this.classes = classes;
+        this.resolvers = resolvers;
+    }
+
+    static ResolverCache of(Object base, ValueResolver resolver) {
+        return new ResolverCache(new Class<?>[] { classOf(base) }, new ValueResolver[] { resolver });
+    }
+
+    /**
+     * If there is no resolver cached for the class of the base object then the most recently added resolver is returned,
+     * because a single resolver often applies to many classes, e.g. the reflection-based resolver. The caller must always
+     * verify that the returned resolver applies to the base object.
+     *
+     * @param base
+     * @return the cached resolver for the class of the base object, or the most recently added resolver
+     */
+    ValueResolver get(Object base) {
+        Class<?> clazz = classOf(base);
+        Class<?>[] classes = this.classes;
+        for (int i = 0; i < classes.length; i++) {
+            if (classes[i] == clazz) {
+                return resolvers[i];
+            }
+        }
+        return resolvers[0];
+    }
+
+    /**
+     *
+     * @param base
+     * @param resolver
+     * @return a new cache with the resolver associated with the class of the base object
+     */
+    ResolverCache with(Object base, ValueResolver resolver) {
+        Class<?> clazz = classOf(base);
+        int length = classes.length;
+        for (int i = 0; i < length; i++) {
+            if (classes[i] == clazz) {
+                if (resolvers[i] == resolver) {
+                    return this;
+                }
+                // Replace the resolver that no longer applies
+                ValueResolver[] newResolvers = resolvers.clone();
+                newResolvers[i] = resolver;
+                return new ResolverCache(classes, newResolvers);
+            }
+        }
+        int newLength = Math.min(length + 1, MAX_SIZE);
+        Class<?>[] newClasses = new Class<?>[newLength];
+        ValueResolver[] newResolvers = new ValueResolver[newLength];
+        newClasses[0] = clazz;
+        newResolvers[0] = resolver;
+        System.arraycopy(classes, 0, newClasses, 1, newLength - 1);
+        System.arraycopy(resolvers, 0, newResolvers, 1, newLength - 1);
+        return new ResolverCache(newClasses, newResolvers);
+    }
+
+    int size() {
+        return classes.length;
+    }
+
+    boolean contains(Object base) {
+        Class<?> clazz = classOf(base);
+        for (Class<?> c : classes) {
+            if (c == clazz) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Class<?> classOf(Object base) {
+        // null is a valid base object, e.g. for the elvis operator
+        return base != null ? base.getClass() : null;
+    }
+
+}
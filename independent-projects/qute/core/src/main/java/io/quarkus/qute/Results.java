@@ -8,6 +8,7 @@
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.function.IntFunction;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -48,19 +49,59 @@ static CompletionStage<ResultNode> process(List<CompletionStage<ResultNode>> res
         List<CompletableFuture<ResultNode>> asyncResults = null;
         int idx = 0;
         for (CompletionStage<ResultNode> result : results) {
-            if (result instanceof CompletedStage) {
-                allResults[idx++] = (CompletedStage<ResultNode>) result;
-                // No async computation needed
-                continue;
-            } else {
-                CompletableFuture<ResultNode> fu = result.toCompletableFuture();
-                if (asyncResults == null) {
-                    asyncResults = new ArrayList<>();
-                }
-                asyncResults.add(fu);
-                allResults[idx++] = Futures.toSupplier(fu);
+            asyncResults = collect(result, allResults, idx++, asyncResults);
+        }
+        return process(allResults, asyncResults);
+    }
+
+    /**
+     * Resolves the nodes directly into an array of results, i.e. no intermediate list is needed.
+     */
+    static CompletionStage<ResultNode> resolve(List<TemplateNode> nodes, ResolutionContext context) {
+        @SuppressWarnings("unchecked")
+        Supplier<ResultNode>[] allResults = new Supplier[nodes.size()];
+        List<CompletableFuture<ResultNode>> asyncResults = null;
+        for (int i = 0; i < allResults.length; i++) {
+            asyncResults = collect(nodes.get(i).resolve(context), allResults, i, asyncResults);
+        }
+        return process(allResults, asyncResults);
+    }
+
+    /**
+     * Collects the results directly into an array of results, i.e. no intermediate list is needed.
+     *
+     * @param size
+     * @param results the function is called for each index in order
+     * @return the result node
+     */
+    static CompletionStage<ResultNode> process(int size, IntFunction<CompletionStage<ResultNode>> results) {
+        @SuppressWarnings("unchecked")
+        Supplier<ResultNode>[] allResults = new Supplier[size];
+        List<CompletableFuture<ResultNode>> asyncResults = null;
+        for (int i = 0; i < size; i++) {
+            asyncResults = collect(results.apply(i), allResults, i, asyncResults);
+        }
+        return process(allResults, asyncResults);
+    }
+
+    private static List<CompletableFuture<ResultNode>> collect(CompletionStage<ResultNode> result,
+            Supplier<ResultNode>[] allResults, int idx, List<CompletableFuture<ResultNode>> asyncResults) {
+        if (result instanceof CompletedStage) {
+            // No async computation needed
+            allResults[idx] = (CompletedStage<ResultNode>) result;
+        } else {
+            CompletableFuture<ResultNode> fu = result.toCompletableFuture();
+            if (asyncResults == null) {
+                asyncResults = new ArrayList<>();
             }
+            asyncResults.add(fu);
+            allResults[idx] = Futures.toSupplier(fu);
         }
+        return asyncResults;
+    }
+
+    private static CompletionStage<ResultNode> process(Supplier<ResultNode>[] allResults,
+            List<CompletableFuture<ResultNode>> asyncResults) {
         if (asyncResults == null) {
             // No async results present
             return CompletedStage.of(new MultiResultNode(allResults));
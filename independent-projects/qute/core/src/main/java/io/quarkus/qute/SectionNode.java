@@ -213,16 +213,12 @@ public CompletionStage<ResultNode> execute(SectionBlock block, ResolutionContext
                 // Use the main block
                 block = blocks.get(0);
             }
-            int size = block.nodes.size();
-            if (size == 1) {
+            List<TemplateNode> nodes = block.nodes;
+            if (nodes.size() == 1) {
                 // Single node in the block
-                return block.nodes.get(0).resolve(context);
+                return nodes.get(0).resolve(context);
             }
-            List<CompletionStage<ResultNode>> results = new ArrayList<>(size);
-            for (TemplateNode node : block.nodes) {
-                results.add(node.resolve(context));
-            }
-            return Results.process(results);
+            return Results.resolve(nodes, context);
         }
 
         @Override
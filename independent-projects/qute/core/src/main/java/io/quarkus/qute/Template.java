@@ -128,6 +128,15 @@ default String render() {
      */
     Expression findExpression(Predicate<Expression> predicate);
 
+    /**
+     * The nodes of nested sections are not included.
+     *
+     * @return an immutable list of the top-level nodes of the template
+     */
+    default List<TemplateNode> getNodes() {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * The id is unique for the engine instance.
      *
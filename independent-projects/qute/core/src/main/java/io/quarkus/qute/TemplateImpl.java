@@ -68,6 +68,11 @@ public Expression findExpression(Predicate<Expression> predicate) {
         return root.findExpression(predicate);
     }
 
+    @Override
+    public List<TemplateNode> getNodes() {
+        return root.blocks.get(0).nodes;
+    }
+
     @Override
     public List<ParameterDeclaration> getParameterDeclarations() {
         return parameterDeclarations;
@@ -223,8 +228,15 @@ private CompletionStage<Void> renderData(Object data, Consumer<String> consumer)
             ResolutionContext rootContext = new ResolutionContextImpl(data,
                     engine.getEvaluator(), null, this::getAttribute);
             setAttribute(DataNamespaceResolver.ROOT_CONTEXT, rootContext);
-            // Async resolution
-            root.resolve(rootContext).whenComplete((r, t) -> {
+            CompletionStage<ResultNode> resolved;
+            try {
+                // Async resolution
+                resolved = root.resolve(rootContext);
+            } catch (Throwable e) {
+                // The nodes that are resolved synchronously may throw an exception
+                resolved = CompletedStage.failure(e);
+            }
+            resolved.whenComplete((r, t) -> {
                 if (t != null) {
                     result.completeExceptionally(t);
                 } else {
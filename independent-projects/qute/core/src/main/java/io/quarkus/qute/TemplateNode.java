@@ -57,6 +57,24 @@ default boolean isSection() {
         return false;
     }
 
+    /**
+     *
+     * @return {@code true} if the node represents a static text
+     * @see TextNode
+     */
+    default boolean isText() {
+        return false;
+    }
+
+    /**
+     *
+     * @return {@code true} if the node represents an output expression
+     * @see ExpressionNode
+     */
+    default boolean isExpression() {
+        return false;
+    }
+
     /**
      * Represents an origin of a template node.
      */
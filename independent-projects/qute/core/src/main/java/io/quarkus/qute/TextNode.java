@@ -32,6 +32,11 @@ public boolean isConstant() {
         return true;
     }
 
+    @Override
+    public boolean isText() {
+        return true;
+    }
+
     public String getValue() {
         return value;
     }
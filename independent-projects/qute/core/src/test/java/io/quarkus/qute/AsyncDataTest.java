@@ -1,6 +1,7 @@
 package io.quarkus.qute;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
 import java.util.Arrays;
 import java.util.List;
@@ -22,6 +23,21 @@ public void testAsyncData() {
         assertEquals("alpha", engine.parse("{token}").data("token", CompletedStage.of("alpha")).render());
     }
 
+    @Test
+    public void testMixedSyncAndAsyncData() {
+        Engine engine = Engine.builder().addDefaults().build();
+        CompletableFuture<Boolean> active = new CompletableFuture<>();
+        CompletionStage<String> result = engine
+                .parse("{#if active}{#for i in items}{i}{#if i_hasNext},{/if}{/for}{/if} {#if !active}no{#else}{name}{/if}")
+                .data("active", active)
+                .data("items", Arrays.asList(1, 2, 3))
+                .data("name", CompletedStage.of("foo"))
+                .renderAsync();
+        assertFalse(result.toCompletableFuture().isDone());
+        active.complete(true);
+        assertEquals("1,2,3 foo", result.toCompletableFuture().join());
+    }
+
     static class Client {
 
         public CompletionStage<List<String>> getTokens() {
@@ -0,0 +1,114 @@
+package io.quarkus.qute;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class CacheSectionTest {
+
+    @Test
+    public void testCached() {
+        Engine engine = engine();
+        Template template = engine.parse("{#cached}{#for i in total}{counter.incrementAndGet}:{/for}{/cached}::{name}");
+        AtomicInteger counter = new AtomicInteger();
+        assertEquals("1:2:3:::foo", template.data("counter", counter, "total", 3, "name", "foo").render());
+        assertEquals("1:2:3:::bar", template.data("counter", counter, "total", 3, "name", "bar").render());
+        assertEquals(3, counter.get());
+    }
+
+    @Test
+    public void testKey() {
+        Engine engine = engine();
+        Template template = engine.parse("{#cached key=lang}{counter.incrementAndGet}:{lang}{/cached}");
+        AtomicInteger counter = new AtomicInteger();
+        assertEquals("1:en", template.data("counter", counter, "lang", "en").render());
+        assertEquals("2:cs", template.data("counter", counter, "lang", "cs").render());
+        assertEquals("1:en", template.data("counter", counter, "lang", "en").render());
+        // The sections with the same key value do not share the cached value
+        assertEquals("3:en", engine.parse("{#cached key=lang}{counter.incrementAndGet}:{lang}{/cached}")
+                .data("counter", counter, "lang", "en").render());
+        assertEquals("", engine.parse("{#cached key='en'}{/cached}").render());
+    }
+
+    @Test
+    public void testTtl() throws InterruptedException {
+        Engine engine = engine();
+        Template template = engine.parse("{#cached ttl=100ms}{counter.incrementAndGet}{/cached}");
+        AtomicInteger counter = new AtomicInteger();
+        assertEquals("1", template.data("counter", counter).render());
+        assertEquals("1", template.data("counter", counter).render());
+        Thread.sleep(150);
+        assertEquals("2", template.data("counter", counter).render());
+    }
+
+    @Test
+    public void testFailureNotCached() {
+        Engine engine = engine();
+        Template template = engine.parse("{#cached}{#if fail}{fail.foo}{/if}ok{/cached}");
+        assertThrows(TemplateException.class, () -> template.data("fail", true).render());
+        assertEquals("ok", template.data("fail", false).render());
+    }
+
+    @Test
+    public void testTemplateParsedAgain() {
+        Engine engine = engine();
+        AtomicInteger counter = new AtomicInteger();
+        String content = "{#cached}{counter.incrementAndGet}{/cached}";
+        assertEquals("1", engine.parse(content, null, "foo.html").data("counter", counter).render());
+        // The key does not depend on the generated id that changes every time the template is parsed
+        engine.clearTemplates();
+        assertEquals("1", engine.parse(content, null, "foo.html").data("counter", counter).render());
+        assertEquals("2", engine.parse(content, null, "bar.html").data("counter", counter).render());
+    }
+
+    @Test
+    public void testInMemoryCacheMaxSize() {
+        CacheSectionHelper.InMemoryCache cache = new CacheSectionHelper.InMemoryCache(2);
+        Engine engine = Engine.builder().addDefaults().addValueResolver(new ReflectionValueResolver())
+                .addSectionHelper(new CacheSectionHelper.Factory(cache)).build();
+        Template template = engine.parse("{#cached key=id}{counter.incrementAndGet}{/cached}");
+        AtomicInteger counter = new AtomicInteger();
+        assertEquals("1", template.data("counter", counter, "id", 1).render());
+        assertEquals("2", template.data("counter", counter, "id", 2).render());
+        assertEquals("1", template.data("counter", counter, "id", 1).render());
+        // The least recently used value is removed
+        assertEquals("3", template.data("counter", counter, "id", 3).render());
+        assertEquals(2, cache.size());
+        assertEquals("1", template.data("counter", counter, "id", 1).render());
+        assertEquals("4", template.data("counter", counter, "id", 2).render());
+        assertThrows(IllegalArgumentException.class, () -> new CacheSectionHelper.InMemoryCache(0));
+    }
+
+    @Test
+    public void testParseTtl() {
+        assertEquals(Duration.ofSeconds(30), CacheSectionHelper.Factory.parseTtl("30"));
+        assertEquals(Duration.ofSeconds(30), CacheSectionHelper.Factory.parseTtl("30s"));
+        assertEquals(Duration.ofMillis(500), CacheSectionHelper.Factory.parseTtl("500ms"));
+        assertEquals(Duration.ofMinutes(5), CacheSectionHelper.Factory.parseTtl("'5m'"));
+        assertEquals(Duration.ofHours(2), CacheSectionHelper.Factory.parseTtl("2h"));
+        assertEquals(Duration.ofDays(1), CacheSectionHelper.Factory.parseTtl("1d"));
+        assertEquals(Duration.ofMinutes(1), CacheSectionHelper.Factory.parseTtl("PT1M"));
+        assertNull(CacheSectionHelper.Factory.parseTtl("0"));
+        assertNull(CacheSectionHelper.Factory.parseTtl("foo"));
+    }
+
+    @Test
+    public void testInvalidTtl() {
+        Engine engine = engine();
+        TemplateException expected = assertThrows(TemplateException.class,
+                () -> engine.parse("{#cached ttl=foo}{/cached}", null, "bum.html"));
+        assertEquals(CacheSectionHelper.Code.INVALID_TTL, expected.getCode());
+        assertEquals("Parser error in template [bum.html] line 1: invalid ttl value: [foo]", expected.getMessage());
+    }
+
+    private Engine engine() {
+        return Engine.builder().addDefaults().addValueResolver(new ReflectionValueResolver())
+                .addSectionHelper(new CacheSectionHelper.Factory(new CacheSectionHelper.InMemoryCache())).build();
+    }
+
+}
@@ -23,6 +23,15 @@ public void testEscaping() throws IOException {
                 .add('&', "&amp;").add('<', "&lt;").add('>', "&gt;").build();
         assertEquals("&lt;strong&gt;Čolek&lt;/strong&gt;", html.escape("<strong>Čolek</strong>"));
         assertEquals("&lt;a&gt;&amp;link&quot;&#39;&lt;/a&gt;", html.escape("<a>&link\"'</a>"));
+        assertEquals("Čolek 😀 ~", html.escape("Čolek 😀 ~"));
+        assertEquals("&amp;&amp;", html.escape("&&"));
+        assertEquals("a &lt;&gt; b", html.escape("a <> b"));
+        assertEquals("", html.escape(""));
+
+        Escaper unicode = Escaper.builder().add('\u2028', "\\u2028").build();
+        assertEquals("a\\u2028b", unicode.escape("a\u2028b"));
+        assertEquals("<>", unicode.escape("<>"));
+        assertEquals("foo", Escaper.builder().build().escape("foo"));
     }
 
     @Test
@@ -123,6 +123,25 @@ public void testArray() {
         Engine engine = Engine.builder().addDefaults().build();
         assertEquals("1:2:3:",
                 engine.parse("{#for i in items}{i}:{/for}").data("items", new Integer[] { 1, 2, 3 }).render());
+        assertEquals("1:2:3:",
+                engine.parse("{#for i in items}{i}:{/for}").data("items", new int[] { 1, 2, 3 }).render());
+    }
+
+    @Test
+    public void testIndexedIterationMetadata() {
+        Engine engine = Engine.builder().addDefaults().build();
+        Template template = engine
+                .parse("{#for i in items}{i}={i_index}:{i_hasNext}:{i_isLast}{#if i_hasNext},{/if}{#else}none{/for}");
+        String expected = "a=0:true:false,b=1:true:false,c=2:false:true";
+        assertEquals(expected, template.data("items", List.of("a", "b", "c")).render());
+        assertEquals(expected, template.data("items", new ArrayList<>(List.of("a", "b", "c"))).render());
+        assertEquals(expected, template.data("items", new String[] { "a", "b", "c" }).render());
+        assertEquals(expected, template.data("items", new char[] { 'a', 'b', 'c' }).render());
+        assertEquals("1=0:true:false,2=1:false:true", template.data("items", 2).render());
+        assertEquals("a=0:false:true", template.data("items", new String[] { "a" }).render());
+        assertEquals("none", template.data("items", new String[0]).render());
+        assertEquals("none", template.data("items", 0).render());
+        assertEquals("none", template.data("items", List.of()).render());
     }
 
     @Test
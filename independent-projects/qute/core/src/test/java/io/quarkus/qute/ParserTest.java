@@ -2,6 +2,7 @@
 
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -440,6 +441,26 @@ public void testMandatorySectionParas() {
                 "Parser error: mandatory section parameters not declared for {#include /}: [template]", 1);
     }
 
+    @Test
+    public void testNodes() {
+        Template template = Engine.builder().addDefaults().build()
+                .parse("Hello {name}!\n{#if true}{item.name}{/if}");
+        List<TemplateNode> nodes = template.getNodes();
+        // The nodes of a section are not included
+        assertEquals(4, nodes.size());
+        assertTrue(nodes.get(0).isText());
+        assertEquals("Hello ", ((TextNode) nodes.get(0)).getValue());
+        assertTrue(nodes.get(1).isExpression());
+        assertEquals("name", nodes.get(1).getExpressions().get(0).toOriginalString());
+        // The adjacent text nodes are merged
+        assertTrue(nodes.get(2).isText());
+        assertEquals("!\n", ((TextNode) nodes.get(2)).getValue());
+        assertTrue(nodes.get(3).isSection());
+        assertFalse(nodes.get(3).isText());
+        assertFalse(nodes.get(3).isExpression());
+        assertEquals(3, template.getExpressions().size());
+    }
+
     public static class Foo {
 
         public List<Item> getItems() {
@@ -0,0 +1,58 @@
+package io.quarkus.qute;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class ResolverCacheTest {
+
+    @Test
+    public void testCache() {
+        ValueResolver r1 = ValueResolvers.thisResolver();
+        ValueResolver r2 = ValueResolvers.rawResolver();
+        ResolverCache cache = ResolverCache.of("foo", r1);
+        assertSame(r1, cache.get("bar"));
+        cache = cache.with(1, r2);
+        assertEquals(2, cache.size());
+        assertSame(r1, cache.get("baz"));
+        assertSame(r2, cache.get(10));
+        // Not cached - the most recently added resolver is returned
+        assertSame(r2, cache.get(true));
+        assertSame(cache, cache.with(10, r2));
+        // Replace the resolver
+        cache = cache.with("foo", r2);
+        assertEquals(2, cache.size());
+        assertSame(r2, cache.get("foo"));
+        cache = cache.with(null, r1);
+        assertSame(r1, cache.get(null));
+        assertTrue(cache.contains(null));
+    }
+
+    @Test
+    public void testMaxSize() {
+        ValueResolver r1 = ValueResolvers.thisResolver();
+        ValueResolver r2 = ValueResolvers.rawResolver();
+        ResolverCache cache = ResolverCache.of("foo", r1);
+        cache = cache.with(1, r1).with(1L, r1).with(true, r1).with(List.of(), r2);
+        assertEquals(ResolverCache.MAX_SIZE, cache.size());
+        assertFalse(cache.contains("foo"));
+        assertTrue(cache.contains(List.of()));
+        assertTrue(cache.contains(1));
+    }
+
+    @Test
+    public void testPolymorphicExpression() {
+        Engine engine = Engine.builder().addDefaults().addValueResolver(new ReflectionValueResolver()).build();
+        Template template = engine.parse(
+                "{#for item in items}{item.length ?: '-'}:{item.size ?: '-'}:{item.name ?: 'none'}|{/for}");
+        assertEquals("3:-:none|-:2:none|1:-:none|-:0:none|",
+                template.data("items", List.of("foo", List.of(1, 2), "a", List.of())).render());
+        assertEquals("3:-:none|", template.data("items", List.of("foo")).render());
+    }
+
+}
@@ -269,6 +269,8 @@ private boolean implementResolve(ClassCreator valueResolver, String clazzName, C
         ResultHandle evalContext = resolve.getMethodParam(0);
         ResultHandle base = resolve.invokeInterfaceMethod(Descriptors.GET_BASE, evalContext);
         ResultHandle name = resolve.invokeInterfaceMethod(Descriptors.GET_NAME, evalContext);
+        // The hash code is cached by the string so that the members are matched by an int comparison first
+        ResultHandle nameHash = resolve.invokeVirtualMethod(Descriptors.HASH_CODE, name);
         ResultHandle params = resolve.invokeInterfaceMethod(Descriptors.GET_PARAMS, evalContext);
         ResultHandle paramsCount = resolve.invokeInterfaceMethod(Descriptors.COLLECTION_SIZE, params);
         Function<FieldInfo, String> fieldToGetterFun = forceGettersFunction != null ? forceGettersFunction.apply(clazz) : null;
@@ -314,14 +316,11 @@ private boolean implementResolve(ClassCreator valueResolver, String clazzName, C
                     LOGGER.debugf("Forced getter added: %s", field);
                     BytecodeCreator getterMatch = zeroParamsBranch.createScope();
                     // Match the getter name
-                    BytecodeCreator notMatched = getterMatch.ifNonZero(getterMatch.invokeVirtualMethod(Descriptors.EQUALS,
-                            getterMatch.load(getterName),
-                            name))
+                    BytecodeCreator notMatched = getterMatch.ifNonZero(nameEquals(getterMatch, getterName, name, nameHash))
                             .falseBranch();
                     // Match the property name
-                    notMatched.ifNonZero(notMatched.invokeVirtualMethod(Descriptors.EQUALS,
-                            notMatched.load(field.name()),
-                            name)).falseBranch().breakScope(getterMatch);
+                    notMatched.ifNonZero(nameEquals(notMatched, field.name(), name, nameHash)).falseBranch()
+                            .breakScope(getterMatch);
                     ResultHandle value = getterMatch.invokeVirtualMethod(
                             MethodDescriptor.ofMethod(clazz.name().toString(), getterName,
                                     DescriptorUtils.typeToString(field.type())),
@@ -331,9 +330,7 @@ private boolean implementResolve(ClassCreator valueResolver, String clazzName, C
                     LOGGER.debugf("Field added: %s", field);
                     // Match field name
                     BytecodeCreator fieldMatch = zeroParamsBranch
-                            .ifNonZero(
-                                    zeroParamsBranch.invokeVirtualMethod(Descriptors.EQUALS,
-                                            resolve.load(field.name()), name))
+                            .ifNonZero(nameEquals(zeroParamsBranch, field.name(), name, nameHash))
                             .trueBranch();
                     ResultHandle value = fieldMatch
                             .readInstanceField(FieldDescriptor.of(clazzName, field.name(), field.type().name().toString()),
@@ -359,6 +356,7 @@ private boolean implementResolve(ClassCreator valueResolver, String clazzName, C
                     // No params - just invoke the method
                     LOGGER.debugf("Method added %s", method);
                     try (BytecodeCreator matchScope = createMatchScope(resolve, method.name(), 0, method.returnType(), name,
+                            nameHash,
                             params, paramsCount)) {
                         ResultHandle ret;
                         boolean hasCompletionStage = !skipMemberType(method.returnType())
@@ -413,10 +411,11 @@ private boolean implementResolve(ClassCreator valueResolver, String clazzName, C
 
                 if (methodMatches.size() == 1) {
                     // Single method matches the name and number of params
-                    matchMethod(methodMatches.iterator().next(), clazz, resolve, base, name, params, paramsCount, evalContext);
+                    matchMethod(methodMatches.iterator().next(), clazz, resolve, base, name, nameHash, params, paramsCount,
+                            evalContext);
                 } else {
                     // Multiple methods match the name and number of params
-                    matchMethods(match.name, match.paramsCount, methodMatches, clazz, resolve, base, name,
+                    matchMethods(match.name, match.paramsCount, methodMatches, clazz, resolve, base, name, nameHash,
                             params, paramsCount, evalContext);
                 }
             }
@@ -432,7 +431,8 @@ private boolean implementResolve(ClassCreator valueResolver, String clazzName, C
                 list.addAll(entry.getValue());
             }
             for (Entry<String, List<MethodInfo>> entry : varargsMap.entrySet()) {
-                matchMethods(entry.getKey(), Integer.MIN_VALUE, entry.getValue(), clazz, resolve, base, name, params,
+                matchMethods(entry.getKey(), Integer.MIN_VALUE, entry.getValue(), clazz, resolve, base, name, nameHash,
+                        params,
                         paramsCount, evalContext);
             }
         }
@@ -448,6 +448,8 @@ private boolean implementNamespaceResolve(ClassCreator valueResolver, String cla
         ResultHandle evalContext = resolve.getMethodParam(0);
         ResultHandle base = resolve.invokeInterfaceMethod(Descriptors.GET_BASE, evalContext);
         ResultHandle name = resolve.invokeInterfaceMethod(Descriptors.GET_NAME, evalContext);
+        // The hash code is cached by the string so that the members are matched by an int comparison first
+        ResultHandle nameHash = resolve.invokeVirtualMethod(Descriptors.HASH_CODE, name);
         ResultHandle params = resolve.invokeInterfaceMethod(Descriptors.GET_PARAMS, evalContext);
         ResultHandle paramsCount = resolve.invokeInterfaceMethod(Descriptors.COLLECTION_SIZE, params);
 
@@ -477,9 +479,7 @@ private boolean implementNamespaceResolve(ClassCreator valueResolver, String cla
                 LOGGER.debugf("Static field added: %s", field);
                 // Match field name
                 BytecodeCreator fieldMatch = zeroParamsBranch
-                        .ifNonZero(
-                                zeroParamsBranch.invokeVirtualMethod(Descriptors.EQUALS,
-                                        resolve.load(field.name()), name))
+                        .ifNonZero(nameEquals(zeroParamsBranch, field.name(), name, nameHash))
                         .trueBranch();
                 ResultHandle value = fieldMatch
                         .readStaticField(FieldDescriptor.of(clazzName, field.name(), field.type().name().toString()));
@@ -499,6 +499,7 @@ private boolean implementNamespaceResolve(ClassCreator valueResolver, String cla
                     // No params - just invoke the method
                     LOGGER.debugf("Static method added %s", method);
                     try (BytecodeCreator matchScope = createMatchScope(resolve, method.name(), 0, method.returnType(), name,
+                            nameHash,
                             params, paramsCount)) {
                         ResultHandle ret;
                         boolean hasCompletionStage = !skipMemberType(method.returnType())
@@ -553,10 +554,11 @@ private boolean implementNamespaceResolve(ClassCreator valueResolver, String cla
 
                 if (methodMatches.size() == 1) {
                     // Single method matches the name and number of params
-                    matchMethod(methodMatches.iterator().next(), clazz, resolve, base, name, params, paramsCount, evalContext);
+                    matchMethod(methodMatches.iterator().next(), clazz, resolve, base, name, nameHash, params, paramsCount,
+                            evalContext);
                 } else {
                     // Multiple methods match the name and number of params
-                    matchMethods(match.name, match.paramsCount, methodMatches, clazz, resolve, base, name,
+                    matchMethods(match.name, match.paramsCount, methodMatches, clazz, resolve, base, name, nameHash,
                             params, paramsCount, evalContext);
                 }
             }
@@ -572,7 +574,8 @@ private boolean implementNamespaceResolve(ClassCreator valueResolver, String cla
                 list.addAll(entry.getValue());
             }
             for (Entry<String, List<MethodInfo>> entry : varargsMap.entrySet()) {
-                matchMethods(entry.getKey(), Integer.MIN_VALUE, entry.getValue(), clazz, resolve, base, name, params,
+                matchMethods(entry.getKey(), Integer.MIN_VALUE, entry.getValue(), clazz, resolve, base, name, nameHash,
+                        params,
                         paramsCount, evalContext);
             }
         }
@@ -582,12 +585,13 @@ private boolean implementNamespaceResolve(ClassCreator valueResolver, String cla
     }
 
     private void matchMethod(MethodInfo method, ClassInfo clazz, MethodCreator resolve, ResultHandle base, ResultHandle name,
-            ResultHandle params, ResultHandle paramsCount, ResultHandle evalContext) {
+            ResultHandle nameHash, ResultHandle params, ResultHandle paramsCount, ResultHandle evalContext) {
         List<Type> methodParams = method.parameterTypes();
 
         LOGGER.debugf("Method added %s", method);
 
         BytecodeCreator matchScope = createMatchScope(resolve, method.name(), methodParams.size(), method.returnType(), name,
+                nameHash,
                 params,
                 paramsCount);
 
@@ -712,12 +716,12 @@ private void matchMethod(MethodInfo method, ClassInfo clazz, MethodCreator resol
 
     private void matchMethods(String matchName, int matchParamsCount, Collection<MethodInfo> methods,
             ClassInfo clazz,
-            MethodCreator resolve, ResultHandle base, ResultHandle name, ResultHandle params, ResultHandle paramsCount,
-            ResultHandle evalContext) {
+            MethodCreator resolve, ResultHandle base, ResultHandle name, ResultHandle nameHash, ResultHandle params,
+            ResultHandle paramsCount, ResultHandle evalContext) {
 
         LOGGER.debugf("Methods added %s", methods);
         BytecodeCreator matchScope = createMatchScope(resolve, matchName, matchParamsCount, null,
-                name, params,
+                name, nameHash, params,
                 paramsCount);
         ResultHandle ret = matchScope
                 .newInstance(MethodDescriptor.ofConstructor(CompletableFuture.class));
@@ -896,19 +900,16 @@ static ResultHandle loadParamType(BytecodeCreator creator, Type paramType) {
     }
 
     private BytecodeCreator createMatchScope(BytecodeCreator bytecodeCreator, String methodName, int methodParams,
-            Type returnType, ResultHandle name, ResultHandle params, ResultHandle paramsCount) {
+            Type returnType, ResultHandle name, ResultHandle nameHash, ResultHandle params, ResultHandle paramsCount) {
 
         BytecodeCreator matchScope = bytecodeCreator.createScope();
         // Match name
-        BytecodeCreator notMatched = matchScope.ifTrue(matchScope.invokeVirtualMethod(Descriptors.EQUALS,
-                matchScope.load(methodName),
-                name))
+        BytecodeCreator notMatched = matchScope.ifTrue(nameEquals(matchScope, methodName, name, nameHash))
                 .falseBranch();
         // Match the property name for getters,  ie. "foo" for "getFoo"
         if (methodParams == 0 && isGetterName(methodName, returnType)) {
-            notMatched.ifNonZero(notMatched.invokeVirtualMethod(Descriptors.EQUALS,
-                    notMatched.load(getPropertyName(methodName)),
-                    name)).falseBranch().breakScope(matchScope);
+            notMatched.ifNonZero(nameEquals(notMatched, getPropertyName(methodName), name, nameHash)).falseBranch()
+                    .breakScope(matchScope);
         } else {
             notMatched.breakScope(matchScope);
         }
@@ -919,6 +920,21 @@ private BytecodeCreator createMatchScope(BytecodeCreator bytecodeCreator, String
         return matchScope;
     }
 
+    /**
+     * The names are only compared if the hash codes match.
+     *
+     * @return a boolean result handle
+     */
+    private static ResultHandle nameEquals(BytecodeCreator bytecodeCreator, String value, ResultHandle name,
+            ResultHandle nameHash) {
+        AssignableResultHandle ret = bytecodeCreator.createVariable(boolean.class);
+        bytecodeCreator.assign(ret, bytecodeCreator.load(false));
+        BytecodeCreator hashMatched = bytecodeCreator.ifIntegerEqual(bytecodeCreator.load(value.hashCode()), nameHash)
+                .trueBranch();
+        hashMatched.assign(ret, hashMatched.invokeVirtualMethod(Descriptors.EQUALS, hashMatched.load(value), name));
+        return ret;
+    }
+
     private void implementAppliesTo(ClassCreator valueResolver, ClassInfo clazz) {
         MethodCreator appliesTo = valueResolver.getMethodCreator("appliesTo", boolean.class, EvalContext.class)
                 .setModifiers(ACC_PUBLIC);
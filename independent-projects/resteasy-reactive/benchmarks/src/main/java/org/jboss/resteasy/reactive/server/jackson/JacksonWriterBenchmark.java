@@ -0,0 +1,154 @@
+package org.jboss.resteasy.reactive.server.jackson;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
+
+/**
+ * Compares the ways a Jackson writer can produce the response body. The {@code outputStream} benchmark is the current
+ * path: the entity is written to an output stream that copies the bytes into pooled direct buffers of the configured
+ * output buffer size, like the {@code ResteasyReactiveOutputStream}. The other benchmarks write into a single pooled
+ * buffer and into a byte array that is wrapped afterwards. Run with the GC profiler to see the allocations per response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JacksonWriterBenchmark {
+
+    // the default value of quarkus.resteasy-reactive.output-buffer-size
+    private static final int OUTPUT_BUFFER_SIZE = 8191;
+
+    /**
+     * The number of items in the serialized list, a single item fits into one output buffer.
+     */
+    @Param({ "1", "1000" })
+    int items;
+
+    private ObjectWriter writer;
+    private List<Item> entity;
+
+    @Setup
+    public void setup() {
+        this.writer = JacksonMessageBodyWriterUtil.createDefaultWriter(new ObjectMapper());
+        this.entity = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            entity.add(new Item(i, "item" + i, "A description of the item number " + i, i * 1.5));
+        }
+    }
+
+    @Benchmark
+    public int outputStream() throws IOException {
+        PooledBufferOutputStream stream = new PooledBufferOutputStream();
+        writer.writeValue(stream, entity);
+        stream.close();
+        return stream.written;
+    }
+
+    @Benchmark
+    public int byteBufOutputStream() throws IOException {
+        ByteBuf buffer = PooledByteBufAllocator.DEFAULT.directBuffer(OUTPUT_BUFFER_SIZE);
+        try {
+            writer.writeValue((OutputStream) new ByteBufOutputStream(buffer), entity);
+            return buffer.readableBytes();
+        } finally {
+            buffer.release();
+        }
+    }
+
+    @Benchmark
+    public int bytes() throws IOException {
+        ByteBuf buffer = Unpooled.wrappedBuffer(writer.writeValueAsBytes(entity));
+        try {
+            return buffer.readableBytes();
+        } finally {
+            buffer.release();
+        }
+    }
+
+    public static class Item {
+
+        public int id;
+        public String name;
+        public String description;
+        public double price;
+
+        public Item(int id, String name, String description, double price) {
+            this.id = id;
+            this.name = name;
+            this.description = description;
+            this.price = price;
+        }
+    }
+
+    /**
+     * Mirrors the buffering of the {@code ResteasyReactiveOutputStream}, a full buffer is released instead of being
+     * written to the connection.
+     */
+    static final class PooledBufferOutputStream extends OutputStream {
+
+        private ByteBuf buffer;
+        int written;
+
+        @Override
+        public void write(int b) {
+            write(new byte[] { (byte) b }, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            int rem = len;
+            int idx = off;
+            if (buffer == null) {
+                buffer = PooledByteBufAllocator.DEFAULT.directBuffer(OUTPUT_BUFFER_SIZE);
+            }
+            while (rem > 0) {
+                int toWrite = Math.min(rem, buffer.writableBytes());
+                buffer.writeBytes(b, idx, toWrite);
+                rem -= toWrite;
+                idx += toWrite;
+                if (!buffer.isWritable()) {
+                    send(buffer);
+                    buffer = PooledByteBufAllocator.DEFAULT.directBuffer(OUTPUT_BUFFER_SIZE);
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            if (buffer != null) {
+                send(buffer);
+                buffer = null;
+            }
+        }
+
+        private void send(ByteBuf buffer) {
+            written += buffer.readableBytes();
+            buffer.release();
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+
+import org.jboss.resteasy.reactive.common.util.URIDecoder;
+import org.jboss.resteasy.reactive.server.mapping.RequestMapper.RequestMatch;
+import org.jboss.resteasy.reactive.server.mapping.RequestMapper.RequestPath;
+
+/**
+ * The linear scan of the sorted candidates that was used by {@link RequestMapper} before the templates were compiled into
+ * a {@link RequestPathTrie}. It is kept as the baseline of {@link RequestMapperBenchmark}.
+ */
+class LinearRequestMapper<T> {
+
+    private static final String[] EMPTY_STRING_ARRAY = new String[0];
+
+    private final PathMatcher<ArrayList<RequestPath<T>>> requestPaths;
+    private final int maxParams;
+
+    LinearRequestMapper(ArrayList<RequestPath<T>> templates) {
+        PathMatcher.Builder<ArrayList<RequestPath<T>>> pathMatcherBuilder = new PathMatcher.Builder<>();
+        int max = 0;
+        Map<String, ArrayList<RequestPath<T>>> aggregates = new HashMap<>();
+        for (RequestPath<T> i : templates) {
+            aggregates.computeIfAbsent(i.template.stem, k -> new ArrayList<>()).add(i);
+            max = Math.max(max, i.template.countPathParamNames());
+        }
+        for (Map.Entry<String, ArrayList<RequestPath<T>>> entry : aggregates.entrySet()) {
+            entry.getValue().sort((t1, t2) -> t2.template.compareTo(t1.template));
+            pathMatcherBuilder.addPrefixPath(entry.getKey(), entry.getValue());
+        }
+        maxParams = max;
+        requestPaths = pathMatcherBuilder.build();
+    }
+
+    RequestMatch<T> map(String path) {
+        int pathLength = path.length();
+        PathMatcher.PathMatch<ArrayList<RequestPath<T>>> initialMatch = requestPaths.match(path);
+        if (initialMatch.getValue() == null) {
+            return null;
+        }
+
+        ArrayList<RequestPath<T>> value = initialMatch.getValue();
+        for (int index = 0; index < value.size(); index++) {
+            RequestPath<T> potentialMatch = value.get(index);
+            String[] params = (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
+            int paramCount = 0;
+            boolean matched = true;
+            boolean prefixAllowed = potentialMatch.prefixTemplate;
+            int matchPos = initialMatch.getMatched().length();
+            for (int i = 1; i < potentialMatch.template.components.length; ++i) {
+                URITemplate.TemplateComponent segment = potentialMatch.template.components[i];
+                if (segment.type == URITemplate.Type.CUSTOM_REGEX) {
+                    Matcher matcher = segment.pattern.matcher(path);
+                    matched = matcher.find(matchPos);
+                    if (!matched || matcher.start() != matchPos) {
+                        break;
+                    }
+                    matchPos = matcher.end();
+                    for (String group : segment.groups) {
+                        params[paramCount++] = URIDecoder.decodeURIComponent(matcher.group(group), false);
+                    }
+                } else if (segment.type == URITemplate.Type.LITERAL) {
+                    //make sure the literal text is the same
+                    if (matchPos + segment.literalText.length() > pathLength) {
+                        matched = false;
+                        break; //too long
+                    }
+                    for (int pos = 0; pos < segment.literalText.length(); ++pos) {
+                        if (path.charAt(matchPos++) != segment.literalText.charAt(pos)) {
+                            matched = false;
+                            break;
+                        }
+                    }
+                    if (!matched) {
+                        break;
+                    }
+                } else if (segment.type == URITemplate.Type.DEFAULT_REGEX) {
+                    if (matchPos == pathLength) {
+                        matched = false;
+                        break;
+                    }
+                    int start = matchPos;
+                    while (matchPos < pathLength && path.charAt(matchPos) != '/') {
+                        matchPos++;
+                    }
+                    params[paramCount++] = URIDecoder.decodeURIComponent(path.substring(start, matchPos), false);
+                }
+            }
+            if (!matched) {
+                continue;
+            }
+            if (paramCount < params.length) {
+                params[paramCount] = null;
+            }
+            boolean fullMatch = matchPos == pathLength;
+            boolean doPrefixMatch = false;
+            if (!fullMatch) {
+                //according to the spec every template ends with (/.*)?
+                doPrefixMatch = (matchPos == 1 || path.charAt(matchPos) == '/')
+                        && (prefixAllowed || matchPos == pathLength - 1);
+            }
+            if (fullMatch || doPrefixMatch) {
+                String remaining;
+                if (fullMatch) {
+                    remaining = "";
+                } else {
+                    if (matchPos == 1) {
+                        remaining = path;
+                    } else {
+                        remaining = path.substring(matchPos);
+                    }
+                }
+                return new RequestMatch<>(potentialMatch.template, potentialMatch.value, params, remaining);
+            }
+        }
+        return null;
+    }
+
+}
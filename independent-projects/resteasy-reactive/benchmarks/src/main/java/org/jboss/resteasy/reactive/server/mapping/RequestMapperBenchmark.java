@@ -0,0 +1,94 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.resteasy.reactive.server.mapping.RequestMapper.RequestMatch;
+import org.jboss.resteasy.reactive.server.mapping.RequestMapper.RequestPath;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the {@link RequestMapper} with the linear scan of the candidates it replaced. Most templates share the
+ * {@code /orders/} stem, so the linear scan needs to try them one by one. Run with the GC profiler to see the allocations
+ * per request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RequestMapperBenchmark {
+
+    /**
+     * The number of templates that share the stem.
+     */
+    @Param({ "8", "64" })
+    int templates;
+
+    private RequestMapper<String> trie;
+    private LinearRequestMapper<String> linear;
+    private String[] paths;
+
+    @Setup
+    public void setup() {
+        ArrayList<RequestPath<String>> requestPaths = new ArrayList<>();
+        List<String> paths = new ArrayList<>();
+        for (int i = 0; i < templates / 4; i++) {
+            add(requestPaths, "/orders/{id}/items" + i);
+            add(requestPaths, "/orders/{id}/items" + i + "/{itemId}");
+            add(requestPaths, "/orders/search" + i);
+            add(requestPaths, "/orders/{id:\\d+}/raw" + i);
+            paths.add("/orders/1234/items" + i);
+            paths.add("/orders/1234/items" + i + "/42");
+            paths.add("/orders/search" + i);
+        }
+        // The parameter values may need to be decoded
+        paths.add("/orders/a%20b/items0");
+        // The custom regular expression is matched one by one
+        paths.add("/orders/1234/raw0");
+        // Not found
+        paths.add("/orders/1234/unknown");
+        this.trie = new RequestMapper<>(new ArrayList<>(requestPaths));
+        this.linear = new LinearRequestMapper<>(new ArrayList<>(requestPaths));
+        this.paths = paths.toArray(new String[0]);
+        for (String path : this.paths) {
+            RequestMatch<String> expected = linear.map(path);
+            RequestMatch<String> actual = trie.map(path);
+            if (expected == null ? actual != null : actual == null || !expected.value.equals(actual.value)) {
+                throw new IllegalStateException("Different match for " + path + ": " + expected + " vs " + actual);
+            }
+        }
+    }
+
+    @Benchmark
+    public void trie(Blackhole blackhole) {
+        for (String path : paths) {
+            blackhole.consume(trie.map(path));
+        }
+    }
+
+    @Benchmark
+    public void linear(Blackhole blackhole) {
+        for (String path : paths) {
+            blackhole.consume(linear.map(path));
+        }
+    }
+
+    private static void add(List<RequestPath<String>> requestPaths, String template) {
+        requestPaths.add(new RequestPath<>(false, new URITemplate(template, false), template));
+    }
+
+}
@@ -76,6 +76,7 @@
 import org.jboss.resteasy.reactive.server.core.parameters.converters.OptionalConverter;
 import org.jboss.resteasy.reactive.server.core.parameters.converters.ParameterConverterSupplier;
 import org.jboss.resteasy.reactive.server.core.parameters.converters.PathSegmentParamConverter;
+import org.jboss.resteasy.reactive.server.core.parameters.converters.PrimitiveParamConverter;
 import org.jboss.resteasy.reactive.server.core.parameters.converters.RuntimeResolvedConverter;
 import org.jboss.resteasy.reactive.server.core.parameters.converters.SetConverter;
 import org.jboss.resteasy.reactive.server.core.parameters.converters.SortedSetConverter;
@@ -519,6 +520,13 @@ private ParameterConverterSupplier extractConverter(String elementType, IndexVie
             return new CharParamConverter.Supplier();
         } else if (elementType.equals(Character.class.getName())) {
             return new CharacterParamConverter.Supplier();
+        } else if (primitiveTypes.containsKey(elementType)
+                && PrimitiveParamConverter.Supplier.isSupported(primitiveTypes.get(elementType))) {
+            // primitives and their wrappers are parsed directly, no need to generate a converter
+            ParameterConverterSupplier delegate = new PrimitiveParamConverter.Supplier(primitiveTypes.get(elementType));
+            if (hasRuntimeConverters)
+                return new RuntimeResolvedConverter.Supplier().setDelegate(delegate);
+            return delegate;
         } else if (elementType.equals(FileUpload.class.getName())
                 || elementType.equals(Path.class.getName())
                 || elementType.equals(File.class.getName())
@@ -816,7 +816,7 @@ public Object getQueryParameter(String name, boolean single, boolean encoded) {
         // empty collections must not be turned to null
         List<String> strings = serverRequest().getAllQueryParams(name);
         if (encoded) {
-            List<String> newStrings = new ArrayList<>();
+            List<String> newStrings = new ArrayList<>(strings.size());
             for (String i : strings) {
                 newStrings.add(Encode.encodeQueryParam(i));
             }
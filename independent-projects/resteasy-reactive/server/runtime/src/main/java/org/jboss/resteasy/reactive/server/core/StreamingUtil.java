@@ -48,7 +48,7 @@ public static CompletionStage<?> send(ResteasyReactiveRequestContext context,
         return response.write(data);
     }
 
-    private static byte[] serialiseEntity(ResteasyReactiveRequestContext context, Object entity) throws IOException {
+    public static byte[] serialiseEntity(ResteasyReactiveRequestContext context, Object entity) throws IOException {
         ServerSerialisers serialisers = context.getDeployment().getSerialisers();
         Class<?> entityClass = entity.getClass();
         Type entityType = context.getGenericReturnType();
@@ -22,8 +22,8 @@ public Object convert(Object parameter) {
             if (delegate == null) {
                 return parameter;
             }
-            List<Object> ret = new ArrayList<>();
             List<String> values = (List<String>) parameter;
+            List<Object> ret = new ArrayList<>(values.size());
             for (String val : values) {
                 ret.add(delegate.convert(val));
             }
@@ -0,0 +1,152 @@
+package org.jboss.resteasy.reactive.server.core.parameters.converters;
+
+/**
+ * Converters for primitive types and their wrappers.
+ * <p>
+ * These converters parse the value directly, so we don't need to generate a converter class or invoke {@code valueOf}
+ * reflectively for every request. The boxed results come from the JDK caches where possible.
+ * <p>
+ * The conversion has no side effects and so the default value of a parameter can be converted only once, see
+ * {@link org.jboss.resteasy.reactive.server.handlers.ParameterHandler}.
+ */
+public abstract class PrimitiveParamConverter implements ParameterConverter {
+
+    @Override
+    public Object convert(Object parameter) {
+        return parse(parameter.toString());
+    }
+
+    protected abstract Object parse(String value);
+
+    public static class BooleanConverter extends PrimitiveParamConverter {
+
+        @Override
+        protected Object parse(String value) {
+            return Boolean.parseBoolean(value) ? Boolean.TRUE : Boolean.FALSE;
+        }
+    }
+
+    public static class ByteConverter extends PrimitiveParamConverter {
+
+        @Override
+        protected Object parse(String value) {
+            return Byte.valueOf(Byte.parseByte(value));
+        }
+    }
+
+    public static class ShortConverter extends PrimitiveParamConverter {
+
+        @Override
+        protected Object parse(String value) {
+            return Short.valueOf(Short.parseShort(value));
+        }
+    }
+
+    public static class IntegerConverter extends PrimitiveParamConverter {
+
+        @Override
+        protected Object parse(String value) {
+            return Integer.valueOf(Integer.parseInt(value));
+        }
+    }
+
+    public static class LongConverter extends PrimitiveParamConverter {
+
+        @Override
+        protected Object parse(String value) {
+            return Long.valueOf(Long.parseLong(value));
+        }
+    }
+
+    public static class FloatConverter extends PrimitiveParamConverter {
+
+        @Override
+        protected Object parse(String value) {
+            return Float.valueOf(Float.parseFloat(value));
+        }
+    }
+
+    public static class DoubleConverter extends PrimitiveParamConverter {
+
+        @Override
+        protected Object parse(String value) {
+            return Double.valueOf(Double.parseDouble(value));
+        }
+    }
+
+    public static class Supplier implements ParameterConverterSupplier {
+
+        private String wrapperType;
+
+        public Supplier() {
+        }
+
+        public Supplier(String wrapperType) {
+            this.wrapperType = wrapperType;
+        }
+
+        /**
+         * @return {@code true} if there is a converter for the given wrapper type
+         */
+        public static boolean isSupported(String wrapperType) {
+            return converterClass(wrapperType) != null;
+        }
+
+        @Override
+        public ParameterConverter get() {
+            switch (wrapperType) {
+                case "java.lang.Boolean":
+                    return new BooleanConverter();
+                case "java.lang.Byte":
+                    return new ByteConverter();
+                case "java.lang.Short":
+                    return new ShortConverter();
+                case "java.lang.Integer":
+                    return new IntegerConverter();
+                case "java.lang.Long":
+                    return new LongConverter();
+                case "java.lang.Float":
+                    return new FloatConverter();
+                case "java.lang.Double":
+                    return new DoubleConverter();
+                default:
+                    throw new IllegalStateException("Unsupported primitive wrapper type: " + wrapperType);
+            }
+        }
+
+        @Override
+        public String getClassName() {
+            return converterClass(wrapperType).getName();
+        }
+
+        public String getWrapperType() {
+            return wrapperType;
+        }
+
+        public Supplier setWrapperType(String wrapperType) {
+            this.wrapperType = wrapperType;
+            return this;
+        }
+
+        private static Class<? extends PrimitiveParamConverter> converterClass(String wrapperType) {
+            switch (wrapperType) {
+                case "java.lang.Boolean":
+                    return BooleanConverter.class;
+                case "java.lang.Byte":
+                    return ByteConverter.class;
+                case "java.lang.Short":
+                    return ShortConverter.class;
+                case "java.lang.Integer":
+                    return IntegerConverter.class;
+                case "java.lang.Long":
+                    return LongConverter.class;
+                case "java.lang.Float":
+                    return FloatConverter.class;
+                case "java.lang.Double":
+                    return DoubleConverter.class;
+                default:
+                    return null;
+            }
+        }
+    }
+}
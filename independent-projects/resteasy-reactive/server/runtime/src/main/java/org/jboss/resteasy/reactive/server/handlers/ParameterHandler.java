@@ -12,6 +12,7 @@
 import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
 import org.jboss.resteasy.reactive.server.core.parameters.ParameterExtractor;
 import org.jboss.resteasy.reactive.server.core.parameters.converters.ParameterConverter;
+import org.jboss.resteasy.reactive.server.core.parameters.converters.PrimitiveParamConverter;
 import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
 
 public class ParameterHandler implements ServerRestHandler {
@@ -20,6 +21,10 @@ public class ParameterHandler implements ServerRestHandler {
 
     private final int index;
     private final String defaultValue;
+    /**
+     * The default value converted at deployment time, if the conversion is known to have no side effects
+     */
+    private final Object convertedDefaultValue;
     private final ParameterExtractor extractor;
     private final ParameterConverter converter;
     private final ParameterType parameterType;
@@ -35,6 +40,18 @@ public ParameterHandler(int index, String defaultValue, ParameterExtractor extra
         this.parameterType = parameterType;
         this.isCollection = isCollection;
         this.isOptional = isOptional;
+        this.convertedDefaultValue = convertDefaultValue(defaultValue, converter);
+    }
+
+    private static Object convertDefaultValue(String defaultValue, ParameterConverter converter) {
+        if (defaultValue != null && converter instanceof PrimitiveParamConverter) {
+            try {
+                return converter.convert(defaultValue);
+            } catch (RuntimeException e) {
+                // report the failure when the default value is actually used
+            }
+        }
+        return null;
     }
 
     @Override
@@ -70,12 +87,18 @@ public void accept(Object o, Throwable throwable) {
 
     private void handleResult(Object result, ResteasyReactiveRequestContext requestContext, boolean needsResume) {
         // empty collections should still get their default value
+        boolean needsConversion = true;
         if (defaultValue != null
                 && (result == null || (isCollection && ((Collection) result).isEmpty()))) {
-            result = defaultValue;
+            if (convertedDefaultValue != null) {
+                result = convertedDefaultValue;
+                needsConversion = false;
+            } else {
+                result = defaultValue;
+            }
         }
         Throwable toThrow = null;
-        if (converter != null && ((result != null) || isOptional)) {
+        if (needsConversion && converter != null && ((result != null) || isOptional)) {
             // spec says:
             /*
              * 3.2 Fields and Bean Properties
@@ -2,6 +2,7 @@
 
 import static org.jboss.resteasy.reactive.server.jaxrs.SseEventSinkImpl.EMPTY_BUFFER;
 
+import java.io.ByteArrayOutputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
@@ -95,6 +96,183 @@ protected String onCompleteText() {
         }
     }
 
+    /**
+     * Writes the items as a JSON array.
+     * <p>
+     * The next item is requested as soon as the previous one has been serialized, and the items that arrive while a write
+     * is in progress are batched into a single write. The batched data is bounded by {@link #MAX_PENDING_BYTES}, once
+     * it is reached no more items are requested until the write completes, so large streams are served with constant
+     * memory. Once the client has gone away the subscription is cancelled and nothing else is written.
+     */
+    private static class JsonArrayStreamingMultiSubscriber extends AbstractMultiSubscriber {
+
+        private static final int MAX_PENDING_BYTES = 8192;
+
+        private final ByteArrayOutputStream pending = new ByteArrayOutputStream();
+        private boolean hadItem;
+        private boolean writing;
+        private boolean demandPaused;
+        private boolean completed;
+        private boolean failed;
+
+        JsonArrayStreamingMultiSubscriber(ResteasyReactiveRequestContext requestContext,
+                List<StreamingResponseCustomizer> customizers) {
+            super(requestContext, customizers);
+        }
+
+        @Override
+        public void onNext(Object item) {
+            if (cancelIfClosed()) {
+                return;
+            }
+            byte[] data;
+            try {
+                data = StreamingUtil.serialiseEntity(requestContext, item);
+            } catch (Throwable t) {
+                // need to cancel because the exception didn't come from the Multi
+                fail(t);
+                return;
+            }
+            byte[] toWrite = null;
+            boolean requestNext;
+            synchronized (this) {
+                if (failed) {
+                    return;
+                }
+                pending.write(hadItem ? ',' : '[');
+                pending.write(data, 0, data.length);
+                hadItem = true;
+                if (writing) {
+                    requestNext = pending.size() < MAX_PENDING_BYTES;
+                    demandPaused = !requestNext;
+                } else {
+                    writing = true;
+                    toWrite = drain();
+                    requestNext = true;
+                }
+            }
+            if (toWrite != null) {
+                write(toWrite, false);
+            }
+            if (requestNext) {
+                subscription.request(1);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            byte[] toWrite = null;
+            synchronized (this) {
+                if (failed) {
+                    return;
+                }
+                completed = true;
+                if (!hadItem) {
+                    pending.write('[');
+                }
+                pending.write(']');
+                if (!writing) {
+                    writing = true;
+                    toWrite = drain();
+                }
+            }
+            if (toWrite != null) {
+                write(toWrite, true);
+            }
+        }
+
+        private void write(byte[] data, boolean last) {
+            if (cancelIfClosed()) {
+                if (last) {
+                    // the stream is complete, there was nothing to cancel
+                    super.onComplete();
+                }
+                return;
+            }
+            StreamingUtil.setHeaders(requestContext, requestContext.serverResponse(), customizers);
+            requestContext.serverResponse().write(data).handle(new BiFunction<Object, Throwable, Object>() {
+                @Override
+                public Object apply(Object v, Throwable t) {
+                    if (t != null) {
+                        fail(t);
+                    } else if (last) {
+                        JsonArrayStreamingMultiSubscriber.super.onComplete();
+                    } else {
+                        writeCompleted();
+                    }
+                    return null;
+                }
+            });
+        }
+
+        private void writeCompleted() {
+            byte[] toWrite = null;
+            boolean last = false;
+            boolean requestNext;
+            synchronized (this) {
+                if (pending.size() > 0) {
+                    toWrite = drain();
+                    last = completed;
+                } else {
+                    writing = false;
+                }
+                requestNext = demandPaused;
+                demandPaused = false;
+            }
+            if (toWrite != null) {
+                write(toWrite, last);
+            }
+            if (requestNext) {
+                subscription.request(1);
+            }
+        }
+
+        private void fail(Throwable t) {
+            boolean cancel;
+            synchronized (this) {
+                cancel = !completed;
+                failed = true;
+            }
+            if (cancel) {
+                try {
+                    subscription.cancel();
+                } catch (Throwable t2) {
+                    log.debug("Failed to cancel the subscription", t2);
+                }
+            }
+            handleException(requestContext, t);
+        }
+
+        /**
+         * @return {@code true} if the response is closed, the subscription is cancelled if it's still active
+         */
+        private boolean cancelIfClosed() {
+            if (!requestContext.serverResponse().closed()) {
+                return false;
+            }
+            boolean cancel;
+            synchronized (this) {
+                cancel = !completed && !failed;
+                // no more items are written
+                failed = true;
+            }
+            if (cancel) {
+                try {
+                    subscription.cancel();
+                } catch (Throwable t) {
+                    log.debug("Failed to cancel the subscription", t);
+                }
+            }
+            return true;
+        }
+
+        private byte[] drain() {
+            byte[] data = pending.toByteArray();
+            pending.reset();
+            return data;
+        }
+    }
+
     private static class StreamingMultiSubscriber extends AbstractMultiSubscriber {
 
         // Huge hack to stream valid json
@@ -286,7 +464,11 @@ private void handleChunkedStreaming(ResteasyReactiveRequestContext requestContex
     }
 
     private void handleStreaming(ResteasyReactiveRequestContext requestContext, Publisher<?> result, boolean json) {
-        result.subscribe(new StreamingMultiSubscriber(requestContext, streamingResponseCustomizers, json));
+        if (json) {
+            result.subscribe(new JsonArrayStreamingMultiSubscriber(requestContext, streamingResponseCustomizers));
+        } else {
+            result.subscribe(new StreamingMultiSubscriber(requestContext, streamingResponseCustomizers, false));
+        }
     }
 
     private void handleSse(ResteasyReactiveRequestContext requestContext, Publisher<?> result) {
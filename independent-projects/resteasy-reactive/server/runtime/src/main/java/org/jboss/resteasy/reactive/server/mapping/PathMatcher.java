@@ -155,6 +155,8 @@ private void dumpValue(T value, int level) {
                 if (x instanceof Dumpable)
                     ((Dumpable) x).dump(level);
             }
+        } else if (value instanceof Dumpable) {
+            ((Dumpable) value).dump(level);
         }
     }
 
@@ -14,13 +14,13 @@
 
     private static final String[] EMPTY_STRING_ARRAY = new String[0];
 
-    private final PathMatcher<ArrayList<RequestPath<T>>> requestPaths;
-    private final PathMatcher.Builder<ArrayList<RequestPath<T>>> pathMatcherBuilder;
+    private final PathMatcher<RequestPathTrie<T>> requestPathTries;
+    private final PathMatcher.Builder<RequestPathTrie<T>> trieMatcherBuilder;
     private final ArrayList<RequestPath<T>> templates;
     final int maxParams;
 
     public RequestMapper(ArrayList<RequestPath<T>> templates) {
-        pathMatcherBuilder = new PathMatcher.Builder<>();
+        trieMatcherBuilder = new PathMatcher.Builder<>();
         this.templates = templates;
         int max = 0;
         Map<String, ArrayList<RequestPath<T>>> aggregates = new HashMap<>();
@@ -35,7 +35,7 @@ public RequestMapper(ArrayList<RequestPath<T>> templates) {
         aggregates.forEach(this::sortAggregates);
         aggregates.forEach(this::addPrefixPaths);
         maxParams = max;
-        requestPaths = pathMatcherBuilder.build();
+        requestPathTries = trieMatcherBuilder.build();
     }
 
     private void sortAggregates(String stem, List<RequestPath<T>> list) {
@@ -48,90 +48,104 @@ public int compare(RequestPath<T> t1, RequestPath<T> t2) {
     }
 
     private void addPrefixPaths(String stem, ArrayList<RequestPath<T>> list) {
-        pathMatcherBuilder.addPrefixPath(stem, list);
+        trieMatcherBuilder.addPrefixPath(stem, new RequestPathTrie<>(list));
     }
 
-    @SuppressWarnings({ "rawtypes", "unchecked" })
     public RequestMatch<T> map(String path) {
-        int pathLength = path.length();
-        PathMatcher.PathMatch<ArrayList<RequestPath<T>>> initialMatch = requestPaths.match(path);
-        if (initialMatch.getValue() == null) {
+        PathMatcher.PathMatch<RequestPathTrie<T>> initialMatch = requestPathTries.match(path);
+        RequestPathTrie<T> trie = initialMatch.getValue();
+        if (trie == null) {
             return null;
         }
-
-        ArrayList<RequestPath<T>> value = initialMatch.getValue();
-        for (int index = 0; index < value.size(); index++) {
-            RequestPath<T> potentialMatch = value.get(index);
-            String[] params = (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
-            int paramCount = 0;
-            boolean matched = true;
-            boolean prefixAllowed = potentialMatch.prefixTemplate;
-            int matchPos = initialMatch.getMatched().length();
-            for (int i = 1; i < potentialMatch.template.components.length; ++i) {
-                URITemplate.TemplateComponent segment = potentialMatch.template.components[i];
-                if (segment.type == URITemplate.Type.CUSTOM_REGEX) {
-                    Matcher matcher = segment.pattern.matcher(path);
-                    matched = matcher.find(matchPos);
-                    if (!matched || matcher.start() != matchPos) {
-                        break;
-                    }
-                    matchPos = matcher.end();
-                    for (String group : segment.groups) {
-                        params[paramCount++] = URIDecoder.decodeURIComponent(matcher.group(group), false);
-                    }
-                } else if (segment.type == URITemplate.Type.LITERAL) {
-                    //make sure the literal text is the same
-                    if (matchPos + segment.literalText.length() > pathLength) {
-                        matched = false;
-                        break; //too long
-                    }
-                    for (int pos = 0; pos < segment.literalText.length(); ++pos) {
-                        if (path.charAt(matchPos++) != segment.literalText.charAt(pos)) {
-                            matched = false;
-                            break;
-                        }
-                    }
-                    if (!matched) {
-                        break;
-                    }
-                } else if (segment.type == URITemplate.Type.DEFAULT_REGEX) {
-                    if (matchPos == pathLength) {
-                        matched = false;
-                        break;
-                    }
-                    int start = matchPos;
-                    while (matchPos < pathLength && path.charAt(matchPos) != '/') {
-                        matchPos++;
-                    }
-                    params[paramCount++] = URIDecoder.decodeURIComponent(path.substring(start, matchPos), false);
-                }
+        ArrayList<RequestPath<T>> value = trie.candidates;
+        int matchPos = initialMatch.getMatched().length();
+        // the trie selects the first simple template that matches without any allocation
+        int index = trie.match(path, matchPos);
+        String[] params = null;
+        // templates with custom regular expressions are not part of the trie so we need to check the ones with higher priority
+        for (int complexIndex : trie.complex) {
+            if (index != -1 && complexIndex > index) {
+                break;
             }
-            if (!matched) {
-                continue;
+            if (params == null) {
+                params = (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
             }
-            if (paramCount < params.length) {
-                params[paramCount] = null;
+            RequestMatch<T> match = match(value.get(complexIndex), path, matchPos, params);
+            if (match != null) {
+                return match;
             }
-            boolean fullMatch = matchPos == pathLength;
-            boolean doPrefixMatch = false;
-            if (!fullMatch) {
-                //according to the spec every template ends with (/.*)?
-                doPrefixMatch = (matchPos == 1 || path.charAt(matchPos) == '/') //matchPos == 1 corresponds to '/' as a root level match
-                        && (prefixAllowed || matchPos == pathLength - 1); //if prefix is allowed, or the remainder is only a trailing /
+            Arrays.fill(params, null);
+        }
+        if (index == -1) {
+            return null;
+        }
+        if (params == null) {
+            params = (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
+        }
+        return match(value.get(index), path, matchPos, params);
+    }
+
+    private RequestMatch<T> match(RequestPath<T> potentialMatch, String path, int matchPos, String[] params) {
+        int pathLength = path.length();
+        int paramCount = 0;
+        boolean prefixAllowed = potentialMatch.prefixTemplate;
+        for (int i = 1; i < potentialMatch.template.components.length; ++i) {
+            URITemplate.TemplateComponent segment = potentialMatch.template.components[i];
+            if (segment.type == URITemplate.Type.CUSTOM_REGEX) {
+                Matcher matcher = segment.pattern.matcher(path);
+                if (!matcher.find(matchPos)) {
+                    return null;
+                }
+                if (matcher.start() != matchPos) {
+                    break;
+                }
+                matchPos = matcher.end();
+                for (String group : segment.groups) {
+                    params[paramCount++] = URIDecoder.decodeURIComponent(matcher.group(group), false);
+                }
+            } else if (segment.type == URITemplate.Type.LITERAL) {
+                //make sure the literal text is the same
+                if (matchPos + segment.literalText.length() > pathLength) {
+                    return null; //too long
+                }
+                for (int pos = 0; pos < segment.literalText.length(); ++pos) {
+                    if (path.charAt(matchPos++) != segment.literalText.charAt(pos)) {
+                        return null;
+                    }
+                }
+            } else if (segment.type == URITemplate.Type.DEFAULT_REGEX) {
+                if (matchPos == pathLength) {
+                    return null;
+                }
+                int start = matchPos;
+                while (matchPos < pathLength && path.charAt(matchPos) != '/') {
+                    matchPos++;
+                }
+                params[paramCount++] = URIDecoder.decodeURIComponent(path.substring(start, matchPos), false);
             }
-            if (fullMatch || doPrefixMatch) {
-                String remaining;
-                if (fullMatch) {
-                    remaining = "";
+        }
+        if (paramCount < params.length) {
+            params[paramCount] = null;
+        }
+        boolean fullMatch = matchPos == pathLength;
+        boolean doPrefixMatch = false;
+        if (!fullMatch) {
+            //according to the spec every template ends with (/.*)?
+            doPrefixMatch = (matchPos == 1 || path.charAt(matchPos) == '/') //matchPos == 1 corresponds to '/' as a root level match
+                    && (prefixAllowed || matchPos == pathLength - 1); //if prefix is allowed, or the remainder is only a trailing /
+        }
+        if (fullMatch || doPrefixMatch) {
+            String remaining;
+            if (fullMatch) {
+                remaining = "";
+            } else {
+                if (matchPos == 1) {
+                    remaining = path;
                 } else {
-                    if (matchPos == 1) {
-                        remaining = path;
-                    } else {
-                        remaining = path.substring(matchPos);
-                    }
+                    remaining = path.substring(matchPos);
                 }
-                return new RequestMatch(potentialMatch.template, potentialMatch.value, params, remaining);
             }
+            return new RequestMatch<>(potentialMatch.template, potentialMatch.value, params, remaining);
         }
         return null;
     }
@@ -190,11 +204,7 @@ public String toString() {
     }
 
     public void dump() {
-        this.requestPaths.dump(0);
-    }
-
-    public PathMatcher<ArrayList<RequestPath<T>>> getRequestPaths() {
-        return requestPaths;
+        this.requestPathTries.dump(0);
     }
 
     public ArrayList<RequestPath<T>> getTemplates() {
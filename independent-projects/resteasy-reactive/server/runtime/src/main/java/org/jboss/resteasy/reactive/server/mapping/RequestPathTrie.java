@@ -0,0 +1,262 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A segment level trie built from all the templates that share the same stem.
+ * <p>
+ * Templates that only consist of literals and {@link URITemplate.Type#DEFAULT_REGEX} parameters are compiled into the
+ * trie, so selecting the matching template does not require a linear scan of the candidates, any regular expression
+ * evaluation or any allocation. Literal path segments are looked up by a hash of the character range in the request
+ * path, in the same way as {@link SubstringMap}.
+ * <p>
+ * Templates that contain a {@link URITemplate.Type#CUSTOM_REGEX} are not part of the trie, their indexes are kept in
+ * {@link #complex} and the {@link RequestMapper} needs to match them one by one.
+ * <p>
+ * The result is always the same as the result of the linear scan of the sorted candidates, i.e. the match with the lowest
+ * index wins.
+ */
+final class RequestPathTrie<T> implements Dumpable {
+
+    private static final int[] EMPTY_INT_ARRAY = new int[0];
+
+    final ArrayList<RequestMapper.RequestPath<T>> candidates;
+    private final Node root;
+
+    /**
+     * Indexes of candidates that could not be compiled into the trie, in ascending order.
+     */
+    final int[] complex;
+
+    RequestPathTrie(ArrayList<RequestMapper.RequestPath<T>> candidates) {
+        this.candidates = candidates;
+        NodeBuilder rootBuilder = new NodeBuilder();
+        List<Integer> complex = new ArrayList<>();
+        for (int index = 0; index < candidates.size(); index++) {
+            if (!add(rootBuilder, candidates.get(index).template, index)) {
+                complex.add(index);
+            }
+        }
+        this.root = rootBuilder.build();
+        this.complex = toArray(complex);
+    }
+
+    @Override
+    public void dump(int level) {
+        for (RequestMapper.RequestPath<T> candidate : candidates) {
+            candidate.dump(level);
+        }
+    }
+
+    /**
+     * @param path the request path
+     * @param start the position right after the matched stem
+     * @return the index of the first candidate compiled into the trie that matches the given path, or {@code -1}
+     */
+    int match(String path, int start) {
+        int best = match(root, path, start, Integer.MAX_VALUE);
+        return best == Integer.MAX_VALUE ? -1 : best;
+    }
+
+    private int match(Node node, String path, int pos, int best) {
+        if (node.minIndex >= best) {
+            // nothing in this subtree can beat the current best match
+            return best;
+        }
+        int pathLength = path.length();
+        for (int index : node.terminals) {
+            if (index >= best) {
+                break;
+            }
+            if (accepts(path, pos, candidates.get(index).prefixTemplate)) {
+                best = index;
+                break;
+            }
+        }
+        if (pos < pathLength && path.charAt(pos) == '/') {
+            if (node.segmentTable != null) {
+                int end = segmentEnd(path, pos + 1);
+                Node child = node.segment(path, pos, end);
+                if (child != null) {
+                    best = match(child, path, end, best);
+                }
+            }
+            for (int i = 0; i < node.literals.length; i++) {
+                String literal = node.literals[i];
+                if (path.regionMatches(pos, literal, 0, literal.length())) {
+                    best = match(node.literalNodes[i], path, pos + literal.length(), best);
+                }
+            }
+        }
+        if (node.param != null && pos < pathLength) {
+            best = match(node.param, path, segmentEnd(path, pos), best);
+        }
+        return best;
+    }
+
+    private static boolean accepts(String path, int matchPos, boolean prefixAllowed) {
+        int pathLength = path.length();
+        if (matchPos == pathLength) {
+            return true;
+        }
+        //according to the spec every template ends with (/.*)?
+        return (matchPos == 1 || path.charAt(matchPos) == '/')
+                && (prefixAllowed || matchPos == pathLength - 1);
+    }
+
+    private static int segmentEnd(String path, int from) {
+        int end = path.indexOf('/', from);
+        return end == -1 ? path.length() : end;
+    }
+
+    private static boolean add(NodeBuilder root, URITemplate template, int index) {
+        // the first component is always the stem which has already been matched
+        List<Object> steps = new ArrayList<>();
+        for (int i = 1; i < template.components.length; ++i) {
+            URITemplate.TemplateComponent component = template.components[i];
+            if (component.type == URITemplate.Type.LITERAL) {
+                String literal = component.literalText;
+                if (literal.isEmpty() || literal.charAt(0) != '/') {
+                    return false;
+                }
+                // split into pieces that start with a slash, e.g. "/foo/bar/" -> "/foo", "/bar", "/"
+                int start = 0;
+                while (start < literal.length()) {
+                    int end = literal.indexOf('/', start + 1);
+                    if (end == -1) {
+                        end = literal.length();
+                    }
+                    steps.add(literal.substring(start, end));
+                    start = end;
+                }
+            } else if (component.type == URITemplate.Type.DEFAULT_REGEX) {
+                steps.add(URITemplate.Type.DEFAULT_REGEX);
+            } else {
+                return false;
+            }
+        }
+        NodeBuilder current = root;
+        current.minIndex = Math.min(current.minIndex, index);
+        for (int i = 0; i < steps.size(); i++) {
+            Object step = steps.get(i);
+            if (step instanceof String) {
+                // a literal is aligned if it is followed by another literal piece or it's the last one, i.e. the whole
+                // path segment must be equal to the literal
+                boolean aligned = i + 1 == steps.size() || steps.get(i + 1) instanceof String;
+                Map<String, NodeBuilder> children = aligned ? current.segments : current.literals;
+                current = children.computeIfAbsent((String) step, k -> new NodeBuilder());
+            } else {
+                if (current.param == null) {
+                    current.param = new NodeBuilder();
+                }
+                current = current.param;
+            }
+            current.minIndex = Math.min(current.minIndex, index);
+        }
+        current.terminals.add(index);
+        return true;
+    }
+
+    private static int[] toArray(List<Integer> list) {
+        if (list.isEmpty()) {
+            return EMPTY_INT_ARRAY;
+        }
+        int[] ret = new int[list.size()];
+        for (int i = 0; i < ret.length; i++) {
+            ret[i] = list.get(i);
+        }
+        return ret;
+    }
+
+    private static int hash(String value, int start, int end) {
+        int h = 0;
+        for (int i = start; i < end; i++) {
+            h = 31 * h + value.charAt(i);
+        }
+        return h;
+    }
+
+    private static final class NodeBuilder {
+
+        final List<Integer> terminals = new ArrayList<>(1);
+        final Map<String, NodeBuilder> segments = new LinkedHashMap<>();
+        final Map<String, NodeBuilder> literals = new LinkedHashMap<>();
+        NodeBuilder param;
+        int minIndex = Integer.MAX_VALUE;
+
+        Node build() {
+            String[] segmentTable = null;
+            Node[] segmentNodes = null;
+            if (!segments.isEmpty()) {
+                // open addressing with linear probing, at most half full
+                int size = Integer.highestOneBit(segments.size()) << 2;
+                segmentTable = new String[size];
+                segmentNodes = new Node[size];
+                for (Map.Entry<String, NodeBuilder> e : segments.entrySet()) {
+                    String key = e.getKey();
+                    int pos = hash(key, 0, key.length()) & (size - 1);
+                    while (segmentTable[pos] != null) {
+                        pos = (pos + 1) & (size - 1);
+                    }
+                    segmentTable[pos] = key;
+                    segmentNodes[pos] = e.getValue().build();
+                }
+            }
+            String[] literalKeys = new String[literals.size()];
+            Node[] literalNodes = new Node[literals.size()];
+            int i = 0;
+            for (Map.Entry<String, NodeBuilder> e : literals.entrySet()) {
+                literalKeys[i] = e.getKey();
+                literalNodes[i++] = e.getValue().build();
+            }
+            return new Node(toArray(terminals), segmentTable, segmentNodes, literalKeys, literalNodes,
+                    param != null ? param.build() : null, minIndex);
+        }
+    }
+
+    private static final class Node {
+
+        /**
+         * Indexes of the candidates that end in this node, in ascending order.
+         */
+        final int[] terminals;
+        final String[] segmentTable;
+        final Node[] segmentNodes;
+        /**
+         * Literals that are followed by a parameter and so do not span a whole path segment.
+         */
+        final String[] literals;
+        final Node[] literalNodes;
+        final Node param;
+        final int minIndex;
+
+        Node(int[] terminals, String[] segmentTable, Node[] segmentNodes, String[] literals, Node[] literalNodes,
+                Node param, int minIndex) {
+            this.terminals = terminals;
+            this.segmentTable = segmentTable;
+            this.segmentNodes = segmentNodes;
+            this.literals = literals;
+            this.literalNodes = literalNodes;
+            this.param = param;
+            this.minIndex = minIndex;
+        }
+
+        Node segment(String path, int start, int end) {
+            String[] table = segmentTable;
+            int mask = table.length - 1;
+            int length = end - start;
+            int pos = hash(path, start, end) & mask;
+            String key;
+            while ((key = table[pos]) != null) {
+                if (key.length() == length && path.regionMatches(start, key, 0, length)) {
+                    return segmentNodes[pos];
+                }
+                pos = (pos + 1) & mask;
+            }
+            return null;
+        }
+    }
+}